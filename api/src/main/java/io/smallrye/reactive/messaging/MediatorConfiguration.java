@@ -48,6 +48,22 @@ public interface MediatorConfiguration {
 
     boolean isBlockingExecutionOrdered();
 
+    /**
+     * @return the class of the key extractor used to order the blocking executions by key, {@code null} if the
+     *         executions are not ordered by key.
+     * @see io.smallrye.reactive.messaging.annotations.OrderedBy
+     */
+    default Class<? extends MessageKeyExtractor> getKeyExtractorClass() {
+        return null;
+    }
+
+    /**
+     * @return the maximum number of concurrent blocking executions when ordered by key
+     */
+    default int getKeyOrderedConcurrency() {
+        return -1;
+    }
+
     /**
      * Implementation of the {@link Invoker} interface that can be used to invoke the method described by this configuration
      * The invoker class can either have a no-arg constructor in which case it's expected to be look up the bean
@@ -0,0 +1,24 @@
+package io.smallrye.reactive.messaging;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Extracts the ordering key of a message, used by {@link io.smallrye.reactive.messaging.annotations.OrderedBy}.
+ * <p>
+ * Implementations can be CDI beans, or classes with a public no-arg constructor.
+ */
+@Experimental("SmallRye only feature")
+@FunctionalInterface
+public interface MessageKeyExtractor {
+
+    /**
+     * Extracts the key of the given message.
+     * Messages with equal keys are processed in order.
+     *
+     * @param message the message, not {@code null}
+     * @return the key, may be {@code null}
+     */
+    Object extractKey(Message<?> message);
+}
@@ -1,5 +1,8 @@
 package io.smallrye.reactive.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.OnOverflow;
@@ -98,6 +101,61 @@ public interface MutinyEmitter<T> extends EmitterType {
      */
     <M extends Message<? extends T>> void send(M msg);
 
+    /**
+     * Sends a batch of payloads to the channel.
+     * <p>
+     * A {@link Message} object will be created to hold each payload and the returned {@code Uni} can be subscribed
+     * to for triggering the send. The default implementation sends the payloads one by one using
+     * {@link #send(Object)}. Implementations may send the batch at once: the emitters provided by SmallRye Reactive
+     * Messaging are locked once for the whole batch, so the messages are emitted in order, and are not interleaved with
+     * messages sent concurrently from other threads. With the {@link OnOverflow.Strategy#THROW_EXCEPTION
+     * THROW_EXCEPTION} and {@link OnOverflow.Strategy#BUFFER BUFFER} strategies, either all the messages are emitted,
+     * or none of them are.
+     * <p>
+     * When subscribed, a {@code null} item will be passed to the {@code Uni} when all the messages are acknowledged,
+     * and a failure as soon as one of them is negatively acknowledged.
+     *
+     * @param payloads the <em>things</em> to send, must not be {@code null} nor contain {@code null}
+     * @return the {@code Uni}, that requires subscription to send the {@link Message Messages}.
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    @CheckReturnValue
+    default Uni<Void> sendBatch(Iterable<T> payloads) {
+        return Uni.createFrom().deferred(() -> {
+            List<Uni<Void>> sends = new ArrayList<>();
+            for (T payload : payloads) {
+                sends.add(send(payload));
+            }
+            if (sends.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            return Uni.combine().all().unis(sends).discardItems();
+        });
+    }
+
+    /**
+     * Sends a batch of messages to the channel.
+     * <p>
+     * The default implementation sends the messages one by one using {@link #send(Message)}. Implementations may
+     * send the batch at once: the emitters provided by SmallRye Reactive Messaging are locked once for the whole
+     * batch, so the messages are emitted in order, and are not interleaved with messages sent concurrently from other
+     * threads. With the {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} and
+     * {@link OnOverflow.Strategy#BUFFER BUFFER} strategies, either all the messages are emitted, or none of them are.
+     *
+     * @param <M> the <em>Message</em> type
+     * @param msgs the <em>Messages</em> to send, must not be {@code null} nor contain {@code null}
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    default <M extends Message<? extends T>> void sendMessages(List<M> msgs) {
+        for (M msg : msgs) {
+            send(msg);
+        }
+    }
+
     /**
      * Sends the completion event to the channel indicating that no other events will be sent afterward.
      */
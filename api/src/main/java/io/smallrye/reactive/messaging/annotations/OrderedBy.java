@@ -0,0 +1,36 @@
+package io.smallrye.reactive.messaging.annotations;
+
+import static java.lang.annotation.ElementType.METHOD;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.reactive.messaging.MessageKeyExtractor;
+
+/**
+ * Configures the ordering of a {@link Blocking} method consuming individual messages or payloads.
+ * <p>
+ * Messages with the same key, as returned by the given {@link MessageKeyExtractor}, are processed in order, one
+ * after the other. Messages with different keys are processed concurrently, with at most {@link #maxConcurrency()}
+ * concurrent invocations. Keys are hashed into {@code maxConcurrency} lanes, so messages with different keys may
+ * also share a lane and be processed in order.
+ * <p>
+ * This annotation takes precedence over {@link Blocking#ordered()}.
+ */
+@Experimental("SmallRye only feature")
+@Retention(RetentionPolicy.RUNTIME)
+@Target(METHOD)
+public @interface OrderedBy {
+
+    /**
+     * @return the class of the key extractor, either a CDI bean or a class with a public no-arg constructor
+     */
+    Class<? extends MessageKeyExtractor> value();
+
+    /**
+     * @return the maximum number of concurrent invocations
+     */
+    int maxConcurrency() default 256;
+}
@@ -18,7 +18,10 @@
  */
 package org.eclipse.microprofile.reactive.messaging;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -77,6 +80,66 @@ public interface Emitter<T> {
      */
     <M extends Message<? extends T>> void send(M msg);
 
+    /**
+     * Sends a batch of payloads to the channel.
+     * <p>
+     * A {@link Message} object will be created to hold each payload. The default implementation sends the payloads
+     * one by one using {@link #send(Object)}. Implementations may send the batch at once: the emitters provided by
+     * SmallRye Reactive Messaging are locked once for the whole batch, so the messages are emitted in order, and are
+     * not interleaved with messages sent concurrently from other threads. With the
+     * {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} and {@link OnOverflow.Strategy#BUFFER BUFFER}
+     * strategies, either all the messages are emitted, or none of them are.
+     * <p>
+     * The returned {@code CompletionStage} is completed once all the messages are acknowledged, or completed
+     * exceptionally as soon as one of them is negatively acknowledged.
+     *
+     * @param payloads the <em>things</em> to send, must not be {@code null} nor contain {@code null}
+     * @return the {@code CompletionStage}, which will be completed when the messages for these payloads are acknowledged.
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    default CompletionStage<Void> sendBatch(Iterable<T> payloads) {
+        CompletableFuture<Void> acked = new CompletableFuture<>();
+        // one extra unit, released once all the payloads are sent, so an early ack does not complete the batch
+        AtomicInteger pending = new AtomicInteger(1);
+        for (T payload : payloads) {
+            pending.incrementAndGet();
+            send(payload).whenComplete((x, failure) -> {
+                if (failure != null) {
+                    acked.completeExceptionally(failure);
+                } else if (pending.decrementAndGet() == 0) {
+                    acked.complete(null);
+                }
+            });
+        }
+        if (pending.decrementAndGet() == 0) {
+            acked.complete(null);
+        }
+        return acked;
+    }
+
+    /**
+     * Sends a batch of messages to the channel.
+     * <p>
+     * The default implementation sends the messages one by one using {@link #send(Message)}. Implementations may
+     * send the batch at once: the emitters provided by SmallRye Reactive Messaging are locked once for the whole
+     * batch, so the messages are emitted in order, and are not interleaved with messages sent concurrently from other
+     * threads. With the {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} and
+     * {@link OnOverflow.Strategy#BUFFER BUFFER} strategies, either all the messages are emitted, or none of them are.
+     *
+     * @param <M> the <em>Message</em> type
+     * @param msgs the <em>Messages</em> to send, must not be {@code null} nor contain {@code null}
+     * @throws IllegalStateException if the channel has been cancelled or terminated or if an overflow strategy of
+     *         {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} or {@link OnOverflow.Strategy#BUFFER BUFFER} is
+     *         configured and the emitter overflows.
+     */
+    default <M extends Message<? extends T>> void sendMessages(List<M> msgs) {
+        for (M msg : msgs) {
+            send(msg);
+        }
+    }
+
     /**
      * Sends the completion event to the channel indicating that no other events will be sent afterward.
      */
@@ -20,17 +20,49 @@ import io.smallrye.common.annotation.Experimental;
 @Experimental("metadata propagation is a SmallRye-specific feature")
 public class Metadata implements Iterable<Object> {
 
-    private final Map<Class<?>, Object> backend;
+    /**
+     * Above this number of entries, a map indexing the entries by class is maintained alongside the array.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    private static final Object[] NO_ITEMS = new Object[0];
 
-    private static final Metadata EMPTY = new Metadata(Collections.emptyMap());
+    private static final Metadata EMPTY = new Metadata(NO_ITEMS);
+
+    /**
+     * The entries, in insertion order. The array is never modified once the instance is created, and so can be shared
+     * between instances.
+     */
+    private final Object[] items;
+
+    /**
+     * The entries indexed by class, {@code null} if there are less than {@link #INDEX_THRESHOLD} entries.
+     */
+    private final Map<Class<?>, Object> index;
 
     /**
      * {@link Metadata} instances must be created using the static factory methods.
      *
-     * @param backend the backend, must not be {@code null}, must be immutable.
+     * @param items the entries, must not be {@code null}, must not be modified afterwards.
      */
-    private Metadata(Map<Class<?>, Object> backend) {
-        this.backend = Collections.unmodifiableMap(backend);
+    private Metadata(Object[] items) {
+        this(items, createIndex(items));
+    }
+
+    private Metadata(Object[] items, Map<Class<?>, Object> index) {
+        this.items = items;
+        this.index = index;
+    }
+
+    private static Map<Class<?>, Object> createIndex(Object[] items) {
+        if (items.length <= INDEX_THRESHOLD) {
+            return null;
+        }
+        Map<Class<?>, Object> map = new HashMap<>();
+        for (Object item : items) {
+            map.put(item.getClass(), item);
+        }
+        return map;
     }
 
     /**
@@ -53,7 +85,7 @@ public class Metadata implements Iterable<Object> {
             throw new IllegalArgumentException("`metadata` must not be `null`");
         }
 
-        return new Metadata(Collections.singletonMap(metadata.getClass(), metadata));
+        return new Metadata(new Object[] { metadata }, null);
     }
 
     /**
@@ -68,8 +100,7 @@ public class Metadata implements Iterable<Object> {
             throw new IllegalArgumentException("`metadata` must not be `null`");
         }
 
-        Map<Class<?>, Object> map = createBackingMap(Arrays.asList(metadata));
-        return new Metadata(map);
+        return new Metadata(createItems(Arrays.asList(metadata)));
     }
 
     /**
@@ -87,26 +118,61 @@ public class Metadata implements Iterable<Object> {
             return (Metadata) metadata;
         }
 
-        Map<Class<?>, Object> map = createBackingMap(metadata);
-        if (map.isEmpty()) {
+        Object[] items = createItems(metadata);
+        if (items.length == 0) {
             return Metadata.empty();
         }
-        return new Metadata(map);
+        return new Metadata(items);
     }
 
-    private static Map<Class<?>, Object> createBackingMap(Iterable<Object> metadata) {
-        Map<Class<?>, Object> map = new HashMap<>();
+    private static Object[] createItems(Iterable<Object> metadata) {
+        List<Object> list = new ArrayList<>();
+        Set<Class<?>> classes = null;
         for (Object item : metadata) {
             if (item == null) {
                 throw new IllegalArgumentException("One of the metadata items is `null`");
             }
             // Ensure that the class is not used.
-            if (map.containsKey(item.getClass())) {
+            boolean duplicate;
+            if (classes != null) {
+                duplicate = !classes.add(item.getClass());
+            } else {
+                duplicate = indexOf(list, item.getClass()) != -1;
+                if (list.size() == INDEX_THRESHOLD) {
+                    classes = new HashSet<>();
+                    for (Object o : list) {
+                        classes.add(o.getClass());
+                    }
+                    classes.add(item.getClass());
+                }
+            }
+            if (duplicate) {
                 throw new IllegalArgumentException("Duplicate metadata detected: " + item.getClass().getName());
             }
-            map.put(item.getClass(), item);
+            list.add(item);
         }
-        return map;
+        return list.isEmpty() ? NO_ITEMS : list.toArray();
+    }
+
+    private static int indexOf(List<Object> list, Class<?> clazz) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).getClass() == clazz) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(Class<?> clazz) {
+        if (index != null && !index.containsKey(clazz)) {
+            return -1;
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].getClass() == clazz) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -121,8 +187,15 @@ public class Metadata implements Iterable<Object> {
         if (item == null) {
             throw new IllegalArgumentException("`item` must not be `null`");
         }
-        Map<Class<?>, Object> copy = new HashMap<>(backend);
-        copy.put(item.getClass(), item);
+        int position = indexOf(item.getClass());
+        Object[] copy;
+        if (position == -1) {
+            copy = Arrays.copyOf(items, items.length + 1);
+            copy[items.length] = item;
+        } else {
+            copy = items.clone();
+            copy[position] = item;
+        }
         return new Metadata(copy);
     }
 
@@ -138,8 +211,13 @@ public class Metadata implements Iterable<Object> {
         if (clazz == null) {
             throw new IllegalArgumentException("`clazz` must not be `null`");
         }
-        Map<Class<?>, Object> copy = new HashMap<>(backend);
-        copy.remove(clazz);
+        int position = indexOf(clazz);
+        if (position == -1) {
+            return new Metadata(items, index);
+        }
+        Object[] copy = new Object[items.length - 1];
+        System.arraycopy(items, 0, copy, 0, position);
+        System.arraycopy(items, position + 1, copy, position, copy.length - position);
         return new Metadata(copy);
     }
 
@@ -149,8 +227,7 @@ public class Metadata implements Iterable<Object> {
      * @return the new instance.
      */
     public Metadata copy() {
-        Map<Class<?>, Object> copy = new HashMap<>(backend);
-        return new Metadata(copy);
+        return new Metadata(items, index);
     }
 
     /**
@@ -163,7 +240,15 @@ public class Metadata implements Iterable<Object> {
         if (clazz == null) {
             throw new IllegalArgumentException("`clazz` must not be `null`");
         }
-        return Optional.ofNullable(clazz.cast(backend.get(clazz)));
+        if (index != null) {
+            return Optional.ofNullable(clazz.cast(index.get(clazz)));
+        }
+        for (Object item : items) {
+            if (item.getClass() == clazz) {
+                return Optional.of(clazz.cast(item));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -171,6 +256,21 @@ public class Metadata implements Iterable<Object> {
      */
     @Override
     public Iterator<Object> iterator() {
-        return backend.values().iterator();
+        return new Iterator<Object>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < items.length;
+            }
+
+            @Override
+            public Object next() {
+                if (position >= items.length) {
+                    throw new NoSuchElementException();
+                }
+                return items[position++];
+            }
+        };
     }
 }
@@ -0,0 +1,91 @@
+package org.eclipse.microprofile.reactive.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+public class EmitterTest {
+
+    @Test
+    public void testDefaultSendBatchCompletesOnceAllAcked() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        CompletableFuture<Void> batch = emitter.sendBatch(Arrays.asList("a", "b", "c")).toCompletableFuture();
+
+        assertThat(emitter.payloads).containsExactly("a", "b", "c");
+        emitter.acks.get(0).complete(null);
+        emitter.acks.get(2).complete(null);
+        assertThat(batch).isNotDone();
+        emitter.acks.get(1).complete(null);
+        assertThat(batch).isCompleted();
+    }
+
+    @Test
+    public void testDefaultSendBatchFailsOnFirstNack() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        CompletableFuture<Void> batch = emitter.sendBatch(Arrays.asList("a", "b")).toCompletableFuture();
+
+        emitter.acks.get(1).completeExceptionally(new Exception("boom"));
+        assertThat(batch).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testDefaultSendBatchWithoutPayloads() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        assertThat(emitter.sendBatch(Collections.emptyList()).toCompletableFuture()).isCompleted();
+    }
+
+    @Test
+    public void testDefaultSendMessages() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.sendMessages(Arrays.asList(Message.of("a"), Message.of("b")));
+        assertThat(emitter.messages).extracting(m -> (Object) m.getPayload()).containsExactly("a", "b");
+    }
+
+    /**
+     * An emitter only implementing the single message methods, like third-party implementations.
+     */
+    private static class RecordingEmitter implements Emitter<String> {
+
+        final List<String> payloads = new ArrayList<>();
+        final List<CompletableFuture<Void>> acks = new ArrayList<>();
+        final List<Message<?>> messages = new ArrayList<>();
+
+        @Override
+        public CompletionStage<Void> send(String msg) {
+            CompletableFuture<Void> ack = new CompletableFuture<>();
+            payloads.add(msg);
+            acks.add(ack);
+            return ack;
+        }
+
+        @Override
+        public <M extends Message<? extends String>> void send(M msg) {
+            messages.add(msg);
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public void error(Exception e) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean hasRequests() {
+            return true;
+        }
+    }
+}
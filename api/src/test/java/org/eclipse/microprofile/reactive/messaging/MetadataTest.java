@@ -87,6 +87,49 @@ class MetadataTest {
         assertThat(Metadata.from(Collections.emptyList())).isEqualTo(metadata);
     }
 
+    @Test
+    void testInsertionOrderAndReplacement() {
+        Meta1 m1 = new Meta1("a");
+        Meta2 m2 = new Meta2(1);
+        Meta3 m3 = new Meta3(2);
+        Metadata metadata = Metadata.empty().with(m1).with(m2).with(m3);
+        assertThat(metadata).containsExactly(m1, m2, m3);
+
+        Meta2 replacement = new Meta2(3);
+        Metadata replaced = metadata.with(replacement);
+        assertThat(replaced).containsExactly(m1, replacement, m3);
+        assertThat(metadata).containsExactly(m1, m2, m3);
+
+        assertThat(metadata.without(Meta2.class)).containsExactly(m1, m3);
+        assertThat(metadata.copy()).containsExactly(m1, m2, m3);
+        assertThatThrownBy(() -> metadata.iterator().remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testLargeMetadata() {
+        Object[] items = { "a", 1, 2L, 3.0d, 4.0f, (short) 5, (byte) 6, 'c', true, new Meta1("m"), new Meta2(7) };
+        Metadata metadata = Metadata.of(items);
+        assertThat(metadata).containsExactly(items);
+        assertThat(metadata.get(Long.class)).hasValue(2L);
+        assertThat(metadata.get(Meta2.class).map(m -> m.count)).hasValue(7);
+        assertThat(metadata.get(Meta3.class)).isEmpty();
+
+        Metadata with = metadata.with(new Meta3(8)).with(3L);
+        assertThat(with).hasSize(12);
+        assertThat(with.get(Long.class)).hasValue(3L);
+        assertThat(with.get(Meta3.class).map(m -> m.count)).hasValue(8);
+        assertThat(metadata.get(Long.class)).hasValue(2L);
+
+        Metadata without = with.without(String.class).without(Integer.class).without(Long.class);
+        assertThat(without).hasSize(9);
+        assertThat(without.get(String.class)).isEmpty();
+        assertThat(without.get(Double.class)).hasValue(3.0d);
+
+        assertThatThrownBy(() -> Metadata.of("a", 1, 2L, 3.0d, 4.0f, (short) 5, (byte) 6, 'c', true, "b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     static class Meta1 {
         final String value;
 
@@ -0,0 +1,86 @@
+package io.smallrye.reactive.messaging.benchmarks;
+
+import javax.enterprise.inject.se.SeContainer;
+import javax.enterprise.inject.se.SeContainerInitializer;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorLiteral;
+
+import io.smallrye.config.SmallRyeConfigProviderResolver;
+import io.smallrye.reactive.messaging.providers.MediatorFactory;
+import io.smallrye.reactive.messaging.providers.connectors.ExecutionHolder;
+import io.smallrye.reactive.messaging.providers.connectors.InMemoryConnector;
+import io.smallrye.reactive.messaging.providers.connectors.WorkerPoolRegistry;
+import io.smallrye.reactive.messaging.providers.extension.ChannelProducer;
+import io.smallrye.reactive.messaging.providers.extension.EmitterFactoryImpl;
+import io.smallrye.reactive.messaging.providers.extension.HealthCenter;
+import io.smallrye.reactive.messaging.providers.extension.LegacyEmitterFactoryImpl;
+import io.smallrye.reactive.messaging.providers.extension.MediatorManager;
+import io.smallrye.reactive.messaging.providers.extension.MutinyEmitterFactoryImpl;
+import io.smallrye.reactive.messaging.providers.extension.ReactiveMessagingExtension;
+import io.smallrye.reactive.messaging.providers.impl.ConfiguredChannelFactory;
+import io.smallrye.reactive.messaging.providers.impl.ConnectorFactories;
+import io.smallrye.reactive.messaging.providers.impl.InternalChannelRegistry;
+import io.smallrye.reactive.messaging.providers.locals.ContextDecorator;
+import io.smallrye.reactive.messaging.providers.wiring.Wiring;
+
+/**
+ * Starts a Weld SE container running Reactive Messaging with the given beans and the in-memory connector.
+ */
+public class MessagingContainer implements AutoCloseable {
+
+    private final SeContainer container;
+
+    private MessagingContainer(SeContainer container) {
+        this.container = container;
+    }
+
+    /**
+     * Starts the container.
+     *
+     * @param incomingChannels the incoming channels to switch to the in-memory connector
+     * @param beans the application beans
+     * @return the started container
+     */
+    public static MessagingContainer start(String[] incomingChannels, Class<?>... beans) {
+        SmallRyeConfigProviderResolver.instance()
+                .releaseConfig(ConfigProvider.getConfig(MessagingContainer.class.getClassLoader()));
+        InMemoryConnector.switchIncomingChannelsToInMemory(incomingChannels);
+
+        SeContainerInitializer initializer = SeContainerInitializer.newInstance();
+        initializer.addBeanClasses(MediatorFactory.class,
+                Wiring.class,
+                ExecutionHolder.class,
+                MediatorManager.class,
+                WorkerPoolRegistry.class,
+                InternalChannelRegistry.class,
+                ChannelProducer.class,
+                ConfiguredChannelFactory.class,
+                ConnectorFactories.class,
+                HealthCenter.class,
+                ContextDecorator.class,
+                InMemoryConnector.class,
+                EmitterFactoryImpl.class,
+                MutinyEmitterFactoryImpl.class,
+                LegacyEmitterFactoryImpl.class,
+                io.smallrye.config.inject.ConfigProducer.class);
+        initializer.addBeanClasses(beans);
+        initializer.disableDiscovery();
+        initializer.addExtensions(new ReactiveMessagingExtension());
+        return new MessagingContainer(initializer.initialize());
+    }
+
+    public <T> T get(Class<T> type) {
+        return container.select(type).get();
+    }
+
+    public InMemoryConnector connector() {
+        return container.select(InMemoryConnector.class, ConnectorLiteral.of(InMemoryConnector.CONNECTOR)).get();
+    }
+
+    @Override
+    public void close() {
+        container.close();
+        InMemoryConnector.clear();
+    }
+}
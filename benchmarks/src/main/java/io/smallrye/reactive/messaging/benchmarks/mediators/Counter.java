@@ -0,0 +1,40 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Counts the messages reaching the end of the benchmarked pipeline.
+ */
+@ApplicationScoped
+public class Counter {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicLong count = new AtomicLong();
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public long get() {
+        return count.get();
+    }
+
+    /**
+     * Waits until the given number of messages have been counted.
+     *
+     * @param target the expected count
+     */
+    public void await(long target) {
+        long deadline = System.nanoTime() + TIMEOUT;
+        while (count.get() < target) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Only " + count.get() + " messages received, expected " + target);
+            }
+            Thread.yield();
+        }
+    }
+}
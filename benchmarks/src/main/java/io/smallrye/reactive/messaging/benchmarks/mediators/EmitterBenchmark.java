@@ -0,0 +1,121 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.benchmarks.MessagingContainer;
+
+/**
+ * Measures the per-message overhead of an emitter writing to a channel consumed by an {@code @Incoming} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmitterBenchmark {
+
+    private static final int MESSAGES = InMemoryPipelineBenchmark.MESSAGES;
+
+    @Param({ "emitter-payload", "emitter-message", "mutiny-emitter-payload", "mutiny-emitter-message" })
+    String shape;
+
+    private final Integer[] payloads = new Integer[MESSAGES];
+    private MessagingContainer container;
+    private Sender sender;
+    private Counter counter;
+
+    @Setup
+    public void start() {
+        for (int i = 0; i < MESSAGES; i++) {
+            payloads[i] = i;
+        }
+        Class<? extends Sender> senderClass = shape.startsWith("mutiny") ? MutinyEmitterSender.class
+                : EmitterSender.class;
+        container = MessagingContainer.start(new String[0], senderClass, Terminal.class, Counter.class);
+        sender = container.get(senderClass);
+        counter = container.get(Counter.class);
+    }
+
+    @TearDown
+    public void stop() {
+        container.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long send() {
+        long target = counter.get() + MESSAGES;
+        boolean message = shape.endsWith("message");
+        for (Integer payload : payloads) {
+            if (message) {
+                sender.send(Message.of(payload));
+            } else {
+                sender.send(payload);
+            }
+        }
+        counter.await(target);
+        return target;
+    }
+
+    public interface Sender {
+        void send(Integer payload);
+
+        void send(Message<Integer> message);
+    }
+
+    @ApplicationScoped
+    public static class EmitterSender implements Sender {
+        @Inject
+        @Channel("out")
+        Emitter<Integer> emitter;
+
+        @Override
+        public void send(Integer payload) {
+            emitter.send(payload);
+        }
+
+        @Override
+        public void send(Message<Integer> message) {
+            emitter.send(message);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MutinyEmitterSender implements Sender {
+        @Inject
+        @Channel("out")
+        MutinyEmitter<Integer> emitter;
+
+        @Override
+        public void send(Integer payload) {
+            emitter.sendAndForget(payload);
+        }
+
+        @Override
+        public void send(Message<Integer> message) {
+            emitter.send(message);
+        }
+    }
+}
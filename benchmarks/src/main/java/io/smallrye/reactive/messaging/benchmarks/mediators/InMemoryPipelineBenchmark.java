@@ -0,0 +1,73 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.benchmarks.MessagingContainer;
+import io.smallrye.reactive.messaging.providers.connectors.InMemorySource;
+
+/**
+ * Base class of the benchmarks sending payloads to the {@code in} in-memory channel, and waiting for them to reach
+ * the {@link Counter}.
+ * <p>
+ * Each invocation sends {@link #MESSAGES} payloads, so the scores are given per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class InMemoryPipelineBenchmark {
+
+    public static final int MESSAGES = 1000;
+
+    private final Integer[] payloads = new Integer[MESSAGES];
+    private MessagingContainer container;
+    private InMemorySource<Integer> source;
+    private Counter counter;
+
+    /**
+     * @return the beans of the benchmarked pipeline, consuming from the {@code in} channel
+     */
+    protected abstract Class<?>[] beans();
+
+    @Setup
+    public void start() {
+        for (int i = 0; i < MESSAGES; i++) {
+            payloads[i] = i;
+        }
+        container = MessagingContainer.start(new String[] { "in" }, beans());
+        source = container.connector().source("in");
+        counter = container.get(Counter.class);
+    }
+
+    @TearDown
+    public void stop() {
+        container.close();
+    }
+
+    /**
+     * Sends {@link #MESSAGES} payloads and waits until they have all been counted.
+     *
+     * @return the count
+     */
+    protected long sendAndAwait() {
+        long target = counter.get() + MESSAGES;
+        for (Integer payload : payloads) {
+            source.send(payload);
+        }
+        counter.await(target);
+        return target;
+    }
+}
@@ -0,0 +1,67 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.reactive.messaging.Invoker;
+import io.smallrye.reactive.messaging.providers.helpers.MethodHandleInvoker;
+
+/**
+ * Compares the invocation of a single-parameter mediator method through reflection, as done before the introduction
+ * of {@link MethodHandleInvoker}, and through the method handle based invoker.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvokerBenchmark {
+
+    private Invoker reflection;
+    private Invoker methodHandle;
+    private Integer payload;
+
+    @Setup
+    public void setup() throws Exception {
+        Bean bean = new Bean();
+        Method method = Bean.class.getDeclaredMethod("process", int.class);
+        method.setAccessible(true);
+        reflection = args -> {
+            try {
+                return method.invoke(bean, args);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        methodHandle = MethodHandleInvoker.create(method, bean, "process");
+        payload = 42;
+    }
+
+    @Benchmark
+    public Object reflection() {
+        return reflection.invoke(payload);
+    }
+
+    @Benchmark
+    public Object methodHandle() {
+        return methodHandle.invoke(payload);
+    }
+
+    static class Bean {
+        int process(int payload) {
+            return payload + 1;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.ProcessorBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+/**
+ * Measures the per-message overhead of the {@code ProcessorMediator}, for each supported processor method shape.
+ */
+public class ProcessorMediatorBenchmark extends InMemoryPipelineBenchmark {
+
+    @Param({
+            "message", "payload",
+            "message-completion-stage", "payload-completion-stage",
+            "message-uni", "payload-uni",
+            "message-publisher", "payload-publisher",
+            "message-processor-builder", "payload-processor-builder",
+            "blocking-message", "blocking-payload", "blocking-unordered"
+    })
+    String shape;
+
+    @Override
+    protected Class<?>[] beans() {
+        return new Class<?>[] { processor(), Terminal.class, Counter.class };
+    }
+
+    private Class<?> processor() {
+        switch (shape) {
+            case "message":
+                return MessageProcessor.class;
+            case "payload":
+                return PayloadProcessor.class;
+            case "message-completion-stage":
+                return MessageCompletionStageProcessor.class;
+            case "payload-completion-stage":
+                return PayloadCompletionStageProcessor.class;
+            case "message-uni":
+                return MessageUniProcessor.class;
+            case "payload-uni":
+                return PayloadUniProcessor.class;
+            case "message-publisher":
+                return MessagePublisherProcessor.class;
+            case "payload-publisher":
+                return PayloadPublisherProcessor.class;
+            case "message-processor-builder":
+                return MessageProcessorBuilderProcessor.class;
+            case "payload-processor-builder":
+                return PayloadProcessorBuilderProcessor.class;
+            case "blocking-message":
+                return BlockingMessageProcessor.class;
+            case "blocking-payload":
+                return BlockingPayloadProcessor.class;
+            case "blocking-unordered":
+                return BlockingUnorderedProcessor.class;
+            default:
+                throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long process() {
+        return sendAndAwait();
+    }
+
+    @ApplicationScoped
+    public static class MessageProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public Message<Integer> process(Message<Integer> message) {
+            return message.withPayload(message.getPayload() + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public Integer process(Integer payload) {
+            return payload + 1;
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageCompletionStageProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public CompletionStage<Message<Integer>> process(Message<Integer> message) {
+            return CompletableFuture.completedFuture(message.withPayload(message.getPayload() + 1));
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadCompletionStageProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public CompletionStage<Integer> process(Integer payload) {
+            return CompletableFuture.completedFuture(payload + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageUniProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public Uni<Message<Integer>> process(Message<Integer> message) {
+            return Uni.createFrom().item(message.withPayload(message.getPayload() + 1));
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadUniProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public Uni<Integer> process(Integer payload) {
+            return Uni.createFrom().item(payload + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessagePublisherProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public Publisher<Message<Integer>> process(Message<Integer> message) {
+            return Multi.createFrom().item(message.withPayload(message.getPayload() + 1));
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadPublisherProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public Publisher<Integer> process(Integer payload) {
+            return Multi.createFrom().item(payload + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageProcessorBuilderProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public ProcessorBuilder<Message<Integer>, Message<Integer>> process() {
+            return ReactiveStreams.<Message<Integer>> builder()
+                    .map(message -> message.withPayload(message.getPayload() + 1));
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadProcessorBuilderProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        public ProcessorBuilder<Integer, Integer> process() {
+            return ReactiveStreams.<Integer> builder().map(payload -> payload + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class BlockingMessageProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        @Blocking
+        public Message<Integer> process(Message<Integer> message) {
+            return message.withPayload(message.getPayload() + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class BlockingPayloadProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        @Blocking
+        public Integer process(Integer payload) {
+            return payload + 1;
+        }
+    }
+
+    @ApplicationScoped
+    public static class BlockingUnorderedProcessor {
+        @Incoming("in")
+        @Outgoing("out")
+        @Blocking(ordered = false)
+        public Integer process(Integer payload) {
+            return payload + 1;
+        }
+    }
+}
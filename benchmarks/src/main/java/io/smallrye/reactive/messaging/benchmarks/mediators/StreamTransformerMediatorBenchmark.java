@@ -0,0 +1,86 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the per-message overhead of the {@code StreamTransformerMediator}, for each supported stream transformer
+ * method shape.
+ */
+public class StreamTransformerMediatorBenchmark extends InMemoryPipelineBenchmark {
+
+    @Param({ "message-multi", "payload-multi", "message-publisher-builder", "payload-publisher-builder" })
+    String shape;
+
+    @Override
+    protected Class<?>[] beans() {
+        return new Class<?>[] { transformer(), Terminal.class, Counter.class };
+    }
+
+    private Class<?> transformer() {
+        switch (shape) {
+            case "message-multi":
+                return MessageMultiTransformer.class;
+            case "payload-multi":
+                return PayloadMultiTransformer.class;
+            case "message-publisher-builder":
+                return MessagePublisherBuilderTransformer.class;
+            case "payload-publisher-builder":
+                return PayloadPublisherBuilderTransformer.class;
+            default:
+                throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long transform() {
+        return sendAndAwait();
+    }
+
+    @ApplicationScoped
+    public static class MessageMultiTransformer {
+        @Incoming("in")
+        @Outgoing("out")
+        public Publisher<Message<Integer>> transform(Multi<Message<Integer>> stream) {
+            return stream.map(message -> message.withPayload(message.getPayload() + 1));
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadMultiTransformer {
+        @Incoming("in")
+        @Outgoing("out")
+        public Multi<Integer> transform(Multi<Integer> stream) {
+            return stream.map(payload -> payload + 1);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessagePublisherBuilderTransformer {
+        @Incoming("in")
+        @Outgoing("out")
+        public PublisherBuilder<Message<Integer>> transform(PublisherBuilder<Message<Integer>> stream) {
+            return stream.map(message -> message.withPayload(message.getPayload() + 1));
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadPublisherBuilderTransformer {
+        @Incoming("in")
+        @Outgoing("out")
+        public PublisherBuilder<Integer> transform(PublisherBuilder<Integer> stream) {
+            return stream.map(payload -> payload + 1);
+        }
+    }
+}
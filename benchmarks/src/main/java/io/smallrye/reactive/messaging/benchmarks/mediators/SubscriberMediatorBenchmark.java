@@ -0,0 +1,224 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+/**
+ * Measures the per-message overhead of the {@code SubscriberMediator}, for each supported subscriber method shape.
+ */
+public class SubscriberMediatorBenchmark extends InMemoryPipelineBenchmark {
+
+    @Param({
+            "payload",
+            "message-completion-stage", "payload-completion-stage",
+            "message-uni", "payload-uni",
+            "message-subscriber", "payload-subscriber", "subscriber-builder",
+            "blocking-payload", "blocking-unordered"
+    })
+    String shape;
+
+    @Override
+    protected Class<?>[] beans() {
+        return new Class<?>[] { subscriber(), Counter.class };
+    }
+
+    private Class<?> subscriber() {
+        switch (shape) {
+            case "payload":
+                return PayloadSubscriber.class;
+            case "message-completion-stage":
+                return MessageCompletionStageSubscriber.class;
+            case "payload-completion-stage":
+                return PayloadCompletionStageSubscriber.class;
+            case "message-uni":
+                return MessageUniSubscriber.class;
+            case "payload-uni":
+                return PayloadUniSubscriber.class;
+            case "message-subscriber":
+                return MessageSubscriberSubscriber.class;
+            case "payload-subscriber":
+                return PayloadSubscriberSubscriber.class;
+            case "subscriber-builder":
+                return SubscriberBuilderSubscriber.class;
+            case "blocking-payload":
+                return BlockingPayloadSubscriber.class;
+            case "blocking-unordered":
+                return BlockingUnorderedSubscriber.class;
+            default:
+                throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long consume() {
+        return sendAndAwait();
+    }
+
+    @ApplicationScoped
+    public static class PayloadSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public void consume(Integer payload) {
+            counter.increment();
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageCompletionStageSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public CompletionStage<Void> consume(Message<Integer> message) {
+            counter.increment();
+            return message.ack();
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadCompletionStageSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public CompletionStage<Void> consume(Integer payload) {
+            counter.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageUniSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public Uni<Void> consume(Message<Integer> message) {
+            counter.increment();
+            return Uni.createFrom().completionStage(message.ack());
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadUniSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public Uni<Void> consume(Integer payload) {
+            counter.increment();
+            return Uni.createFrom().voidItem();
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageSubscriberSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public Subscriber<Message<Integer>> consume() {
+            return new CountingSubscriber<Message<Integer>>(counter) {
+                @Override
+                public void onItem(Message<Integer> message) {
+                    message.ack();
+                    super.onItem(message);
+                }
+            };
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadSubscriberSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public Subscriber<Integer> consume() {
+            return new CountingSubscriber<>(counter);
+        }
+    }
+
+    @ApplicationScoped
+    public static class SubscriberBuilderSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        public SubscriberBuilder<Integer, Void> consume() {
+            return ReactiveStreams.<Integer> builder().forEach(payload -> counter.increment());
+        }
+    }
+
+    @ApplicationScoped
+    public static class BlockingPayloadSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        @Blocking
+        public void consume(Integer payload) {
+            counter.increment();
+        }
+    }
+
+    @ApplicationScoped
+    public static class BlockingUnorderedSubscriber {
+        @Inject
+        Counter counter;
+
+        @Incoming("in")
+        @Blocking(ordered = false)
+        public void consume(Integer payload) {
+            counter.increment();
+        }
+    }
+
+    static class CountingSubscriber<T> implements MultiSubscriber<T> {
+        private final Counter counter;
+
+        CountingSubscriber(Counter counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onItem(T item) {
+            counter.increment();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            // ignored
+        }
+
+        @Override
+        public void onCompletion() {
+            // ignored
+        }
+    }
+}
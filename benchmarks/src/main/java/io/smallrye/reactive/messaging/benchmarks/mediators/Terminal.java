@@ -0,0 +1,21 @@
+package io.smallrye.reactive.messaging.benchmarks.mediators;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+/**
+ * Counts the payloads written to the {@code out} channel.
+ */
+@ApplicationScoped
+public class Terminal {
+
+    @Inject
+    Counter counter;
+
+    @Incoming("out")
+    public void consume(Integer payload) {
+        counter.increment();
+    }
+}
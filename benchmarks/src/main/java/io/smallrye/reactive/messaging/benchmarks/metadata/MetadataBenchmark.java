@@ -0,0 +1,72 @@
+package io.smallrye.reactive.messaging.benchmarks.metadata;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the metadata operations of a message going through a few processors, each of them adding or replacing a
+ * metadata entry and reading another one.
+ * Run with {@code -prof gc} to observe the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataBenchmark {
+
+    private Message<String> message;
+
+    @Setup
+    public void setup() {
+        message = Message.of("payload", Metadata.of(new Transport("topic", 0), new Tracing("trace-0")));
+    }
+
+    @Benchmark
+    public Object pipeline() {
+        Message<String> m = message.addMetadata(new Tracing("trace-1"));
+        m = m.addMetadata(new Stage("first"));
+        m = m.addMetadata(new Stage("second"));
+        m = m.withMetadata(m.getMetadata().without(Stage.class));
+        return m.getMetadata().get(Transport.class).orElse(null);
+    }
+
+    static class Transport {
+        final String topic;
+        final int partition;
+
+        Transport(String topic, int partition) {
+            this.topic = topic;
+            this.partition = partition;
+        }
+    }
+
+    static class Tracing {
+        final String id;
+
+        Tracing(String id) {
+            this.id = id;
+        }
+    }
+
+    static class Stage {
+        final String name;
+
+        Stage(String name) {
+            this.name = name;
+        }
+    }
+}
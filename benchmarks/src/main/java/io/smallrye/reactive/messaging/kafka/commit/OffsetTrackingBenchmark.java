@@ -0,0 +1,157 @@
+package io.smallrye.reactive.messaging.kafka.commit;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the offset tracking of the {@code throttled} commit strategy with the previous implementation based on a
+ * linked list of received offsets and a hash set of processed offsets.
+ * <p>
+ * Each invocation receives a batch of records of a single partition, acknowledges them in the configured order, and
+ * clears the sequentially processed offsets as the periodic commit does.
+ * The tracked offset window slides continuously, as the oldest records of the batch are only acknowledged at the next
+ * invocation.
+ * <p>
+ * The benchmark is in the package of the package-private {@link OffsetTracker}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OffsetTrackingBenchmark {
+
+    private static final int BATCH = 500;
+
+    /**
+     * {@code sequential}: records are acknowledged in order,
+     * {@code shuffled}: records are acknowledged in random order, as with concurrent processing.
+     */
+    @Param({ "sequential", "shuffled" })
+    String order;
+
+    private int[] permutation;
+    private long next;
+
+    private OffsetTracker tracker;
+    private LinkedListOffsetStore legacy;
+
+    @Setup
+    public void setup() {
+        permutation = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            permutation[i] = i;
+        }
+        if ("shuffled".equals(order)) {
+            Random random = new Random(42);
+            for (int i = BATCH - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = permutation[i];
+                permutation[i] = permutation[j];
+                permutation[j] = tmp;
+            }
+        }
+        next = 0;
+        tracker = new OffsetTracker();
+        legacy = new LinkedListOffsetStore();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long bitset() {
+        long first = next;
+        for (int i = 0; i < BATCH; i++) {
+            tracker.received(next++);
+        }
+        // acknowledge the second half of the previous batch, and the first half of this one
+        for (int i = 0; i < BATCH; i++) {
+            int position = permutation[i];
+            tracker.processed(position < BATCH / 2 ? first + position : first - BATCH + position);
+        }
+        return tracker.clearSequentiallyProcessed();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long linkedList() {
+        long first = next;
+        for (int i = 0; i < BATCH; i++) {
+            legacy.received(next++);
+        }
+        for (int i = 0; i < BATCH; i++) {
+            int position = permutation[i];
+            legacy.processed(position < BATCH / 2 ? first + position : first - BATCH + position);
+        }
+        return legacy.clearLesserSequentiallyProcessedOffsetsAndReturnLargestOffset();
+    }
+
+    /**
+     * The offset store used by the throttled commit strategy before the introduction of {@link OffsetTracker}.
+     */
+    static class LinkedListOffsetStore {
+
+        private final Queue<OffsetReceivedAt> receivedOffsets = new LinkedList<>();
+        private final Set<Long> processedOffsets = new HashSet<>();
+        private long lastProcessedOffset = -1;
+
+        void received(long offset) {
+            if (offset > lastProcessedOffset) {
+                receivedOffsets.offer(new OffsetReceivedAt(offset, System.currentTimeMillis()));
+            }
+        }
+
+        void processed(long offset) {
+            OffsetReceivedAt received = receivedOffsets.peek();
+            if (received != null && received.offset <= offset) {
+                processedOffsets.add(offset);
+            }
+        }
+
+        long clearLesserSequentiallyProcessedOffsetsAndReturnLargestOffset() {
+            if (!processedOffsets.isEmpty()) {
+                long largestSequentialProcessedOffset = -1;
+                while (!receivedOffsets.isEmpty()) {
+                    if (!processedOffsets.remove(receivedOffsets.peek().offset)) {
+                        break;
+                    }
+                    largestSequentialProcessedOffset = receivedOffsets.poll().offset;
+                }
+                if (largestSequentialProcessedOffset > -1) {
+                    lastProcessedOffset = largestSequentialProcessedOffset;
+                    receivedOffsets.removeIf(o -> o.offset <= lastProcessedOffset);
+                    return largestSequentialProcessedOffset;
+                }
+            }
+            receivedOffsets.removeIf(o -> o.offset <= lastProcessedOffset);
+            return -1;
+        }
+    }
+
+    static class OffsetReceivedAt {
+        final long offset;
+        final long receivedAt;
+
+        OffsetReceivedAt(long offset, long receivedAt) {
+            this.offset = offset;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
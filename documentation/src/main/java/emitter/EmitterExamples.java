@@ -1,5 +1,6 @@
 package emitter;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -31,6 +32,15 @@ public class EmitterExamples {
     }
     // </cs>
 
+    // <batch>
+    public void sendBatch(List<Double> prices) {
+        CompletionStage<Void> acked = emitterForPrices.sendBatch(prices);
+        // the CompletionStage is completed when all the messages
+        // of the batch are acknowledged
+        acked.toCompletableFuture().join();
+    }
+    // </batch>
+
     // <message>
     public void sendAsMessage(double d) {
         emitterForPrices.send(Message.of(d));
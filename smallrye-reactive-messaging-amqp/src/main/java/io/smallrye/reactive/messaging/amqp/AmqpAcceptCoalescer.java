@@ -0,0 +1,96 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Groups the {@code accepted} dispositions of the messages received on a channel.
+ * <p>
+ * Instead of switching to the connection context for each acknowledged message, the accepted messages are collected
+ * and settled together, in a single task executed on the connection context, once {@code batchSize} messages are
+ * accepted or {@code interval} milliseconds after the first pending acceptance.
+ * <p>
+ * The acknowledgement completes as soon as the acceptance is recorded, without waiting for the batch to be settled:
+ * a consumer acknowledging each message before processing the next one would otherwise never fill a batch. If the
+ * application stops abruptly, the broker redelivers the messages whose acceptance was pending.
+ * <p>
+ * Only the acceptances are delayed. The failure strategies settle the nacked messages immediately.
+ */
+public class AmqpAcceptCoalescer {
+
+    private final Vertx vertx;
+    private final int batchSize;
+    private final long interval;
+
+    private List<io.vertx.amqp.AmqpMessage> pending = new ArrayList<>();
+    // completed when the batches flushed so far are settled
+    private CompletionStage<Void> settled = CompletableFuture.completedFuture(null);
+    private Context context;
+    private long timer = -1;
+
+    /**
+     * @param vertx the Vert.x instance used to schedule the delayed acceptances
+     * @param batchSize the number of accepted messages settled together
+     * @param interval the maximum delay (ms) of an acceptance
+     */
+    public AmqpAcceptCoalescer(Vertx vertx, int batchSize, long interval) {
+        this.vertx = vertx;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    /**
+     * Records the acceptance of a message.
+     *
+     * @param context the context of the connection having received the message
+     * @param message the accepted message
+     * @return a completed stage, the message is settled later
+     */
+    public synchronized CompletionStage<Void> accept(Context context, io.vertx.amqp.AmqpMessage message) {
+        if (this.context != null && this.context != context) {
+            // the connection has been re-established, settle the messages from the previous connection first
+            flush();
+        }
+        this.context = context;
+        pending.add(message);
+        if (pending.size() >= batchSize) {
+            flush();
+        } else if (timer == -1) {
+            timer = vertx.setTimer(interval, id -> {
+                synchronized (this) {
+                    timer = -1;
+                }
+                flush();
+            });
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Settles the pending acceptances.
+     *
+     * @return the stage completed when the acceptances recorded so far have been settled
+     */
+    public synchronized CompletionStage<Void> flush() {
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            timer = -1;
+        }
+        if (!pending.isEmpty()) {
+            List<io.vertx.amqp.AmqpMessage> batch = pending;
+            pending = new ArrayList<>();
+            CompletionStage<Void> flushed = ConnectionHolder.runOnContext(context, () -> {
+                for (io.vertx.amqp.AmqpMessage message : batch) {
+                    message.accepted();
+                }
+            });
+            settled = settled.thenCombine(flushed, (a, b) -> null);
+        }
+        return settled;
+    }
+}
@@ -12,8 +12,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -93,6 +98,10 @@ import io.vertx.proton.ProtonSender;
 @ConnectorAttribute(name = "durable", direction = INCOMING, description = "Whether AMQP subscription is durable", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "auto-acknowledgement", direction = INCOMING, description = "Whether the received AMQP messages must be acknowledged when received", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "failure-strategy", type = "string", direction = INCOMING, description = "Specify the failure strategy to apply when a message produced from an AMQP message is nacked. Accepted values are `fail` (default), `accept`, `release`, `reject`, `modified-failed`, `modified-failed-undeliverable-here`", defaultValue = "fail")
+@ConnectorAttribute(name = "initial-credit", direction = INCOMING, description = "The number of credits granted to the broker when the receiver link is attached, i.e. the number of messages the broker can send before being granted more credits. If not set, the Vert.x AMQP client default (1000) is used", type = "int")
+@ConnectorAttribute(name = "credit-replenish-threshold", direction = INCOMING, description = "If set, the connector manages the link credits itself: instead of granting a credit back after each received message, it tops the credit window up, with a single flow frame, once the credits not yet consumed by the application drop to this threshold. The number of received messages waiting for the application is bounded by the initial credit", type = "int")
+@ConnectorAttribute(name = "ack-batch-size", direction = INCOMING, description = "The number of acknowledged messages whose `accepted` dispositions are settled together. `1` settles each message as soon as it is acknowledged", type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "ack-batch-interval", direction = INCOMING, description = "The maximum time (in milliseconds) an `accepted` disposition is delayed when `ack-batch-size` is greater than 1", type = "long", defaultValue = "100")
 
 @ConnectorAttribute(name = "durable", direction = OUTGOING, description = "Whether sent AMQP messages are marked durable", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "ttl", direction = OUTGOING, description = "The time-to-live of the send AMQP messages. 0 to disable the TTL", type = "long", defaultValue = "0")
@@ -111,6 +120,16 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
 
     public static final String CONNECTOR_NAME = "smallrye-amqp";
 
+    /**
+     * The initial credit used by the Vert.x AMQP client when {@code initial-credit} is not set.
+     */
+    static final int DEFAULT_INITIAL_CREDIT = 1000;
+
+    /**
+     * The maximum time to wait for the pending acceptances to be settled on termination.
+     */
+    static final Duration ACCEPT_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
     static Tracer TRACER;
 
     @Inject
@@ -147,6 +166,12 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
      */
     private final Map<String, ConnectionHolder> holders = new ConcurrentHashMap<>();
 
+    /**
+     * Tracks the coalescers batching the acceptances of the incoming channels.
+     * This map is used to settle the pending acceptances on cleanup.
+     */
+    private final Map<String, AmqpAcceptCoalescer> acceptCoalescers = new ConcurrentHashMap<>();
+
     void setup(ExecutionHolder executionHolder) {
         this.executionHolder = executionHolder;
     }
@@ -167,7 +192,9 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
             String channel,
             AmqpFailureHandler onNack,
             boolean cloudEventEnabled,
-            Boolean tracingEnabled) {
+            Boolean tracingEnabled,
+            AmqpCreditBasedReceiver creditBasedReceiver,
+            AmqpAcceptCoalescer acceptCoalescer) {
         log.receiverListeningAddress(address);
 
         // The processor is used to inject AMQP Connection failure in the stream and trigger a retry.
@@ -180,11 +207,14 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
 
         return Multi.createFrom().deferred(
                 () -> {
-                    Multi<AmqpMessage<?>> stream = receiver.toMulti()
+                    Multi<io.vertx.amqp.AmqpMessage> messages = creditBasedReceiver != null
+                            ? creditBasedReceiver.toMulti()
+                            : receiver.toMulti().map(io.vertx.mutiny.amqp.AmqpMessage::getDelegate);
+                    Multi<AmqpMessage<?>> stream = messages
                             .onItem().transformToUniAndConcatenate(m -> {
                                 try {
                                     return Uni.createFrom().item(new AmqpMessage<>(m, holder.getContext(), onNack,
-                                            cloudEventEnabled, tracingEnabled));
+                                            cloudEventEnabled, tracingEnabled, acceptCoalescer));
                                 } catch (Exception e) {
                                     log.unableToCreateMessage(channel, e);
                                     return Uni.createFrom().nullItem();
@@ -217,15 +247,30 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
 
         AmqpFailureHandler onNack = createFailureHandler(ic);
 
+        // 0 lets the Vert.x AMQP client use its default
+        int initialCredit = ic.getInitialCredit().orElse(0);
+        Optional<Integer> replenishThreshold = ic.getCreditReplenishThreshold();
+        AmqpAcceptCoalescer acceptCoalescer = null;
+        if (ic.getAckBatchSize() > 1) {
+            acceptCoalescer = new AmqpAcceptCoalescer(getVertx(), ic.getAckBatchSize(), ic.getAckBatchInterval());
+            acceptCoalescers.put(ic.getChannel(), acceptCoalescer);
+        }
+        AmqpAcceptCoalescer coalescer = acceptCoalescer;
+
         Multi<? extends Message<?>> multi = holder.getOrEstablishConnection()
                 .onItem().transformToUni(connection -> connection.createReceiver(address, new AmqpReceiverOptions()
                         .setAutoAcknowledgement(autoAck)
                         .setDurable(durable)
                         .setLinkName(link)
+                        .setMaxBufferedMessages(initialCredit)
                         .setCapabilities(getClientCapabilities(ic))))
                 .onItem().invoke(r -> opened.put(ic.getChannel(), true))
                 .onItem().transformToMulti(r -> getStreamOfMessages(r, holder, address, ic.getChannel(), onNack,
-                        ic.getCloudEvents(), ic.getTracingEnabled()));
+                        ic.getCloudEvents(), ic.getTracingEnabled(),
+                        replenishThreshold.map(threshold -> new AmqpCreditBasedReceiver(r.getDelegate(),
+                                holder.getContext(), initialCredit > 0 ? initialCredit : DEFAULT_INITIAL_CREDIT,
+                                threshold, autoAck)).orElse(null),
+                        coalescer));
 
         Integer interval = ic.getReconnectInterval();
         Integer attempts = ic.getReconnectAttempts();
@@ -340,10 +385,29 @@ public class AmqpConnector implements IncomingConnectorFactory, OutgoingConnecto
     public void terminate(
             @Observes(notifyObserver = Reception.IF_EXISTS) @Priority(50) @BeforeDestroyed(ApplicationScoped.class) Object event) {
         processors.values().forEach(AmqpCreditBasedSender::cancel);
+        awaitPendingAcceptances();
         clients.forEach(AmqpClient::closeAndForget);
         clients.clear();
     }
 
+    private void awaitPendingAcceptances() {
+        CompletableFuture<?>[] flushed = acceptCoalescers.values().stream()
+                .map(coalescer -> coalescer.flush().toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        if (flushed.length == 0 || io.vertx.core.Context.isOnEventLoopThread()) {
+            // cannot block an event loop, the acceptances are settled on a best effort basis
+            return;
+        }
+        try {
+            // the clients must not be closed before the dispositions are sent
+            CompletableFuture.allOf(flushed).get(ACCEPT_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.unableToSettlePendingAcceptances(e);
+        }
+    }
+
     public Vertx getVertx() {
         return executionHolder.vertx();
     }
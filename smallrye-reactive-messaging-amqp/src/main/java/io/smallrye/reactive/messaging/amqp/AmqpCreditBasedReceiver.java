@@ -0,0 +1,78 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.vertx.amqp.AmqpReceiver;
+import io.vertx.mutiny.core.Context;
+import io.vertx.proton.ProtonReceiver;
+
+/**
+ * Consumes the messages of an AMQP receiver, granting the link credits in batches.
+ * <p>
+ * The Vert.x AMQP receiver grants a credit back after each delivered message, so every message is followed by a
+ * {@code flow} frame. Instead, this receiver grants {@code credits} credits when the stream is subscribed, and tops
+ * the window up, with a single {@code flow} frame, once the credits not yet consumed by the downstream drop to
+ * {@code threshold}. The number of messages received and not yet consumed is bounded by {@code credits}.
+ * <p>
+ * The {@code fetch} and {@code pause} methods of the {@link AmqpReceiver} only control the delivery of the messages
+ * already received, and cannot delay the credits. So the link is driven through the {@link ProtonReceiver} API: the
+ * prefetch is disabled, and the message handler replaces the one installed by the Vert.x receiver, which never grants
+ * credits as long as no handler is set on the {@link AmqpReceiver}. The received messages are exposed as
+ * {@link AmqpDeliveredMessage}.
+ */
+public class AmqpCreditBasedReceiver {
+
+    private final AmqpReceiver receiver;
+    private final Context context;
+    private final int credits;
+    private final int threshold;
+    private final boolean autoAck;
+
+    /**
+     * The credits granted to the sender and not yet consumed by the downstream.
+     */
+    private int outstanding;
+
+    public AmqpCreditBasedReceiver(AmqpReceiver receiver, Context context, int credits, int threshold,
+            boolean autoAck) {
+        this.receiver = receiver;
+        this.context = context;
+        this.credits = credits;
+        this.threshold = Math.min(threshold, credits - 1);
+        this.autoAck = autoAck;
+    }
+
+    public Multi<io.vertx.amqp.AmqpMessage> toMulti() {
+        return Multi.createFrom().<io.vertx.amqp.AmqpMessage> emitter(emitter -> context.runOnContext(() -> {
+            ProtonReceiver link = receiver.unwrap();
+            link.setPrefetch(0);
+            link.handler((delivery, message) -> {
+                AmqpDeliveredMessage msg = new AmqpDeliveredMessage(message, delivery, context);
+                if (autoAck) {
+                    msg.accepted();
+                }
+                emitter.emit(msg);
+            });
+            synchronized (this) {
+                outstanding = credits;
+            }
+            link.flow(credits);
+        }), BackPressureStrategy.BUFFER)
+                .onItem().invoke(this::consumed);
+    }
+
+    private void consumed() {
+        int replenish = 0;
+        synchronized (this) {
+            outstanding--;
+            if (outstanding <= threshold) {
+                replenish = credits - outstanding;
+                outstanding = credits;
+            }
+        }
+        if (replenish > 0) {
+            int granted = replenish;
+            context.runOnContext(() -> receiver.unwrap().flow(granted));
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.qpid.proton.message.Message;
+
+import io.vertx.amqp.AmqpMessage;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.core.Context;
+import io.vertx.proton.ProtonDelivery;
+import io.vertx.proton.ProtonHelper;
+
+/**
+ * A message received on a {@link io.vertx.proton.ProtonReceiver} managed by the {@link AmqpCreditBasedReceiver}.
+ * <p>
+ * The content accessors delegate to the message built by {@link AmqpMessage#create(Message)}, and the dispositions
+ * settle the {@link ProtonDelivery} on the connection context.
+ */
+class AmqpDeliveredMessage implements AmqpMessage {
+
+    private final AmqpMessage message;
+    private final ProtonDelivery delivery;
+    private final Context context;
+
+    AmqpDeliveredMessage(Message message, ProtonDelivery delivery, Context context) {
+        this.message = AmqpMessage.create(message).build();
+        this.delivery = delivery;
+        this.context = context;
+    }
+
+    @Override
+    public boolean isDurable() {
+        return message.isDurable();
+    }
+
+    @Override
+    public boolean isFirstAcquirer() {
+        return message.isFirstAcquirer();
+    }
+
+    @Override
+    public int priority() {
+        return message.priority();
+    }
+
+    @Override
+    public int deliveryCount() {
+        return message.deliveryCount();
+    }
+
+    @Override
+    public long ttl() {
+        return message.ttl();
+    }
+
+    @Override
+    public String id() {
+        return message.id();
+    }
+
+    @Override
+    public String address() {
+        return message.address();
+    }
+
+    @Override
+    public String replyTo() {
+        return message.replyTo();
+    }
+
+    @Override
+    public String correlationId() {
+        return message.correlationId();
+    }
+
+    @Override
+    public boolean isBodyNull() {
+        return message.isBodyNull();
+    }
+
+    @Override
+    public boolean bodyAsBoolean() {
+        return message.bodyAsBoolean();
+    }
+
+    @Override
+    public byte bodyAsByte() {
+        return message.bodyAsByte();
+    }
+
+    @Override
+    public short bodyAsShort() {
+        return message.bodyAsShort();
+    }
+
+    @Override
+    public int bodyAsInteger() {
+        return message.bodyAsInteger();
+    }
+
+    @Override
+    public long bodyAsLong() {
+        return message.bodyAsLong();
+    }
+
+    @Override
+    public float bodyAsFloat() {
+        return message.bodyAsFloat();
+    }
+
+    @Override
+    public double bodyAsDouble() {
+        return message.bodyAsDouble();
+    }
+
+    @Override
+    public char bodyAsChar() {
+        return message.bodyAsChar();
+    }
+
+    @Override
+    public Instant bodyAsTimestamp() {
+        return message.bodyAsTimestamp();
+    }
+
+    @Override
+    public UUID bodyAsUUID() {
+        return message.bodyAsUUID();
+    }
+
+    @Override
+    public Buffer bodyAsBinary() {
+        return message.bodyAsBinary();
+    }
+
+    @Override
+    public String bodyAsString() {
+        return message.bodyAsString();
+    }
+
+    @Override
+    public String bodyAsSymbol() {
+        return message.bodyAsSymbol();
+    }
+
+    @Override
+    public <T> List<T> bodyAsList() {
+        return message.bodyAsList();
+    }
+
+    @Override
+    public <K, V> Map<K, V> bodyAsMap() {
+        return message.bodyAsMap();
+    }
+
+    @Override
+    public JsonObject bodyAsJsonObject() {
+        return message.bodyAsJsonObject();
+    }
+
+    @Override
+    public JsonArray bodyAsJsonArray() {
+        return message.bodyAsJsonArray();
+    }
+
+    @Override
+    public String subject() {
+        return message.subject();
+    }
+
+    @Override
+    public String contentType() {
+        return message.contentType();
+    }
+
+    @Override
+    public String contentEncoding() {
+        return message.contentEncoding();
+    }
+
+    @Override
+    public long expiryTime() {
+        return message.expiryTime();
+    }
+
+    @Override
+    public long creationTime() {
+        return message.creationTime();
+    }
+
+    @Override
+    public String groupId() {
+        return message.groupId();
+    }
+
+    @Override
+    public String replyToGroupId() {
+        return message.replyToGroupId();
+    }
+
+    @Override
+    public long groupSequence() {
+        return message.groupSequence();
+    }
+
+    @Override
+    public JsonObject applicationProperties() {
+        return message.applicationProperties();
+    }
+
+    @Override
+    public Message unwrap() {
+        return message.unwrap();
+    }
+
+    @Override
+    public AmqpMessage accepted() {
+        settle(() -> ProtonHelper.accepted(delivery, true));
+        return this;
+    }
+
+    @Override
+    public AmqpMessage rejected() {
+        settle(() -> ProtonHelper.rejected(delivery, true));
+        return this;
+    }
+
+    @Override
+    public AmqpMessage released() {
+        settle(() -> ProtonHelper.released(delivery, true));
+        return this;
+    }
+
+    @Override
+    public AmqpMessage modified(boolean didItFail, boolean wasItDeliveredHere) {
+        settle(() -> ProtonHelper.modified(delivery, true, didItFail, wasItDeliveredHere));
+        return this;
+    }
+
+    private void settle(Runnable runnable) {
+        if (Vertx.currentContext() == context.getDelegate()) {
+            runnable.run();
+        } else {
+            context.runOnContext(runnable);
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
     protected final IncomingAmqpMetadata amqpMetadata;
     private final Context context;
     protected final AmqpFailureHandler onNack;
+    private final AmqpAcceptCoalescer acceptCoalescer;
 
     private final T payload;
 
@@ -55,18 +56,25 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
         this.context = context;
         this.amqpMetadata = null;
         this.onNack = null;
+        this.acceptCoalescer = null;
         //noinspection unchecked
         this.payload = (T) convert(message);
         this.metadata = Metadata.of(amqpMetadata);
     }
 
-    @SuppressWarnings("unchecked")
     public AmqpMessage(io.vertx.amqp.AmqpMessage msg, Context context, AmqpFailureHandler onNack,
             boolean cloudEventEnabled, Boolean tracingEnabled) {
+        this(msg, context, onNack, cloudEventEnabled, tracingEnabled, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public AmqpMessage(io.vertx.amqp.AmqpMessage msg, Context context, AmqpFailureHandler onNack,
+            boolean cloudEventEnabled, Boolean tracingEnabled, AmqpAcceptCoalescer acceptCoalescer) {
         this.message = msg;
         this.context = context;
         this.amqpMetadata = new IncomingAmqpMetadata(this.message);
         this.onNack = onNack;
+        this.acceptCoalescer = acceptCoalescer;
 
         ArrayList<Object> meta = new ArrayList<>();
         meta.add(this.amqpMetadata);
@@ -112,6 +120,9 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
 
     @Override
     public CompletionStage<Void> ack() {
+        if (acceptCoalescer != null) {
+            return acceptCoalescer.accept(context, message);
+        }
         // We must switch to the context having created the message.
         // This context is passed when this instance of message is created.
         // It's more a Vert.x AMQP client issue which should ensure calling `accepted` on the right context.
@@ -143,10 +154,7 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
         if (body instanceof AmqpValue) {
             Object value = ((AmqpValue) body).getValue();
             if (value instanceof Binary) {
-                Binary bin = (Binary) value;
-                byte[] bytes = new byte[bin.getLength()];
-                System.arraycopy(bin.getArray(), bin.getArrayOffset(), bytes, 0, bin.getLength());
-                return bytes;
+                return toBytes((Binary) value);
             }
             return value;
         }
@@ -156,9 +164,7 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
         }
 
         if (body instanceof Data) {
-            Binary bin = ((Data) body).getValue();
-            byte[] bytes = new byte[bin.getLength()];
-            System.arraycopy(bin.getArray(), bin.getArrayOffset(), bytes, 0, bin.getLength());
+            byte[] bytes = toBytes(((Data) body).getValue());
 
             if (APPLICATION_JSON.equalsIgnoreCase(msg.contentType())) {
                 return Buffer.buffer(bytes).toJson();
@@ -169,6 +175,20 @@ public class AmqpMessage<T> implements org.eclipse.microprofile.reactive.messagi
         return body;
     }
 
+    /**
+     * Returns the bytes of the given binary, without copying them if the binary spans its whole array, which is the
+     * case of the binaries decoded from a received message.
+     */
+    private static byte[] toBytes(Binary bin) {
+        byte[] array = bin.getArray();
+        if (bin.getArrayOffset() == 0 && bin.getLength() == array.length) {
+            return array;
+        }
+        byte[] bytes = new byte[bin.getLength()];
+        System.arraycopy(array, bin.getArrayOffset(), bytes, 0, bin.getLength());
+        return bytes;
+    }
+
     public Message unwrap() {
         return message.unwrap();
     }
@@ -16,6 +16,7 @@ import org.apache.qpid.proton.amqp.messaging.Footer;
 import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
 import org.eclipse.microprofile.reactive.messaging.Message;
 
+import io.netty.buffer.ByteBuf;
 import io.vertx.amqp.impl.AmqpMessageImpl;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
@@ -87,12 +88,12 @@ public class AmqpMessageConverter {
             output.setBody(new AmqpValue(payload));
 
         } else if (payload instanceof Buffer) {
-            output.setBody(new Data(new Binary(((Buffer) payload).getBytes())));
+            output.setBody(new Data(toBinary(((Buffer) payload).getDelegate())));
             if (output.getContentType() == null) {
                 output.setContentType(BINARY_CONTENT_TYPE);
             }
         } else if (payload instanceof io.vertx.core.buffer.Buffer) {
-            output.setBody(new Data(new Binary(((io.vertx.core.buffer.Buffer) payload).getBytes())));
+            output.setBody(new Data(toBinary((io.vertx.core.buffer.Buffer) payload)));
             if (output.getContentType() == null) {
                 output.setContentType(BINARY_CONTENT_TYPE);
             }
@@ -148,4 +149,16 @@ public class AmqpMessageConverter {
     private static boolean isPrimitive(Class<?> clazz) {
         return clazz.isPrimitive() || PRIMITIVES.contains(clazz);
     }
+
+    /**
+     * Creates a {@link Binary} sharing the backing array of the given buffer when it has one, copying its readable
+     * bytes otherwise.
+     */
+    private static Binary toBinary(io.vertx.core.buffer.Buffer buffer) {
+        ByteBuf buf = buffer.getByteBuf();
+        if (buf.hasArray()) {
+            return new Binary(buf.array(), buf.arrayOffset() + buf.readerIndex(), buf.readableBytes());
+        }
+        return new Binary(buffer.getBytes());
+    }
 }
@@ -0,0 +1,269 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.microprofile.reactive.messaging.spi.ConnectorFactory.CHANNEL_NAME_ATTRIBUTE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.messaging.Accepted;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.amqp.AmqpClientOptions;
+import io.vertx.amqp.AmqpReceiverOptions;
+import io.vertx.mutiny.amqp.AmqpClient;
+import io.vertx.mutiny.amqp.AmqpConnection;
+import io.vertx.mutiny.amqp.AmqpReceiver;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+public class AmqpSourceCreditTest extends AmqpTestBase {
+
+    private AmqpConnector provider;
+    private MockServer server;
+    private WeldContainer container;
+
+    @AfterEach
+    public void cleanup() {
+        if (provider != null) {
+            provider.terminate(null);
+        }
+
+        if (container != null) {
+            container.shutdown();
+        }
+
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void testCreditReplenishedInBatches() throws Exception {
+        int msgCount = 100;
+        List<Integer> flows = new CopyOnWriteArrayList<>();
+        List<DispositionRecord> dispositions = Collections.synchronizedList(new ArrayList<>());
+        server = setupMockServer(msgCount, flows, dispositions, executionHolder.vertx().getDelegate());
+
+        Map<String, Object> config = getConfig(server.actualPort());
+        config.put("initial-credit", 10);
+        config.put("credit-replenish-threshold", 5);
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        consume(config, messages);
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> messages.size() == msgCount);
+        messages.forEach(Message::ack);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == msgCount);
+
+        assertThat(messages).extracting(Message::getPayload).first().isEqualTo(1);
+        assertThat(flows.get(0)).isEqualTo(10);
+        // each flow tops the window up with at least `initial-credit - credit-replenish-threshold` credits
+        assertThat(flows.subList(1, flows.size())).allSatisfy(credit -> assertThat(credit).isGreaterThanOrEqualTo(5));
+        assertThat(flows.size()).isLessThanOrEqualTo(msgCount / 5 + 1);
+    }
+
+    @Test
+    @Timeout(30)
+    public void testAcceptedDispositionsSettledInBatches() throws Exception {
+        int msgCount = 10;
+        List<DispositionRecord> dispositions = Collections.synchronizedList(new ArrayList<>());
+        server = setupMockServer(msgCount, new CopyOnWriteArrayList<>(), dispositions,
+                executionHolder.vertx().getDelegate());
+
+        Map<String, Object> config = getConfig(server.actualPort());
+        config.put("ack-batch-size", 5);
+        config.put("ack-batch-interval", 60000L);
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        consume(config, messages);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == msgCount);
+
+        for (int i = 0; i < 4; i++) {
+            messages.get(i).ack();
+        }
+        await().pollDelay(Duration.ofMillis(500)).until(() -> true);
+        assertThat(dispositions).isEmpty();
+
+        messages.get(4).ack();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == 5);
+
+        // a nack is not delayed
+        messages.get(5).nack(new Exception("boom"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == 6);
+
+        for (int i = 6; i < msgCount; i++) {
+            messages.get(i).ack();
+        }
+        // flushed on termination
+        provider.terminate(null);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == msgCount);
+
+        assertThat(dispositions).filteredOn(d -> d.getState() instanceof Accepted).hasSize(msgCount - 1);
+        assertThat(dispositions).allSatisfy(d -> assertThat(d.isSettled()).isTrue());
+    }
+
+    @Test
+    @Timeout(30)
+    public void testAcceptedDispositionsSettledAfterInterval() throws Exception {
+        int msgCount = 10;
+        List<DispositionRecord> dispositions = Collections.synchronizedList(new ArrayList<>());
+        server = setupMockServer(msgCount, new CopyOnWriteArrayList<>(), dispositions,
+                executionHolder.vertx().getDelegate());
+
+        Map<String, Object> config = getConfig(server.actualPort());
+        config.put("ack-batch-size", 100);
+        config.put("ack-batch-interval", 200L);
+
+        List<Message<Integer>> messages = new CopyOnWriteArrayList<>();
+        consume(config, messages);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == msgCount);
+
+        messages.forEach(Message::ack);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == msgCount);
+        assertThat(dispositions).allSatisfy(d -> assertThat(d.getState()).isInstanceOf(Accepted.class));
+    }
+
+    @Test
+    @Timeout(30)
+    public void testSequentialConsumerWithBatchedAcceptances() throws Exception {
+        int msgCount = 10;
+        List<DispositionRecord> dispositions = Collections.synchronizedList(new ArrayList<>());
+        server = setupMockServer(msgCount, new CopyOnWriteArrayList<>(), dispositions,
+                executionHolder.vertx().getDelegate());
+
+        new MapBasedConfig()
+                .put("mp.messaging.incoming.data.address", "data")
+                .put("mp.messaging.incoming.data.connector", AmqpConnector.CONNECTOR_NAME)
+                .put("mp.messaging.incoming.data.host", "localhost")
+                .put("mp.messaging.incoming.data.port", server.actualPort())
+                .put("mp.messaging.incoming.data.tracing-enabled", false)
+                .put("mp.messaging.incoming.data.ack-batch-size", 5)
+                // longer than the test timeout, the batches must be filled by the consumer
+                .put("mp.messaging.incoming.data.ack-batch-interval", 60000L)
+                .write();
+
+        Weld weld = new Weld();
+        weld.addBeanClass(SequentialConsumptionBean.class);
+        container = weld.initialize();
+        SequentialConsumptionBean bean = container.select(SequentialConsumptionBean.class).get();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> bean.getResults().size() == msgCount);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispositions.size() == msgCount);
+        assertThat(dispositions).allSatisfy(d -> assertThat(d.getState()).isInstanceOf(Accepted.class));
+    }
+
+    @Test
+    @Timeout(30)
+    public void testCreditsOnlyGrantedByTheCreditBasedReceiver() throws Exception {
+        // The credit based receiver relies on the Vert.x receiver not granting credits while no handler is set on it,
+        // and on its own proton handler replacing the one granting a credit after each message.
+        AtomicInteger sent = new AtomicInteger(1);
+        server = setupMockServer(100, sent, new CopyOnWriteArrayList<>(),
+                Collections.synchronizedList(new ArrayList<>()), executionHolder.vertx().getDelegate());
+
+        AmqpClient client = AmqpClient.create(executionHolder.vertx(), new AmqpClientOptions()
+                .setHost("localhost")
+                .setPort(server.actualPort()));
+        AtomicReference<Context> context = new AtomicReference<>();
+        AmqpConnection connection = client.connect()
+                .onItem().invoke(c -> context.set(Vertx.currentContext()))
+                .await().atMost(Duration.ofSeconds(5));
+        AmqpReceiver receiver = connection.createReceiver(UUID.randomUUID().toString(),
+                new AmqpReceiverOptions().setMaxBufferedMessages(50))
+                .await().atMost(Duration.ofSeconds(5));
+
+        await().pollDelay(Duration.ofMillis(500)).until(() -> true);
+        assertThat(sent.get() - 1).isZero();
+
+        List<io.vertx.amqp.AmqpMessage> received = new CopyOnWriteArrayList<>();
+        new AmqpCreditBasedReceiver(receiver.getDelegate(), context.get(), 10, 5, false).toMulti()
+                .subscribe().with(s -> s.request(2), received::add, f -> {
+                }, () -> {
+                });
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 2);
+        await().pollDelay(Duration.ofMillis(500)).until(() -> true);
+        assertThat(sent.get() - 1).isEqualTo(10);
+        assertThat(received).extracting(io.vertx.amqp.AmqpMessage::bodyAsInteger).containsExactly(1, 2);
+
+        client.closeAndAwait();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void consume(Map<String, Object> config, List<Message<Integer>> messages) {
+        provider = new AmqpConnector();
+        provider.setup(executionHolder);
+        PublisherBuilder<? extends Message<?>> builder = provider.getPublisherBuilder(new MapBasedConfig(config));
+        Multi.createFrom().publisher(builder.buildRs())
+                .subscribe().with(m -> messages.add((Message<Integer>) m));
+    }
+
+    private MockServer setupMockServer(int msgCount, List<Integer> flows, List<DispositionRecord> dispositions,
+            io.vertx.core.Vertx vertx) throws Exception {
+        return setupMockServer(msgCount, new AtomicInteger(1), flows, dispositions, vertx);
+    }
+
+    private MockServer setupMockServer(int msgCount, AtomicInteger sent, List<Integer> flows,
+            List<DispositionRecord> dispositions, io.vertx.core.Vertx vertx) throws Exception {
+        return new MockServer(vertx, serverConnection -> {
+            serverConnection.openHandler(serverSender -> {
+                serverConnection.closeHandler(x -> serverConnection.close());
+                serverConnection.open();
+            });
+
+            serverConnection.sessionOpenHandler(serverSession -> {
+                serverSession.closeHandler(x -> serverSession.close());
+                serverSession.open();
+            });
+
+            serverConnection.senderOpenHandler(serverSender -> {
+                serverSender.sendQueueDrainHandler(x -> {
+                    flows.add(serverSender.getCredit());
+                    while (sent.get() <= msgCount && !serverSender.sendQueueFull()) {
+                        org.apache.qpid.proton.message.Message m = Proton.message();
+                        int i = sent.getAndIncrement();
+                        m.setBody(new AmqpValue(i));
+
+                        serverSender.send(m, delivery -> dispositions
+                                .add(new DispositionRecord(i, delivery.getRemoteState(), delivery.remotelySettled())));
+                    }
+                });
+
+                serverSender.open();
+            });
+        });
+    }
+
+    private Map<String, Object> getConfig(int port) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("address", UUID.randomUUID().toString());
+        config.put(CHANNEL_NAME_ATTRIBUTE, UUID.randomUUID().toString());
+        config.put("host", "localhost");
+        config.put("port", port);
+        config.put("name", "some name");
+        config.put("tracing-enabled", false);
+        config.put("failure-strategy", "reject");
+        return config;
+    }
+}
@@ -0,0 +1,24 @@
+package io.smallrye.reactive.messaging.amqp;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+
+@ApplicationScoped
+public class SequentialConsumptionBean {
+
+    private final List<Integer> list = new CopyOnWriteArrayList<>();
+
+    // acknowledged after each invocation, the next message is only processed once the acknowledgement completes
+    @Incoming("data")
+    public void consume(int value) {
+        list.add(value);
+    }
+
+    public List<Integer> getResults() {
+        return list;
+    }
+}
@@ -1,11 +1,16 @@
 package io.smallrye.reactive.messaging.gcp.pubsub;
 
+import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubExceptions.ex;
 import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubLogging.log;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.concurrent.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -23,18 +28,26 @@ import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+import org.threeten.bp.Duration;
 
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.batching.BatchingSettings;
+import com.google.api.gax.batching.FlowControlSettings;
+import com.google.api.gax.batching.FlowController;
 import com.google.api.gax.rpc.AlreadyExistsException;
 import com.google.api.gax.rpc.NotFoundException;
+import com.google.cloud.pubsub.v1.Publisher;
 import com.google.cloud.pubsub.v1.SubscriptionAdminClient;
 import com.google.cloud.pubsub.v1.TopicAdminClient;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import com.google.pubsub.v1.ProjectSubscriptionName;
 import com.google.pubsub.v1.PubsubMessage;
 import com.google.pubsub.v1.PushConfig;
 import com.google.pubsub.v1.TopicName;
 
-import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 @Connector(PubSubConnector.CONNECTOR_NAME)
@@ -42,6 +55,15 @@ public class PubSubConnector implements IncomingConnectorFactory, OutgoingConnec
 
     static final String CONNECTOR_NAME = "smallrye-gcp-pubsub";
 
+    static final long DEFAULT_MAX_IN_FLIGHT = 1024;
+
+    static final int DEFAULT_BUFFER_SIZE = 256;
+
+    // Default batching settings of the Pub/Sub publisher
+    static final long DEFAULT_BATCHING_ELEMENT_COUNT_THRESHOLD = 100L;
+    static final long DEFAULT_BATCHING_REQUEST_BYTE_THRESHOLD = 1000L;
+    static final long DEFAULT_BATCHING_DELAY_THRESHOLD = 1L;
+
     @Inject
     @ConfigProperty(name = "gcp-pubsub-project-id")
     private String projectId;
@@ -82,7 +104,11 @@ public class PubSubConnector implements IncomingConnectorFactory, OutgoingConnec
     @Override
     public PublisherBuilder<? extends Message<?>> getPublisherBuilder(final Config config) {
         final PubSubConfig pubSubConfig = new PubSubConfig(getProjectId(config), getTopic(config), getCredentialPath(config),
-                getSubscription(config), mockPubSubTopics, host.orElse(null), port.orElse(null));
+                getSubscription(config), mockPubSubTopics, host.orElse(null), port.orElse(null),
+                getSubscriberFlowControlSettings(config),
+                config.getOptionalValue("parallel-pull-count", Integer.class).orElse(null),
+                config.getOptionalValue("executor-thread-count", Integer.class).orElse(null));
+        final int bufferSize = config.getOptionalValue("buffer-size", Integer.class).orElse(DEFAULT_BUFFER_SIZE);
 
         return ReactiveStreams.fromCompletionStage(CompletableFuture.supplyAsync(() -> {
             if (isUseAdminClient(config)) {
@@ -92,26 +118,130 @@ public class PubSubConnector implements IncomingConnectorFactory, OutgoingConnec
             }
             return pubSubConfig;
         }, executorService))
-                .flatMapRsPublisher(
-                        cfg -> Multi.createFrom().emitter(new PubSubSource(cfg, pubSubManager)));
+                .flatMapRsPublisher(cfg -> new PubSubSource(cfg, pubSubManager, bufferSize).stream());
     }
 
     @Override
     public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(final Config config) {
         final PubSubConfig pubSubConfig = new PubSubConfig(getProjectId(config), getTopic(config), getCredentialPath(config),
-                mockPubSubTopics, host.orElse(null), port.orElse(null));
+                mockPubSubTopics, host.orElse(null), port.orElse(null), getBatchingSettings(config));
+
+        // The topic is verified once, the messages are not requested before
+        final Uni<Void> ready;
+        if (isUseAdminClient(config)) {
+            ready = Uni.createFrom().<Void> item(() -> {
+                log.adminClientEnabled();
+                createTopic(pubSubConfig);
+                return null;
+            })
+                    .runSubscriptionOn(executorService)
+                    .onFailure().invoke(t -> log.unableToCreateTopic(pubSubConfig.getTopic(), t));
+        } else {
+            ready = Uni.createFrom().voidItem();
+        }
+
+        // The publisher creation and the publications may block, they run on a worker, in order
+        final SerialExecutor publishExecutor = new SerialExecutor(executorService);
+        final PubSubSenderProcessor processor = new PubSubSenderProcessor(getMaxInFlight(config), ready,
+                message -> publish(pubSubConfig, message, publishExecutor));
 
         return ReactiveStreams.<Message<?>> builder()
-                .flatMapCompletionStage(message -> CompletableFuture.supplyAsync(() -> {
-                    if (isUseAdminClient(config)) {
-                        log.adminClientEnabled();
-                        createTopic(pubSubConfig);
-                    }
-                    return await(pubSubManager.publisher(pubSubConfig).publish(buildMessage(message)));
-                }, executorService))
+                .via(processor)
                 .ignore();
     }
 
+    private Uni<Void> publish(final PubSubConfig config, final Message<?> message, final Executor executor) {
+        return Uni.createFrom().<String> emitter(emitter -> executor.execute(() -> {
+            try {
+                final Publisher publisher = pubSubManager.publisher(config);
+                ApiFutures.addCallback(publisher.publish(buildMessage(message)),
+                        new ApiFutureCallback<String>() {
+                            @Override
+                            public void onFailure(final Throwable t) {
+                                emitter.fail(t);
+                            }
+
+                            @Override
+                            public void onSuccess(final String messageId) {
+                                emitter.complete(messageId);
+                            }
+                        }, MoreExecutors.directExecutor());
+            } catch (RuntimeException e) {
+                emitter.fail(e);
+            }
+        }))
+                .onItemOrFailure().transformToUni((id, failure) -> {
+                    if (failure != null) {
+                        log.unableToPublish(config.getTopic(), failure);
+                        return Uni.createFrom().completionStage(() -> message.nack(failure));
+                    }
+                    return Uni.createFrom().completionStage(message::ack);
+                });
+    }
+
+    private static long getMaxInFlight(final Config config) {
+        final long maxInFlight = config.getOptionalValue("max-in-flight", Long.class).orElse(DEFAULT_MAX_IN_FLIGHT);
+        return maxInFlight <= 0 ? Long.MAX_VALUE : maxInFlight;
+    }
+
+    static BatchingSettings getBatchingSettings(final Config config) {
+        final Optional<Long> elementCount = config.getOptionalValue("batching-element-count-threshold", Long.class);
+        final Optional<Long> requestBytes = config.getOptionalValue("batching-request-byte-threshold", Long.class);
+        final Optional<Long> delay = config.getOptionalValue("batching-delay-threshold", Long.class);
+        final Optional<Long> maxOutstandingMessages = config
+                .getOptionalValue("flow-control-max-outstanding-messages", Long.class);
+        final Optional<Long> maxOutstandingBytes = config
+                .getOptionalValue("flow-control-max-outstanding-bytes", Long.class);
+        final Optional<String> limitExceededBehavior = config
+                .getOptionalValue("flow-control-limit-exceeded-behavior", String.class);
+
+        if (!elementCount.isPresent() && !requestBytes.isPresent() && !delay.isPresent()
+                && !maxOutstandingMessages.isPresent() && !maxOutstandingBytes.isPresent()
+                && !limitExceededBehavior.isPresent()) {
+            // Use the publisher defaults
+            return null;
+        }
+
+        final FlowControlSettings.Builder flowControl = FlowControlSettings.newBuilder()
+                .setMaxOutstandingElementCount(maxOutstandingMessages.orElse(null))
+                .setMaxOutstandingRequestBytes(maxOutstandingBytes.orElse(null))
+                .setLimitExceededBehavior(limitExceededBehavior.map(PubSubConnector::limitExceededBehavior)
+                        .orElse(FlowController.LimitExceededBehavior.Ignore));
+
+        return BatchingSettings.newBuilder()
+                .setElementCountThreshold(elementCount.orElse(DEFAULT_BATCHING_ELEMENT_COUNT_THRESHOLD))
+                .setRequestByteThreshold(requestBytes.orElse(DEFAULT_BATCHING_REQUEST_BYTE_THRESHOLD))
+                .setDelayThreshold(Duration.ofMillis(delay.orElse(DEFAULT_BATCHING_DELAY_THRESHOLD)))
+                .setFlowControlSettings(flowControl.build())
+                .build();
+    }
+
+    static FlowControlSettings getSubscriberFlowControlSettings(final Config config) {
+        final Optional<Long> maxOutstandingMessages = config
+                .getOptionalValue("flow-control-max-outstanding-messages", Long.class);
+        final Optional<Long> maxOutstandingBytes = config
+                .getOptionalValue("flow-control-max-outstanding-bytes", Long.class);
+        if (!maxOutstandingMessages.isPresent() && !maxOutstandingBytes.isPresent()) {
+            // Use the subscriber defaults
+            return null;
+        }
+        // Unset limits are disabled, the subscriber stops pulling when a limit is reached
+        return FlowControlSettings.newBuilder()
+                .setMaxOutstandingElementCount(maxOutstandingMessages.orElse(null))
+                .setMaxOutstandingRequestBytes(maxOutstandingBytes.orElse(null))
+                .setLimitExceededBehavior(FlowController.LimitExceededBehavior.Block)
+                .build();
+    }
+
+    private static FlowController.LimitExceededBehavior limitExceededBehavior(final String value) {
+        for (FlowController.LimitExceededBehavior behavior : FlowController.LimitExceededBehavior.values()) {
+            if (behavior.name().equalsIgnoreCase(value.replace("-", ""))) {
+                return behavior;
+            }
+        }
+        throw ex.illegalArgumentInvalidLimitExceededBehavior(value);
+    }
+
     private String getProjectId(Config config) {
         return config.getOptionalValue("project-id", String.class)
                 .orElse(projectId);
@@ -189,15 +319,4 @@ public class PubSubConnector implements IncomingConnectorFactory, OutgoingConnec
                     .build();
         }
     }
-
-    private static <T> T await(final Future<T> future) {
-        try {
-            return future.get();
-        } catch (final ExecutionException e) {
-            throw new IllegalStateException(e);
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException(e);
-        }
-    }
 }
@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -20,6 +21,7 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 import com.google.api.gax.core.BackgroundResource;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.core.InstantiatingExecutorProvider;
 import com.google.api.gax.core.NoCredentialsProvider;
 import com.google.api.gax.grpc.GrpcTransportChannel;
 import com.google.api.gax.rpc.FixedTransportChannelProvider;
@@ -53,7 +55,18 @@ public class PubSubManager {
     }
 
     public void subscriber(PubSubConfig config, MultiEmitter<? super Message<?>> emitter) {
-        final Subscriber subscriber = buildSubscriber(config, new PubSubMessageReceiver(emitter));
+        subscriber(config, emitter, null);
+    }
+
+    /**
+     * Starts a subscriber emitting the received messages.
+     *
+     * @param config the configuration
+     * @param emitter the emitter
+     * @param buffer the permits of the messages emitted but not yet delivered downstream, {@code null} for no limit
+     */
+    public void subscriber(PubSubConfig config, MultiEmitter<? super Message<?>> emitter, Semaphore buffer) {
+        final Subscriber subscriber = buildSubscriber(config, new PubSubMessageReceiver(emitter, buffer));
         emitter.onTermination(() -> {
             subscriber.stopAsync();
             try {
@@ -141,6 +154,9 @@ public class PubSubManager {
 
             buildCredentialsProvider(config).ifPresent(publisherBuilder::setCredentialsProvider);
             buildTransportChannelProvider(config).ifPresent(publisherBuilder::setChannelProvider);
+            if (config.getBatchingSettings() != null) {
+                publisherBuilder.setBatchingSettings(config.getBatchingSettings());
+            }
 
             return publisherBuilder.build();
         } catch (final IOException e) {
@@ -156,6 +172,17 @@ public class PubSubManager {
 
         buildCredentialsProvider(config).ifPresent(subscriberBuilder::setCredentialsProvider);
         buildTransportChannelProvider(config).ifPresent(subscriberBuilder::setChannelProvider);
+        if (config.getFlowControlSettings() != null) {
+            subscriberBuilder.setFlowControlSettings(config.getFlowControlSettings());
+        }
+        if (config.getParallelPullCount() != null) {
+            subscriberBuilder.setParallelPullCount(config.getParallelPullCount());
+        }
+        if (config.getExecutorThreadCount() != null) {
+            subscriberBuilder.setExecutorProvider(InstantiatingExecutorProvider.newBuilder()
+                    .setExecutorThreadCount(config.getExecutorThreadCount())
+                    .build());
+        }
 
         return subscriberBuilder.build();
     }
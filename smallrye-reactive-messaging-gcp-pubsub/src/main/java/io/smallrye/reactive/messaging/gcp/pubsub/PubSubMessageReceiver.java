@@ -4,6 +4,8 @@ import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubLogging.log;
 import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubMessages.msg;
 
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 
@@ -17,14 +19,45 @@ public class PubSubMessageReceiver implements MessageReceiver {
 
     private final MultiEmitter<? super Message<?>> emitter;
 
+    private final Semaphore buffer;
+
     public PubSubMessageReceiver(MultiEmitter<? super Message<?>> emitter) {
+        this(emitter, null);
+    }
+
+    /**
+     * @param emitter the emitter
+     * @param buffer the permits of the messages emitted but not yet delivered downstream, {@code null} for no limit.
+     *        When no permit is available, the receiver blocks the subscriber thread, so the subscriber flow control
+     *        stops pulling messages.
+     */
+    public PubSubMessageReceiver(MultiEmitter<? super Message<?>> emitter, Semaphore buffer) {
         this.emitter = Objects.requireNonNull(emitter, msg.isRequired("emitter"));
+        this.buffer = buffer;
     }
 
     @Override
     public void receiveMessage(final PubsubMessage message, final AckReplyConsumer ackReplyConsumer) {
         log.receivedMessage(message);
+        if (buffer != null && !acquire()) {
+            // cancelled while waiting, let the message be redelivered
+            ackReplyConsumer.nack();
+            return;
+        }
         emitter.emit(new PubSubMessage(message, ackReplyConsumer));
     }
 
+    private boolean acquire() {
+        try {
+            while (!emitter.isCancelled()) {
+                if (buffer.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,122 @@
+package io.smallrye.reactive.messaging.gcp.pubsub;
+
+import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubExceptions.ex;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Publishes the messages with at most {@code maxInFlight} publications awaiting their completion.
+ * <p>
+ * Upstream is not requested before {@code ready} completes, so the topic verification happens once, before the
+ * first publication. Each message is passed downstream once its publication completes.
+ */
+class PubSubSenderProcessor implements Processor<Message<?>, Message<?>>, Subscription {
+
+    private final long maxInFlight;
+    private final Uni<Void> ready;
+    private final Function<Message<?>, Uni<Void>> send;
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final AtomicReference<Subscriber<? super Message<?>>> downstream = new AtomicReference<>();
+
+    PubSubSenderProcessor(long maxInFlight, Uni<Void> ready, Function<Message<?>, Uni<Void>> send) {
+        this.maxInFlight = maxInFlight;
+        this.ready = ready;
+        this.send = send;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Message<?>> subscriber) {
+        if (!downstream.compareAndSet(null, subscriber)) {
+            Subscriptions.fail(subscriber, ex.illegalStateOnlyOneSubscriber());
+        } else {
+            if (subscription.get() != null) {
+                subscriber.onSubscribe(this);
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (this.subscription.compareAndSet(null, subscription)) {
+            Subscriber<? super Message<?>> subscriber = downstream.get();
+            if (subscriber != null) {
+                subscriber.onSubscribe(this);
+            }
+        } else {
+            Subscriber<? super Message<?>> subscriber = downstream.get();
+            if (subscriber != null) {
+                subscriber.onSubscribe(Subscriptions.CANCELLED);
+            }
+        }
+    }
+
+    @Override
+    public void onNext(Message<?> message) {
+        send.apply(message)
+                .subscribe().with(
+                        x -> requestNext(message),
+                        this::onError);
+    }
+
+    @Override
+    public void request(long l) {
+        if (l != Long.MAX_VALUE) {
+            throw ex.illegalStateConsumeWithoutBackPressure();
+        }
+        ready.subscribe().with(
+                x -> {
+                    Subscription up = subscription.get();
+                    if (up != null) {
+                        up.request(maxInFlight);
+                    }
+                },
+                failure -> {
+                    cancel();
+                    onError(failure);
+                });
+    }
+
+    @Override
+    public void cancel() {
+        Subscription s = subscription.getAndSet(Subscriptions.CANCELLED);
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    private void requestNext(Message<?> message) {
+        Subscriber<? super Message<?>> down = downstream.get();
+        if (down != null) {
+            down.onNext(message);
+        }
+        Subscription up = subscription.get();
+        if (up != null && maxInFlight != Long.MAX_VALUE) {
+            up.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Subscriber<? super Message<?>> subscriber = downstream.getAndSet(null);
+        if (subscriber != null) {
+            subscriber.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        Subscriber<? super Message<?>> subscriber = downstream.getAndSet(null);
+        if (subscriber != null) {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -3,10 +3,12 @@ package io.smallrye.reactive.messaging.gcp.pubsub;
 import static io.smallrye.reactive.messaging.gcp.pubsub.i18n.PubSubMessages.msg;
 
 import java.util.Objects;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.subscription.MultiEmitter;
 
 public class PubSubSource implements Consumer<MultiEmitter<? super Message<?>>> {
@@ -15,14 +17,39 @@ public class PubSubSource implements Consumer<MultiEmitter<? super Message<?>>>
 
     private final PubSubManager manager;
 
+    private final Semaphore buffer;
+
     public PubSubSource(final PubSubConfig config, final PubSubManager manager) {
+        this(config, manager, -1);
+    }
+
+    /**
+     * @param config the configuration
+     * @param manager the manager
+     * @param bufferSize the maximum number of messages received but not yet requested downstream, 0 or less for no
+     *        limit
+     */
+    public PubSubSource(final PubSubConfig config, final PubSubManager manager, final int bufferSize) {
         this.config = Objects.requireNonNull(config, msg.isRequired("config"));
         this.manager = Objects.requireNonNull(manager, msg.isRequired("manager"));
+        this.buffer = bufferSize > 0 ? new Semaphore(bufferSize) : null;
     }
 
     @Override
     public void accept(MultiEmitter<? super Message<?>> emitter) {
-        manager.subscriber(config, emitter);
+        manager.subscriber(config, emitter, buffer);
+    }
+
+    /**
+     * @return the stream of received messages, respecting the downstream demand
+     */
+    public Multi<Message<?>> stream() {
+        Multi<Message<?>> multi = Multi.createFrom().emitter(this);
+        if (buffer == null) {
+            return multi;
+        }
+        // the item leaves the emitter buffer once requested downstream
+        return multi.onItem().invoke(m -> buffer.release());
     }
 
 }
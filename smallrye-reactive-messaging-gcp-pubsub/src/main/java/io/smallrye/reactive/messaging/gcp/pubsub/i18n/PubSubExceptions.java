@@ -23,4 +23,13 @@ public interface PubSubExceptions {
     @Message(id = 14602, value = "Unable to build pub/sub publisher")
     IllegalStateException illegalStateUnableToBuildPublisher(@Cause Throwable t);
 
+    @Message(id = 14603, value = "Expecting downstream to consume without back-pressure")
+    IllegalStateException illegalStateConsumeWithoutBackPressure();
+
+    @Message(id = 14604, value = "Only one subscriber allowed")
+    IllegalStateException illegalStateOnlyOneSubscriber();
+
+    @Message(id = 14605, value = "Invalid value for flow-control-limit-exceeded-behavior: %s, expected one of ThrowException, Block or Ignore")
+    IllegalArgumentException illegalArgumentInvalidLimitExceededBehavior(String value);
+
 }
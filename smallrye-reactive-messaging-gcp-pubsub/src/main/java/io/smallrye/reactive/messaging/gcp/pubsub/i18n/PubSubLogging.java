@@ -30,4 +30,12 @@ public interface PubSubLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 14802, value = "Admin client is enabled. The GCP Connector is trying to create topics / subscriptions")
     void adminClientEnabled();
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 14803, value = "Unable to publish a message to topic %s")
+    void unableToPublish(String topic, @Cause Throwable t);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 14804, value = "Unable to verify or create topic %s, the sink is stopped")
+    void unableToCreateTopic(String topic, @Cause Throwable t);
 }
@@ -0,0 +1,96 @@
+package io.smallrye.reactive.messaging.gcp.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+class PubSubSenderProcessorTest {
+
+    @Test
+    void testMaxInFlight() {
+        List<UniEmitter<? super Void>> pending = new CopyOnWriteArrayList<>();
+        List<Message<?>> sent = new CopyOnWriteArrayList<>();
+        PubSubSenderProcessor processor = new PubSubSenderProcessor(4, Uni.createFrom().voidItem(),
+                message -> Uni.createFrom().<Void> emitter(e -> {
+                    sent.add(message);
+                    pending.add(e);
+                }));
+
+        AtomicBoolean completed = new AtomicBoolean();
+        ReactiveStreams.fromPublisher(Multi.createFrom().range(0, 10).map(Message::of))
+                .via(processor)
+                .ignore()
+                .run()
+                .thenRun(() -> completed.set(true));
+
+        await().until(() -> sent.size() == 4);
+        assertThat(pending).hasSize(4);
+
+        // completing a publication releases a slot
+        pending.remove(0).complete(null);
+        await().until(() -> sent.size() == 5);
+
+        for (int i = 0; i < 9; i++) {
+            await().until(() -> !pending.isEmpty());
+            pending.remove(0).complete(null);
+        }
+        await().untilTrue(completed);
+        assertThat(sent).extracting(m -> (Integer) m.getPayload()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void testNoRequestBeforeReady() {
+        AtomicReference<UniEmitter<?>> ready = new AtomicReference<>();
+        List<Message<?>> sent = new CopyOnWriteArrayList<>();
+        PubSubSenderProcessor processor = new PubSubSenderProcessor(4,
+                Uni.createFrom().<Void> emitter(ready::set),
+                message -> {
+                    sent.add(message);
+                    return Uni.createFrom().voidItem();
+                });
+
+        ReactiveStreams.fromPublisher(Multi.createFrom().range(0, 10).map(Message::of))
+                .via(processor)
+                .ignore()
+                .run();
+
+        await().until(() -> ready.get() != null);
+        assertThat(sent).isEmpty();
+        ready.get().complete(null);
+        await().until(() -> sent.size() == 10);
+    }
+
+    @Test
+    void testReadyFailure() {
+        List<Message<?>> sent = new CopyOnWriteArrayList<>();
+        PubSubSenderProcessor processor = new PubSubSenderProcessor(4,
+                Uni.createFrom().failure(new IllegalStateException("no topic")),
+                message -> {
+                    sent.add(message);
+                    return Uni.createFrom().voidItem();
+                });
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ReactiveStreams.fromPublisher(Multi.createFrom().range(0, 10).map(Message::of))
+                .via(processor)
+                .ignore()
+                .run()
+                .whenComplete((x, f) -> failure.set(f));
+
+        await().until(() -> failure.get() != null);
+        assertThat(failure.get()).hasMessageContaining("no topic");
+        assertThat(sent).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package io.smallrye.reactive.messaging.gcp.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+class PubSubSourceTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBufferRespectsDemand() {
+        AtomicReference<PubSubMessageReceiver> receiver = new AtomicReference<>();
+        PubSubManager manager = new PubSubManager() {
+            @Override
+            public void subscriber(PubSubConfig config, MultiEmitter<? super Message<?>> emitter, Semaphore buffer) {
+                receiver.set(new PubSubMessageReceiver(emitter, buffer));
+            }
+        };
+        PubSubSource source = new PubSubSource(new PubSubConfig("project", "topic", null, "subscription", true,
+                "localhost", 8085), manager, 2);
+
+        AssertSubscriber<Message<?>> subscriber = source.stream().subscribe().withSubscriber(AssertSubscriber.create(0));
+        await().until(() -> receiver.get() != null);
+
+        AtomicInteger received = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            int index = i;
+            executor.execute(() -> {
+                receiver.get().receiveMessage(message(index), new NoopAckReplyConsumer());
+                received.incrementAndGet();
+            });
+        }
+
+        // two messages are buffered, the other receivers are blocked until downstream requests
+        await().until(() -> received.get() == 2);
+        assertThat(subscriber.getItems()).isEmpty();
+
+        subscriber.request(1);
+        await().until(() -> received.get() == 3);
+        assertThat(subscriber.getItems()).hasSize(1);
+
+        subscriber.request(3);
+        await().until(() -> subscriber.getItems().size() == 4);
+        assertThat(received.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testNackWhenCancelledWhileBlocked() {
+        AtomicReference<PubSubMessageReceiver> receiver = new AtomicReference<>();
+        PubSubManager manager = new PubSubManager() {
+            @Override
+            public void subscriber(PubSubConfig config, MultiEmitter<? super Message<?>> emitter, Semaphore buffer) {
+                receiver.set(new PubSubMessageReceiver(emitter, buffer));
+            }
+        };
+        PubSubSource source = new PubSubSource(new PubSubConfig("project", "topic", null, "subscription", true,
+                "localhost", 8085), manager, 1);
+
+        AssertSubscriber<Message<?>> subscriber = source.stream().subscribe().withSubscriber(AssertSubscriber.create(0));
+        await().until(() -> receiver.get() != null);
+
+        NoopAckReplyConsumer first = new NoopAckReplyConsumer();
+        NoopAckReplyConsumer second = new NoopAckReplyConsumer();
+        receiver.get().receiveMessage(message(0), first);
+        executor.execute(() -> receiver.get().receiveMessage(message(1), second));
+
+        subscriber.cancel();
+        await().until(() -> second.nacked.get() == 1);
+        assertThat(first.nacked.get()).isZero();
+    }
+
+    private static PubsubMessage message(int index) {
+        return PubsubMessage.newBuilder().setData(ByteString.copyFromUtf8("message-" + index)).build();
+    }
+
+    private static class NoopAckReplyConsumer implements AckReplyConsumer {
+        final AtomicInteger nacked = new AtomicInteger();
+
+        @Override
+        public void ack() {
+            // ignored
+        }
+
+        @Override
+        public void nack() {
+            nacked.incrementAndGet();
+        }
+    }
+}
@@ -3,10 +3,10 @@ package io.smallrye.reactive.messaging.providers.connectors;
 import static io.smallrye.reactive.messaging.providers.connectors.i18n.InMemoryExceptions.ex;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -38,8 +38,11 @@ public class InMemoryConnector implements IncomingConnectorFactory, OutgoingConn
 
     public static final String CONNECTOR = "smallrye-in-memory";
 
-    private final Map<String, InMemorySourceImpl<?>> sources = new HashMap<>();
-    private final Map<String, InMemorySinkImpl<?>> sinks = new HashMap<>();
+    /**
+     * The sources and sinks, concurrent maps as the channels may be created concurrently during the startup.
+     */
+    private final Map<String, InMemorySourceImpl<?>> sources = new ConcurrentHashMap<>();
+    private final Map<String, InMemorySinkImpl<?>> sinks = new ConcurrentHashMap<>();
 
     /**
      * Switch the given <em>incoming</em> channel to in-memory. It replaces the previously used connector with the
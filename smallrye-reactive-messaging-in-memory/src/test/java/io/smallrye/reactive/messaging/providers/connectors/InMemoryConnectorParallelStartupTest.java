@@ -0,0 +1,128 @@
+package io.smallrye.reactive.messaging.providers.connectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorLiteral;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+
+public class InMemoryConnectorParallelStartupTest extends WeldTestBase {
+
+    private static final int CHANNELS = 8;
+
+    @BeforeEach
+    public void install() {
+        MapBasedConfig config = new MapBasedConfig().with("smallrye.messaging.startup.parallelism", CHANNELS * 2);
+        for (int i = 0; i < CHANNELS; i++) {
+            config.with("mp.messaging.incoming.in-" + i + ".connector", InMemoryConnector.CONNECTOR);
+            config.with("mp.messaging.outgoing.out-" + i + ".connector", InMemoryConnector.CONNECTOR);
+        }
+        installConfig(config);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        releaseConfig();
+    }
+
+    @RepeatedTest(5)
+    public void testChannelsCreatedConcurrently() {
+        addBeanClass(Consumer.class, Producers.class);
+        initialize();
+        InMemoryConnector connector = container.getBeanManager().createInstance()
+                .select(InMemoryConnector.class, ConnectorLiteral.of(InMemoryConnector.CONNECTOR)).get();
+
+        for (int i = 0; i < CHANNELS; i++) {
+            connector.source("in-" + i).send("in-" + i);
+        }
+        Consumer consumer = get(Consumer.class);
+        await().until(() -> consumer.list().size() == CHANNELS);
+        assertThat(consumer.list()).containsExactlyInAnyOrder("in-0", "in-1", "in-2", "in-3", "in-4", "in-5",
+                "in-6", "in-7");
+
+        for (int i = 0; i < CHANNELS; i++) {
+            InMemorySink<String> sink = connector.sink("out-" + i);
+            await().until(() -> sink.received().size() == 1);
+            assertThat(sink.received()).extracting(Message::getPayload).containsExactly("out-" + i);
+        }
+    }
+
+    @ApplicationScoped
+    public static class Consumer {
+
+        private final List<String> list = new CopyOnWriteArrayList<>();
+
+        @Incoming("in-0")
+        @Incoming("in-1")
+        @Incoming("in-2")
+        @Incoming("in-3")
+        @Incoming("in-4")
+        @Incoming("in-5")
+        @Incoming("in-6")
+        @Incoming("in-7")
+        public void consume(String payload) {
+            list.add(payload);
+        }
+
+        public List<String> list() {
+            return list;
+        }
+    }
+
+    @ApplicationScoped
+    public static class Producers {
+
+        @Outgoing("out-0")
+        public Multi<String> out0() {
+            return Multi.createFrom().item("out-0");
+        }
+
+        @Outgoing("out-1")
+        public Multi<String> out1() {
+            return Multi.createFrom().item("out-1");
+        }
+
+        @Outgoing("out-2")
+        public Multi<String> out2() {
+            return Multi.createFrom().item("out-2");
+        }
+
+        @Outgoing("out-3")
+        public Multi<String> out3() {
+            return Multi.createFrom().item("out-3");
+        }
+
+        @Outgoing("out-4")
+        public Multi<String> out4() {
+            return Multi.createFrom().item("out-4");
+        }
+
+        @Outgoing("out-5")
+        public Multi<String> out5() {
+            return Multi.createFrom().item("out-5");
+        }
+
+        @Outgoing("out-6")
+        public Multi<String> out6() {
+            return Multi.createFrom().item("out-6");
+        }
+
+        @Outgoing("out-7")
+        public Multi<String> out7() {
+            return Multi.createFrom().item("out-7");
+        }
+    }
+}
@@ -21,9 +21,15 @@ public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.
     private final JsonMapping jsonMapping;
     private final IncomingJmsMessageMetadata jmsMetadata;
     private final Metadata metadata;
+    private final TransactedBatch batch;
 
     IncomingJmsMessage(Message message, Executor executor, JsonMapping jsonMapping) {
+        this(message, executor, jsonMapping, null);
+    }
+
+    IncomingJmsMessage(Message message, Executor executor, JsonMapping jsonMapping, TransactedBatch batch) {
         this.delegate = message;
+        this.batch = batch;
         this.jsonMapping = jsonMapping;
         this.executor = executor;
         String cn = null;
@@ -110,6 +116,11 @@ public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.
 
     @Override
     public CompletionStage<Void> ack() {
+        if (batch != null) {
+            // committed by the receiving session
+            batch.ack();
+            return CompletableFuture.completedFuture(null);
+        }
         return CompletableFuture.runAsync(() -> {
             try {
                 delegate.acknowledge();
@@ -119,6 +130,16 @@ public class IncomingJmsMessage<T> implements org.eclipse.microprofile.reactive.
         }, executor);
     }
 
+    @Override
+    public CompletionStage<Void> nack(Throwable reason, Metadata metadata) {
+        if (batch != null) {
+            // the receiving session rolls back the transaction, so the message is redelivered
+            batch.nack();
+            return CompletableFuture.completedFuture(null);
+        }
+        return org.eclipse.microprofile.reactive.messaging.Message.super.nack(reason, metadata);
+    }
+
     @Override
     public Metadata getMetadata() {
         return metadata;
@@ -47,6 +47,9 @@ import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 @ConnectorAttribute(name = "broadcast", description = "Whether or not the JMS message should be dispatched to multiple consumers", direction = Direction.INCOMING, type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "durable", description = "Set to `true` to use a durable subscription", direction = Direction.INCOMING, type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "destination-type", description = "The type of destination. It can be either `queue` or `topic`", direction = Direction.INCOMING_AND_OUTGOING, type = "string", defaultValue = "queue")
+@ConnectorAttribute(name = "sessions", description = "The number of JMS sessions receiving messages in parallel, each with its own consumer and its own thread. With more than one session, the subscriptions to a topic are shared between the sessions", direction = Direction.INCOMING, type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "receive-timeout", description = "The timeout (in milliseconds) of the `receive` calls of the sessions, when `sessions` is greater than 1", direction = Direction.INCOMING, type = "long", defaultValue = "1000")
+@ConnectorAttribute(name = "transaction-batch-size", description = "With `sessions` greater than 1 and the `SESSION_TRANSACTED` session mode, the number of received messages committed together, once they are all acknowledged. The transaction is rolled back if one of the messages is nacked", direction = Direction.INCOMING, type = "int", defaultValue = "100")
 
 @ConnectorAttribute(name = "disable-message-id", description = "Omit the message id in the outbound JMS message", direction = Direction.OUTGOING, type = "boolean")
 @ConnectorAttribute(name = "disable-message-timestamp", description = "Omit the message timestamp in the outbound JMS message", direction = Direction.OUTGOING, type = "boolean")
@@ -58,6 +61,9 @@ import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 @ConnectorAttribute(name = "reply-to", description = "The reply to destination if any", direction = Direction.OUTGOING, type = "string")
 @ConnectorAttribute(name = "reply-to-destination-type", description = "The type of destination for the response. It can be either `queue` or `topic`", direction = Direction.OUTGOING, type = "string", defaultValue = "queue")
 @ConnectorAttribute(name = "merge", direction = OUTGOING, description = "Whether the connector should allow multiple upstreams", type = "boolean", defaultValue = "false")
+@ConnectorAttribute(name = "transaction-batch-size", description = "With the `SESSION_TRANSACTED` session mode, the number of sent messages committed together. The messages are acknowledged once the transaction is committed", direction = Direction.OUTGOING, type = "int", defaultValue = "100")
+@ConnectorAttribute(name = "transaction-batch-interval", description = "With the `SESSION_TRANSACTED` session mode, the maximum time (in milliseconds) between the first message sent in a transaction and the commit of the transaction", direction = Direction.OUTGOING, type = "long", defaultValue = "100")
+@ConnectorAttribute(name = "async-send", description = "Whether the messages are sent asynchronously, using a JMS 2.0 `CompletionListener`. The messages are acknowledged once the JMS provider confirms the send. Ignored with the `SESSION_TRANSACTED` session mode", direction = Direction.OUTGOING, type = "boolean", defaultValue = "false")
 public class JmsConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
 
     /**
@@ -95,6 +101,7 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     private ExecutorService executor;
     private JsonMapping jsonMapping;
     private final List<JmsSource> sources = new CopyOnWriteArrayList<>();
+    private final List<JmsSink> sinks = new CopyOnWriteArrayList<>();
     private final List<JMSContext> contexts = new CopyOnWriteArrayList<>();
 
     @PostConstruct
@@ -117,6 +124,7 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     @PreDestroy
     public void cleanup() {
         sources.forEach(JmsSource::close);
+        sinks.forEach(JmsSink::close);
         contexts.forEach(JMSContext::close);
         this.executor.shutdown();
     }
@@ -147,7 +155,9 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         JmsConnectorOutgoingConfiguration oc = new JmsConnectorOutgoingConfiguration(config);
         JMSContext context = createJmsContext(oc);
         contexts.add(context);
-        return new JmsSink(context, oc, jsonMapping, executor).getSink();
+        JmsSink sink = new JmsSink(context, oc, jsonMapping, executor);
+        sinks.add(sink);
+        return sink.getSink();
     }
 
     private ConnectionFactory pickTheFactory(String factoryName) {
@@ -0,0 +1,259 @@
+package io.smallrye.reactive.messaging.jms;
+
+import static io.smallrye.reactive.messaging.jms.i18n.JmsExceptions.ex;
+import static io.smallrye.reactive.messaging.jms.i18n.JmsLogging.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Receives messages from several JMS sessions in parallel.
+ * <p>
+ * Each session has its own consumer and its own thread, which loops on {@code receive(timeout)}. A session only calls
+ * {@code receive} once it has claimed one unit of the downstream demand, so the messages waiting to be dispatched are
+ * bounded by the outstanding requests. The received messages are dispatched downstream, one at a time, by the thread
+ * winning the drain loop.
+ * <p>
+ * Messages are acknowledged on the session having received them. In a transacted session, the receiving thread
+ * commits once {@code transactionBatchSize} messages (or all the messages received before a receive timeout) have
+ * been acknowledged, or rolls the transaction back if one of them has been nacked.
+ * <p>
+ * The termination is signalled by the drain loop too, so it never overlaps an {@code onNext} call. If a session
+ * fails to receive, the publisher is closed and the failure is propagated downstream.
+ */
+@SuppressWarnings("PublisherImplementation")
+class JmsMultiSessionPublisher implements Publisher<IncomingJmsMessage<?>>, Subscription {
+
+    private final List<SessionReceiver> receivers = new ArrayList<>();
+    private final ExecutorService executor;
+    private final long receiveTimeout;
+    private final int transactionBatchSize;
+
+    private final AtomicReference<Subscriber<? super IncomingJmsMessage<?>>> downstream = new AtomicReference<>();
+    private final Queue<IncomingJmsMessage<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * The demand not yet claimed by a session, guarded by {@code this}.
+     */
+    private long requested;
+    private volatile boolean closed;
+    /**
+     * The failure having closed the publisher, written before {@code closed}.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * @param contexts the sessions, one consumer and one thread are created for each of them
+     * @param consumerFactory creates the consumer of a session
+     * @param receiveTimeout the timeout (ms) of the {@code receive} calls
+     * @param transactionBatchSize the number of messages committed together by a transacted session
+     * @param factory creates the message passed downstream from the received JMS message and its transaction, if
+     *        the session is transacted
+     */
+    JmsMultiSessionPublisher(List<JMSContext> contexts, Function<JMSContext, JMSConsumer> consumerFactory,
+            long receiveTimeout, int transactionBatchSize,
+            BiFunction<Message, TransactedBatch, IncomingJmsMessage<?>> factory) {
+        this.receiveTimeout = receiveTimeout;
+        this.transactionBatchSize = transactionBatchSize;
+        for (JMSContext context : contexts) {
+            receivers.add(new SessionReceiver(context, consumerFactory.apply(context), factory));
+        }
+        this.executor = Executors.newFixedThreadPool(contexts.size());
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super IncomingJmsMessage<?>> s) {
+        if (downstream.compareAndSet(null, s)) {
+            s.onSubscribe(this);
+            receivers.forEach(executor::execute);
+        } else {
+            Subscriptions.fail(s, ex.illegalStateAlreadySubscriber());
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (n > 0) {
+            synchronized (this) {
+                requested = Subscriptions.add(requested, n);
+                notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void cancel() {
+        close();
+    }
+
+    void close() {
+        close(null);
+    }
+
+    private void close(Throwable reason) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            failure = reason;
+            closed = true;
+            notifyAll();
+        }
+        // the termination is signalled by the drain loop, once the in-flight onNext call (if any) has returned
+        drain();
+        // unblocks the pending receive calls, each session closes its context when its loop exits
+        for (SessionReceiver receiver : receivers) {
+            receiver.consumer.close();
+        }
+        executor.shutdown();
+    }
+
+    private boolean claim() throws InterruptedException {
+        synchronized (this) {
+            while (requested == 0 && !closed) {
+                wait(receiveTimeout);
+            }
+            if (closed) {
+                return false;
+            }
+            if (requested != Long.MAX_VALUE) {
+                requested--;
+            }
+            return true;
+        }
+    }
+
+    private void release() {
+        synchronized (this) {
+            if (requested != Long.MAX_VALUE) {
+                requested++;
+            }
+            notify();
+        }
+    }
+
+    private void dispatch(IncomingJmsMessage<?> message) {
+        queue.offer(message);
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            IncomingJmsMessage<?> next;
+            while (!closed && (next = queue.poll()) != null) {
+                Subscriber<? super IncomingJmsMessage<?>> subscriber = downstream.get();
+                if (subscriber != null) {
+                    subscriber.onNext(next);
+                }
+            }
+            if (closed) {
+                // the messages not dispatched are not acknowledged, the broker redelivers them
+                queue.clear();
+                Subscriber<? super IncomingJmsMessage<?>> subscriber = downstream.getAndSet(null);
+                if (subscriber != null) {
+                    Throwable reason = failure;
+                    if (reason != null) {
+                        subscriber.onError(reason);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private class SessionReceiver implements Runnable {
+
+        private final JMSContext context;
+        private final JMSConsumer consumer;
+        private final BiFunction<Message, TransactedBatch, IncomingJmsMessage<?>> factory;
+        private final boolean transacted;
+        private TransactedBatch batch;
+
+        private SessionReceiver(JMSContext context, JMSConsumer consumer,
+                BiFunction<Message, TransactedBatch, IncomingJmsMessage<?>> factory) {
+            this.context = context;
+            this.consumer = consumer;
+            this.factory = factory;
+            this.transacted = context.getTransacted();
+            this.batch = transacted ? new TransactedBatch() : null;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (claim()) {
+                    Message message = consumer.receive(receiveTimeout);
+                    if (message == null) {
+                        // timeout, or the consumer has been closed
+                        release();
+                        if (transacted && batch.size() > 0) {
+                            complete();
+                        }
+                        continue;
+                    }
+                    if (transacted) {
+                        batch.received();
+                    }
+                    dispatch(factory.apply(message, batch));
+                    if (transacted && batch.size() >= transactionBatchSize) {
+                        complete();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (JMSRuntimeException e) {
+                if (!closed) {
+                    log.clientClosed();
+                    close(e);
+                }
+            } finally {
+                context.close();
+            }
+        }
+
+        private void complete() throws InterruptedException {
+            while (!batch.await(receiveTimeout)) {
+                if (closed) {
+                    // the uncommitted messages are redelivered
+                    return;
+                }
+            }
+            try {
+                if (batch.isRollbackOnly()) {
+                    context.rollback();
+                } else {
+                    context.commit();
+                }
+            } catch (JMSRuntimeException e) {
+                log.unableToCompleteTransaction(e);
+            }
+            batch = new TransactedBatch();
+        }
+    }
+}
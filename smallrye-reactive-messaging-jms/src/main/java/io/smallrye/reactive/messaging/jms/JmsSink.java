@@ -4,9 +4,18 @@ import static io.smallrye.reactive.messaging.jms.i18n.JmsExceptions.ex;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsLogging.log;
 
 import java.lang.IllegalStateException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.*;
 
@@ -25,6 +34,24 @@ class JmsSink {
     private final JsonMapping jsonMapping;
     private final Executor executor;
 
+    /**
+     * The thread sending and committing the messages, when the session is transacted.
+     */
+    private final ScheduledExecutorService transactionExecutor;
+    private final int transactionBatchSize;
+    private final long transactionBatchInterval;
+    /**
+     * The messages sent in the current transaction, only accessed from the transaction thread.
+     */
+    private final List<Message<?>> transaction = new ArrayList<>();
+    private ScheduledFuture<?> commitTask;
+
+    /**
+     * The messages sent asynchronously, waiting for their completion.
+     */
+    private final Map<javax.jms.Message, Message<?>> pendingCompletions = Collections
+            .synchronizedMap(new IdentityHashMap<>());
+
     JmsSink(JMSContext context, JmsConnectorOutgoingConfiguration config, JsonMapping jsonMapping, Executor executor) {
         String name = config.getDestination().orElseGet(config::getChannel);
 
@@ -62,6 +89,19 @@ class JmsSink {
             producer.setJMSReplyTo(replyToDestination);
         });
 
+        if (context.getTransacted()) {
+            this.transactionExecutor = Executors.newSingleThreadScheduledExecutor();
+            this.transactionBatchSize = config.getTransactionBatchSize();
+            this.transactionBatchInterval = config.getTransactionBatchInterval();
+        } else {
+            this.transactionExecutor = null;
+            this.transactionBatchSize = 0;
+            this.transactionBatchInterval = 0;
+            if (config.getAsyncSend()) {
+                producer.setAsync(new SendCompletionListener());
+            }
+        }
+
         sink = ReactiveStreams.<Message<?>> builder()
                 .flatMapCompletionStage(m -> {
                     try {
@@ -80,7 +120,7 @@ class JmsSink {
 
         // If the payload is a JMS Message, send it as it is, ignoring metadata.
         if (payload instanceof javax.jms.Message) {
-            return dispatch(message, () -> producer.send(destination, (javax.jms.Message) payload));
+            return dispatch(message, destination, (javax.jms.Message) payload);
         }
 
         javax.jms.Message outgoing;
@@ -138,7 +178,7 @@ class JmsSink {
             actualDestination = this.destination;
         }
 
-        return dispatch(message, () -> producer.send(actualDestination, outgoing));
+        return dispatch(message, actualDestination, outgoing);
     }
 
     private boolean isPrimitiveBoxed(Class<?> c) {
@@ -152,12 +192,94 @@ class JmsSink {
                 || c.equals(Long.class);
     }
 
-    private CompletionStage<Message<?>> dispatch(Message<?> incoming, Runnable action) {
-        return CompletableFuture.runAsync(action, executor)
+    private CompletionStage<Message<?>> dispatch(Message<?> incoming, Destination destination,
+            javax.jms.Message outgoing) {
+        if (transactionExecutor != null) {
+            // acknowledged when the transaction is committed
+            return CompletableFuture.runAsync(() -> {
+                producer.send(destination, outgoing);
+                transaction.add(incoming);
+                if (transaction.size() >= transactionBatchSize) {
+                    commit();
+                } else if (commitTask == null) {
+                    commitTask = transactionExecutor.schedule(this::commit, transactionBatchInterval,
+                            TimeUnit.MILLISECONDS);
+                }
+            }, transactionExecutor).thenApply(x -> incoming);
+        }
+        if (producer.getAsync() != null) {
+            // acknowledged by the completion listener
+            return CompletableFuture.runAsync(() -> {
+                pendingCompletions.put(outgoing, incoming);
+                try {
+                    producer.send(destination, outgoing);
+                } catch (RuntimeException e) {
+                    pendingCompletions.remove(outgoing);
+                    throw e;
+                }
+            }, executor).thenApply(x -> incoming);
+        }
+        return CompletableFuture.runAsync(() -> producer.send(destination, outgoing), executor)
                 .thenCompose(x -> incoming.ack())
                 .thenApply(x -> incoming);
     }
 
+    /**
+     * Commits the current transaction, and acknowledges its messages.
+     * Must be called from the transaction thread.
+     */
+    private void commit() {
+        if (commitTask != null) {
+            commitTask.cancel(false);
+            commitTask = null;
+        }
+        if (transaction.isEmpty()) {
+            return;
+        }
+        List<Message<?>> committed = new ArrayList<>(transaction);
+        transaction.clear();
+        try {
+            context.commit();
+        } catch (JMSRuntimeException e) {
+            log.unableToCommit(e);
+            committed.forEach(m -> m.nack(e));
+            return;
+        }
+        committed.forEach(Message::ack);
+    }
+
+    void close() {
+        if (transactionExecutor != null) {
+            transactionExecutor.execute(this::commit);
+            transactionExecutor.shutdown();
+            try {
+                transactionExecutor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private class SendCompletionListener implements CompletionListener {
+
+        @Override
+        public void onCompletion(javax.jms.Message message) {
+            Message<?> incoming = pendingCompletions.remove(message);
+            if (incoming != null) {
+                incoming.ack();
+            }
+        }
+
+        @Override
+        public void onException(javax.jms.Message message, Exception exception) {
+            log.unableToSend(exception);
+            Message<?> incoming = pendingCompletions.remove(message);
+            if (incoming != null) {
+                incoming.nack(exception);
+            }
+        }
+    }
+
     private Destination getDestination(JMSContext context, String name, String type) {
         switch (type.toLowerCase()) {
             case "queue":
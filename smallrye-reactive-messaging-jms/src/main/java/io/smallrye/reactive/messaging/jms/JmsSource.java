@@ -3,6 +3,8 @@ package io.smallrye.reactive.messaging.jms;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsExceptions.ex;
 import static io.smallrye.reactive.messaging.jms.i18n.JmsLogging.log;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,6 +29,8 @@ class JmsSource {
 
     private final JmsPublisher publisher;
 
+    private final JmsMultiSessionPublisher multiSessionPublisher;
+
     JmsSource(JMSContext context, JmsConnectorIncomingConfiguration config, JsonMapping jsonMapping, Executor executor) {
         String name = config.getDestination().orElseGet(config::getChannel);
         String selector = config.getSelector().orElse(null);
@@ -36,30 +40,68 @@ class JmsSource {
 
         Destination destination = getDestination(context, name, config);
 
-        JMSConsumer consumer;
-        if (durable) {
-            if (!(destination instanceof Topic)) {
-                throw ex.illegalArgumentInvalidDestination();
+        int sessions = config.getSessions();
+        Publisher<IncomingJmsMessage<?>> messages;
+        if (sessions > 1) {
+            publisher = null;
+            List<JMSContext> contexts = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                contexts.add(context.createContext(context.getSessionMode()));
             }
-            consumer = context.createDurableConsumer((Topic) destination, name, selector, nolocal);
+            multiSessionPublisher = new JmsMultiSessionPublisher(contexts,
+                    session -> createSharedConsumer(session, destination, name, selector, nolocal, durable),
+                    config.getReceiveTimeout(), config.getTransactionBatchSize(),
+                    (m, batch) -> new IncomingJmsMessage<>(m, executor, jsonMapping, batch));
+            messages = multiSessionPublisher;
         } else {
-            consumer = context.createConsumer(destination, selector, nolocal);
+            JMSConsumer consumer;
+            if (durable) {
+                if (!(destination instanceof Topic)) {
+                    throw ex.illegalArgumentInvalidDestination();
+                }
+                consumer = context.createDurableConsumer((Topic) destination, name, selector, nolocal);
+            } else {
+                consumer = context.createConsumer(destination, selector, nolocal);
+            }
+            multiSessionPublisher = null;
+            publisher = new JmsPublisher(consumer);
+            messages = Multi.createFrom().publisher(publisher)
+                    .map(m -> new IncomingJmsMessage<>(m, executor, jsonMapping));
         }
 
-        publisher = new JmsPublisher(consumer);
-
         if (!broadcast) {
-            source = ReactiveStreams.fromPublisher(publisher).map(m -> new IncomingJmsMessage<>(m, executor, jsonMapping));
+            source = ReactiveStreams.fromPublisher(messages);
         } else {
             source = ReactiveStreams.fromPublisher(
-                    Multi.createFrom().publisher(publisher)
-                            .map(m -> new IncomingJmsMessage<>(m, executor, jsonMapping))
+                    Multi.createFrom().publisher(messages)
                             .broadcast().toAllSubscribers());
         }
     }
 
+    /**
+     * Creates the consumer of one of the sessions of a multi-session source.
+     * The subscriptions to a topic are shared, so each message is received by a single session.
+     */
+    private static JMSConsumer createSharedConsumer(JMSContext session, Destination destination, String name,
+            String selector, boolean nolocal, boolean durable) {
+        if (durable) {
+            if (!(destination instanceof Topic)) {
+                throw ex.illegalArgumentInvalidDestination();
+            }
+            return session.createSharedDurableConsumer((Topic) destination, name, selector);
+        }
+        if (destination instanceof Topic) {
+            return session.createSharedConsumer((Topic) destination, name, selector);
+        }
+        return session.createConsumer(destination, selector, nolocal);
+    }
+
     void close() {
-        publisher.close();
+        if (publisher != null) {
+            publisher.close();
+        } else {
+            multiSessionPublisher.close();
+        }
     }
 
     private Destination getDestination(JMSContext context, String name, JmsConnectorIncomingConfiguration config) {
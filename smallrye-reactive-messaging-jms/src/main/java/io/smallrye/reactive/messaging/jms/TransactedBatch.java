@@ -0,0 +1,50 @@
+package io.smallrye.reactive.messaging.jms;
+
+/**
+ * Tracks the settlement of the messages received in a transacted session since the last commit.
+ * <p>
+ * The receiving thread waits for all the messages of the batch to be acknowledged or nacked before committing the
+ * transaction, or rolling it back if one of them has been nacked.
+ */
+class TransactedBatch {
+
+    private int received;
+    private int settled;
+    private boolean rollback;
+
+    synchronized void received() {
+        received++;
+    }
+
+    synchronized void ack() {
+        settled++;
+        notifyAll();
+    }
+
+    synchronized void nack() {
+        settled++;
+        rollback = true;
+        notifyAll();
+    }
+
+    synchronized int size() {
+        return received;
+    }
+
+    synchronized boolean isRollbackOnly() {
+        return rollback;
+    }
+
+    /**
+     * Waits for the settlement of all the received messages.
+     *
+     * @param timeout the maximum time (ms) to wait
+     * @return whether all the received messages have been settled
+     */
+    synchronized boolean await(long timeout) throws InterruptedException {
+        if (settled < received) {
+            wait(timeout);
+        }
+        return settled == received;
+    }
+}
@@ -31,4 +31,12 @@ public interface JmsLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 15803, value = "Unable to receive JMS messages - client has been closed")
     void clientClosed();
-}
\ No newline at end of file
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 15804, value = "Unable to complete the JMS transaction of a receiving session")
+    void unableToCompleteTransaction(@Cause Throwable t);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 15805, value = "Unable to commit the JMS transaction, the messages of the transaction are nacked")
+    void unableToCommit(@Cause Throwable t);
+}
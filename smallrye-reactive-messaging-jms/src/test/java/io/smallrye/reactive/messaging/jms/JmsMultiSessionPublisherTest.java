@@ -0,0 +1,145 @@
+package io.smallrye.reactive.messaging.jms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.core.IsNull.notNullValue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+@SuppressWarnings("ReactiveStreamsSubscriberImplementation")
+class JmsMultiSessionPublisherTest {
+
+    @Test
+    void testCompletionIsNotConcurrentWithOnNext() throws InterruptedException {
+        JmsMultiSessionPublisher publisher = publisher(timeout -> message());
+
+        CountDownLatch inOnNext = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean onNextReturned = new AtomicBoolean();
+        AtomicBoolean completedDuringOnNext = new AtomicBoolean();
+        AtomicBoolean completed = new AtomicBoolean();
+        publisher.subscribe(new Subscriber<IncomingJmsMessage<?>>() {
+            private boolean first = true;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(IncomingJmsMessage<?> message) {
+                if (first) {
+                    first = false;
+                    inOnNext.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    onNextReturned.set(true);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // ignored
+            }
+
+            @Override
+            public void onComplete() {
+                completedDuringOnNext.set(!onNextReturned.get());
+                completed.set(true);
+            }
+        });
+
+        assertThat(inOnNext.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread closer = new Thread(publisher::close);
+        closer.start();
+        closer.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(completed).isFalse();
+
+        release.countDown();
+        await().untilTrue(completed);
+        assertThat(completedDuringOnNext).isFalse();
+    }
+
+    @Test
+    void testReceiveFailureIsPropagated() {
+        AtomicInteger calls = new AtomicInteger();
+        JmsMultiSessionPublisher publisher = publisher(timeout -> {
+            if (calls.incrementAndGet() > 2) {
+                throw new JMSRuntimeException("boom");
+            }
+            return message();
+        });
+
+        AtomicInteger received = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        publisher.subscribe(new Subscriber<IncomingJmsMessage<?>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(IncomingJmsMessage<?> message) {
+                received.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                failure.set(t);
+            }
+
+            @Override
+            public void onComplete() {
+                // ignored
+            }
+        });
+
+        await().atMost(Duration.ofSeconds(10)).untilAtomic(failure, notNullValue());
+        assertThat(failure.get()).isInstanceOf(JMSRuntimeException.class).hasMessage("boom");
+        assertThat(received).hasValue(2);
+    }
+
+    private static JmsMultiSessionPublisher publisher(LongFunction<Message> receive) {
+        JMSConsumer consumer = (JMSConsumer) Proxy.newProxyInstance(JMSConsumer.class.getClassLoader(),
+                new Class<?>[] { JMSConsumer.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("receive") && args != null && args.length == 1) {
+                        return receive.apply((Long) args[0]);
+                    }
+                    return null;
+                });
+        JMSContext context = (JMSContext) Proxy.newProxyInstance(JMSContext.class.getClassLoader(),
+                new Class<?>[] { JMSContext.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getTransacted")) {
+                        return false;
+                    }
+                    return null;
+                });
+        return new JmsMultiSessionPublisher(Collections.singletonList(context), c -> consumer, 100L, 1,
+                (m, batch) -> new IncomingJmsMessage<>(m, Runnable::run, null, batch));
+    }
+
+    private static Message message() {
+        return (Message) Proxy.newProxyInstance(Message.class.getClassLoader(), new Class<?>[] { Message.class },
+                (proxy, method, args) -> null);
+    }
+}
@@ -4,10 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.jms.*;
 
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.reactive.messaging.json.JsonMapping;
 import io.smallrye.reactive.messaging.support.JmsTestBase;
@@ -255,6 +258,81 @@ public class JmsSinkTest extends JmsTestBase {
 
     }
 
+    @Test
+    public void testTransactedBatches() {
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-one")
+                .with("channel-name", "jms")
+                .with("transaction-batch-size", 4)
+                .with("transaction-batch-interval", 60000L);
+        JMSContext transacted = factory.createContext(JMSContext.SESSION_TRANSACTED);
+        JmsSink sink = new JmsSink(transacted, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor);
+        MyJmsClient client = new MyJmsClient(jms.createQueue("queue-one"));
+        AtomicInteger acked = new AtomicInteger();
+        Multi.createFrom().range(0, 6)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe().withSubscriber(sink.getSink().build());
+
+        // the first transaction is committed once 4 messages have been sent
+        await().until(() -> client.messages.size() == 4);
+        assertThat(acked).hasValue(4);
+        await().pollDelay(Duration.ofMillis(500)).until(() -> true);
+        assertThat(client.messages).hasSize(4);
+
+        // the pending transaction is committed on close
+        sink.close();
+        await().until(() -> client.messages.size() == 6);
+        assertThat(acked).hasValue(6);
+        transacted.close();
+    }
+
+    @Test
+    public void testTransactionCommittedAfterInterval() {
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-one")
+                .with("channel-name", "jms")
+                .with("transaction-batch-size", 100)
+                .with("transaction-batch-interval", 200L);
+        JMSContext transacted = factory.createContext(JMSContext.SESSION_TRANSACTED);
+        JmsSink sink = new JmsSink(transacted, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor);
+        MyJmsClient client = new MyJmsClient(jms.createQueue("queue-one"));
+        AtomicInteger acked = new AtomicInteger();
+        Multi.createFrom().range(0, 10)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe().withSubscriber(sink.getSink().build());
+
+        await().until(() -> client.messages.size() == 10);
+        assertThat(acked).hasValue(10);
+        sink.close();
+        transacted.close();
+    }
+
+    @Test
+    public void testAsyncSend() {
+        MapBasedConfig config = new MapBasedConfig()
+                .with("destination", "queue-one")
+                .with("channel-name", "jms")
+                .with("async-send", true);
+        JmsSink sink = new JmsSink(jms, new JmsConnectorOutgoingConfiguration(config), jsonMapping, executor);
+        MyJmsClient client = new MyJmsClient(jms.createQueue("queue-one"));
+        AtomicInteger acked = new AtomicInteger();
+        Multi.createFrom().range(0, 50)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe().withSubscriber(sink.getSink().build());
+
+        await().until(() -> client.messages.size() == 50);
+        await().until(() -> acked.get() == 50);
+    }
+
     private class MyJmsClient {
 
         private final List<javax.jms.Message> messages = new CopyOnWriteArrayList<>();
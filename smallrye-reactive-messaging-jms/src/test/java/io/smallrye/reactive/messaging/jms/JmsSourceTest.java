@@ -5,8 +5,10 @@ import static org.awaitility.Awaitility.await;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.notNullValue;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -199,6 +201,98 @@ public class JmsSourceTest extends JmsTestBase {
                 .containsAll(IntStream.of(49).boxed().collect(Collectors.toList()));
     }
 
+    @Test
+    public void testMultipleSessions() {
+        JmsSource source = new JmsSource(jms,
+                new JmsConnectorIncomingConfiguration(new MapBasedConfig()
+                        .with("channel-name", "queue").with("sessions", 4).with("receive-timeout", 100L)),
+                null, null);
+        Publisher<IncomingJmsMessage<?>> publisher = source.getSource().buildRs();
+
+        new Thread(() -> {
+            JMSContext context = factory.createContext();
+            JMSProducer producer = context.createProducer();
+            Queue q = context.createQueue("queue");
+            for (int i = 0; i < 100; i++) {
+                producer.send(q, i);
+            }
+        }).start();
+
+        List<IncomingJmsMessage<?>> list = new CopyOnWriteArrayList<>();
+        AtomicReference<Subscription> upstream = new AtomicReference<>();
+        publisher.subscribe(new Subscriber<IncomingJmsMessage<?>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                upstream.set(s);
+            }
+
+            @Override
+            public void onNext(IncomingJmsMessage<?> incomingJmsMessage) {
+                list.add(incomingJmsMessage);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // ignored
+            }
+
+            @Override
+            public void onComplete() {
+                // ignored
+            }
+        });
+
+        await().untilAtomic(upstream, is(notNullValue()));
+        upstream.get().request(10);
+        await().until(() -> list.size() == 10);
+        await().pollDelay(Duration.ofMillis(300)).until(() -> true);
+        assertThat(list).hasSize(10);
+        upstream.get().request(Long.MAX_VALUE);
+        await().until(() -> list.size() == 100);
+        assertThat(list.stream().map(r -> (Integer) r.getPayload()).collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        source.close();
+    }
+
+    @Test
+    public void testMultipleTransactedSessions() {
+        JMSContext transacted = factory.createContext(JMSContext.SESSION_TRANSACTED);
+        JmsSource source = new JmsSource(transacted,
+                new JmsConnectorIncomingConfiguration(new MapBasedConfig()
+                        .with("channel-name", "queue").with("sessions", 2).with("receive-timeout", 100L)
+                        .with("transaction-batch-size", 5)),
+                null, null);
+
+        JMSProducer producer = jms.createProducer();
+        Queue q = jms.createQueue("queue");
+        for (int i = 0; i < 20; i++) {
+            producer.send(q, i);
+        }
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicBoolean nacked = new AtomicBoolean();
+        source.getSource()
+                .forEach(m -> {
+                    int payload = (Integer) m.getPayload();
+                    received.add(payload);
+                    if (payload == 7 && nacked.compareAndSet(false, true)) {
+                        // rolls the transaction back, the batch containing the message is redelivered
+                        m.nack(new Exception("boom"));
+                    } else {
+                        m.ack();
+                    }
+                })
+                .run();
+
+        await().until(() -> received.stream().filter(i -> i == 7).count() == 2);
+        await().until(() -> received.containsAll(IntStream.range(0, 20).boxed().collect(Collectors.toList())));
+        source.close();
+        transacted.close();
+
+        // all the messages have been committed
+        assertThat(jms.createConsumer(q).receive(500)).isNull();
+    }
+
     @Test
     public void testBroadcast() {
         JmsSource source = new JmsSource(jms,
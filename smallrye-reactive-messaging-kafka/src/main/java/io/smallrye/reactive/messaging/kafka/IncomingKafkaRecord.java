@@ -150,4 +150,8 @@ public class IncomingKafkaRecord<K, T> implements KafkaRecord<K, T> {
         metadata = metadata.with(tracingMetadata);
     }
 
+    public synchronized void injectMetadata(Object metadata) {
+        this.metadata = this.metadata.with(metadata);
+    }
+
 }
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.kafka;
 
 import static io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage.captureContextMetadata;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,39 +25,114 @@ import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordBatchMetadata
 import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
 import io.smallrye.reactive.messaging.kafka.fault.KafkaFailureHandler;
 
+/**
+ * A batch of records polled from Kafka.
+ * <p>
+ * The batch wraps the polled {@link ConsumerRecords}. Only the latest record of each topic-partition, needed to
+ * acknowledge the batch, is wrapped eagerly into an {@link IncomingKafkaRecord}. The other records are wrapped on the
+ * first call to {@link #getRecords()}. Unless cloud events are enabled, {@link #getPayload()} returns a view over the
+ * values of the polled records, without wrapping them.
+ *
+ * @param <K> the type of the key
+ * @param <T> the type of the payload
+ */
 public class IncomingKafkaRecordBatch<K, T> implements KafkaRecordBatch<K, T> {
 
     private final Metadata metadata;
-    private final List<KafkaRecord<K, T>> incomingRecords;
+    private final ConsumerRecords<K, T> records;
+    private final List<ConsumerRecord<K, T>> consumerRecords;
     private final Map<TopicPartition, KafkaRecord<K, T>> latestOffsetRecords;
 
+    private final String channel;
+    private final KafkaCommitHandler commitHandler;
+    private final KafkaFailureHandler onNack;
+    private final boolean cloudEventEnabled;
+    private final boolean tracingEnabled;
+
+    /**
+     * The records wrapped into {@link IncomingKafkaRecord}, lazily created, guarded by {@code this}.
+     */
+    private List<KafkaRecord<K, T>> incomingRecords;
+    /**
+     * The payloads, lazily created, guarded by {@code this}.
+     */
+    private List<T> payloads;
+
     public IncomingKafkaRecordBatch(ConsumerRecords<K, T> records, String channel, KafkaCommitHandler commitHandler,
             KafkaFailureHandler onNack, boolean cloudEventEnabled, boolean tracingEnabled) {
-        List<IncomingKafkaRecord<K, T>> incomingRecords = new ArrayList<>();
-        Map<TopicPartition, IncomingKafkaRecord<K, T>> latestOffsetRecords = new HashMap<>();
+        this.records = records;
+        this.channel = channel;
+        this.commitHandler = commitHandler;
+        this.onNack = onNack;
+        this.cloudEventEnabled = cloudEventEnabled;
+        this.tracingEnabled = tracingEnabled;
+        List<ConsumerRecord<K, T>> consumerRecords = new ArrayList<>(records.count());
+        Map<TopicPartition, KafkaRecord<K, T>> latestOffsetRecords = new HashMap<>();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
         for (TopicPartition partition : records.partitions()) {
-            for (ConsumerRecord<K, T> record : records.records(partition)) {
-                IncomingKafkaRecord<K, T> rec = new IncomingKafkaRecord<>(record, channel, commitHandler, onNack,
-                        cloudEventEnabled, tracingEnabled);
-                incomingRecords.add(rec);
-                latestOffsetRecords.put(partition, rec);
+            List<ConsumerRecord<K, T>> partitionRecords = records.records(partition);
+            if (partitionRecords.isEmpty()) {
+                continue;
             }
+            consumerRecords.addAll(partitionRecords);
+            ConsumerRecord<K, T> latest = partitionRecords.get(partitionRecords.size() - 1);
+            latestOffsetRecords.put(partition, wrap(latest));
+            offsets.put(partition, new OffsetAndMetadata(latest.offset()));
         }
-        this.incomingRecords = Collections.unmodifiableList(incomingRecords);
+        this.consumerRecords = consumerRecords;
         this.latestOffsetRecords = Collections.unmodifiableMap(latestOffsetRecords);
-        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
-        latestOffsetRecords.forEach((e, r) -> offsets.put(e, new OffsetAndMetadata(r.getOffset())));
         this.metadata = captureContextMetadata(new IncomingKafkaRecordBatchMetadata<>(records, channel, offsets));
     }
 
+    private IncomingKafkaRecord<K, T> wrap(ConsumerRecord<K, T> record) {
+        return new IncomingKafkaRecord<>(record, channel, commitHandler, onNack, cloudEventEnabled, tracingEnabled);
+    }
+
     @Override
-    public List<T> getPayload() {
-        return this.incomingRecords.stream().map(KafkaRecord::getPayload).collect(Collectors.toList());
+    public synchronized List<T> getPayload() {
+        if (payloads == null) {
+            if (cloudEventEnabled) {
+                // the payload of a structured cloud event is not the record value
+                List<T> list = new ArrayList<>(consumerRecords.size());
+                for (KafkaRecord<K, T> record : getRecords()) {
+                    list.add(record.getPayload());
+                }
+                payloads = Collections.unmodifiableList(list);
+            } else {
+                payloads = new AbstractList<T>() {
+                    @Override
+                    public T get(int index) {
+                        return consumerRecords.get(index).value();
+                    }
+
+                    @Override
+                    public int size() {
+                        return consumerRecords.size();
+                    }
+                };
+            }
+        }
+        return payloads;
     }
 
     @Override
-    public List<KafkaRecord<K, T>> getRecords() {
-        return this.incomingRecords;
+    public synchronized List<KafkaRecord<K, T>> getRecords() {
+        if (incomingRecords == null) {
+            List<KafkaRecord<K, T>> list = new ArrayList<>(consumerRecords.size());
+            for (TopicPartition partition : records.partitions()) {
+                List<ConsumerRecord<K, T>> partitionRecords = records.records(partition);
+                if (partitionRecords.isEmpty()) {
+                    continue;
+                }
+                for (int i = 0; i < partitionRecords.size() - 1; i++) {
+                    list.add(wrap(partitionRecords.get(i)));
+                }
+                // reuse the eagerly wrapped latest record
+                list.add(latestOffsetRecords.get(partition));
+            }
+            incomingRecords = Collections.unmodifiableList(list);
+        }
+        return incomingRecords;
     }
 
     @Override
@@ -96,7 +172,7 @@ public class IncomingKafkaRecordBatch<K, T> implements KafkaRecordBatch<K, T> {
     @Override
     public CompletionStage<Void> nack(Throwable reason, Metadata metadata) {
         return Multi.createBy().concatenating().collectFailures()
-                .streams(this.incomingRecords.stream()
+                .streams(this.getRecords().stream()
                         .map(record -> Multi.createFrom().completionStage(() -> record.nack(reason, metadata)))
                         .collect(Collectors.toList()))
                 .toUni().subscribeAsCompletionStage();
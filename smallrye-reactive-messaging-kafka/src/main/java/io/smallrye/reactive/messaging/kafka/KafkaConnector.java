@@ -39,6 +39,8 @@ import io.smallrye.reactive.messaging.kafka.impl.ConfigHelper;
 import io.smallrye.reactive.messaging.kafka.impl.KafkaSink;
 import io.smallrye.reactive.messaging.kafka.impl.KafkaSource;
 import io.smallrye.reactive.messaging.providers.connectors.ExecutionHolder;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
 import io.vertx.mutiny.core.Vertx;
 
 @ApplicationScoped
@@ -77,10 +79,13 @@ import io.vertx.mutiny.core.Vertx;
 @ConnectorAttribute(name = "dead-letter-queue.value.serializer", type = "string", direction = Direction.INCOMING, description = "When the `failure-strategy` is set to `dead-letter-queue` indicates the value serializer to use. If not set the serializer associated to the value deserializer is used")
 @ConnectorAttribute(name = "partitions", type = "int", direction = Direction.INCOMING, description = "The number of partitions to be consumed concurrently. The connector creates the specified amount of Kafka consumers. It should match the number of partition of the targeted topic", defaultValue = "1")
 @ConnectorAttribute(name = "requests", type = "int", direction = Direction.INCOMING, description = "When `partitions` is greater than 1, this attribute allows configuring how many records are requested by each consumers every time.", defaultValue = "128")
+@ConnectorAttribute(name = "dispatch-lanes", type = "int", direction = Direction.INCOMING, description = "The number of lanes the records polled by the Kafka consumer are dispatched to. Each lane emits its records in order on its own event loop, so records of different lanes are processed concurrently while using a single Kafka consumer. Requires the `throttled` or `ignore` commit strategy, and cannot be used in `batch` mode.", defaultValue = "1")
+@ConnectorAttribute(name = "dispatch-lanes-by", type = "string", direction = Direction.INCOMING, description = "How records are assigned to lanes when `dispatch-lanes` is greater than 1. Values can be `partition` (default) to keep records of a topic-partition in order, or `key` to keep records with the same key in order. Records without key are assigned by partition.", defaultValue = "partition")
 @ConnectorAttribute(name = "consumer-rebalance-listener.name", type = "string", direction = Direction.INCOMING, description = "The name set in `@Identifier` of a bean that implements `io.smallrye.reactive.messaging.kafka.KafkaConsumerRebalanceListener`. If set, this rebalance listener is applied to the consumer.")
 @ConnectorAttribute(name = "key-deserialization-failure-handler", type = "string", direction = Direction.INCOMING, description = "The name set in `@Identifier` of a bean that implements `io.smallrye.reactive.messaging.kafka.DeserializationFailureHandler`. If set, deserialization failure happening when deserializing keys are delegated to this handler which may retry or provide a fallback value.")
 @ConnectorAttribute(name = "value-deserialization-failure-handler", type = "string", direction = Direction.INCOMING, description = "The name set in `@Identifier` of a bean that implements `io.smallrye.reactive.messaging.kafka.DeserializationFailureHandler`. If set, deserialization failure happening when deserializing values are delegated to this handler which may retry or provide a fallback value.")
 @ConnectorAttribute(name = "fail-on-deserialization-failure", type = "boolean", direction = INCOMING, description = "When no deserialization failure handler is set and a deserialization failure happens, report the failure and mark the application as unhealthy. If set to `false` and a deserialization failure happens, a `null` value is forwarded.", defaultValue = "true")
+@ConnectorAttribute(name = "deserialization-parallelism", type = "int", direction = Direction.INCOMING, description = "The number of threads deserializing the polled records. With 1, the records are deserialized by the Kafka client, on the polling thread. When greater than 1, the Kafka client polls raw bytes, and the records are deserialized by that number of threads (the polling thread included) before being queued, the records of each topic-partition being kept in order. The configured deserializers and deserialization failure handlers are still used, and must be thread-safe. In this mode, the Kafka consumer exposed by `KafkaConsumer#unwrap` and `KafkaConsumer#runOnPollingThread` is a `Consumer<byte[], byte[]>`, whatever its declared key and value types: the records it returns are not deserialized.", defaultValue = "1")
 @ConnectorAttribute(name = "graceful-shutdown", type = "boolean", direction = Direction.INCOMING, description = "Whether or not a graceful shutdown should be attempted when the application terminates.", defaultValue = "true")
 @ConnectorAttribute(name = "poll-timeout", type = "int", direction = Direction.INCOMING, description = "The polling timeout in milliseconds. When polling records, the poll will wait at most that duration before returning records. Default is 1000ms", defaultValue = "1000")
 @ConnectorAttribute(name = "pause-if-no-requests", type = "boolean", direction = Direction.INCOMING, description = "Whether the polling must be paused when the application does not request items and resume when it does. This allows implementing back-pressure based on the application capacity. Note that polling is not stopped, but will not retrieve any records when paused.", defaultValue = "true")
@@ -96,6 +101,8 @@ import io.vertx.mutiny.core.Vertx;
 @ConnectorAttribute(name = "partition", type = "int", direction = Direction.OUTGOING, description = "The target partition id. -1 to let the client determine the partition", defaultValue = "-1")
 @ConnectorAttribute(name = "waitForWriteCompletion", type = "boolean", direction = Direction.OUTGOING, description = "Whether the client waits for Kafka to acknowledge the written record before acknowledging the message", defaultValue = "true")
 @ConnectorAttribute(name = "max-inflight-messages", type = "long", direction = Direction.OUTGOING, description = "The maximum number of messages to be written to Kafka concurrently. It limits the number of messages waiting to be written and acknowledged by the broker. You can set this attribute to `0` remove the limit", defaultValue = "1024")
+@ConnectorAttribute(name = "send-batch-size", type = "int", direction = Direction.OUTGOING, description = "The maximum number of messages handed to the Kafka producer at once. When greater than 1, messages are accumulated and sent together from a single task, and are acknowledged as a group once written. Messages whose record cannot be written are still retried or nacked individually", defaultValue = "1")
+@ConnectorAttribute(name = "send-batch-linger-us", type = "long", direction = Direction.OUTGOING, description = "When `send-batch-size` is greater than 1, the maximum amount of microseconds a message waits for the batch to be full before being sent", defaultValue = "100")
 @ConnectorAttribute(name = "cloud-events-source", type = "string", direction = Direction.OUTGOING, description = "Configure the default `source` attribute of the outgoing Cloud Event. Requires `cloud-events` to be set to `true`. This value is used if the message does not configure the `source` attribute itself", alias = "cloud-events-default-source")
 @ConnectorAttribute(name = "cloud-events-type", type = "string", direction = Direction.OUTGOING, description = "Configure the default `type` attribute of the outgoing Cloud Event. Requires `cloud-events` to be set to `true`. This value is used if the message does not configure the `type` attribute itself", alias = "cloud-events-default-type")
 @ConnectorAttribute(name = "cloud-events-subject", type = "string", direction = Direction.OUTGOING, description = "Configure the default `subject` attribute of the outgoing Cloud Event. Requires `cloud-events` to be set to `true`. This value is used if the message does not configure the `subject` attribute itself", alias = "cloud-events-default-subject")
@@ -133,6 +140,9 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
     @Inject
     KafkaCDIEvents kafkaCDIEvents;
 
+    @Inject
+    Instance<ChannelMetricsRegistry> channelMetricsRegistry;
+
     private final List<KafkaSource<?, ?>> sources = new CopyOnWriteArrayList<>();
     private final List<KafkaSink> sinks = new CopyOnWriteArrayList<>();
 
@@ -178,9 +188,14 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
             return s;
         });
 
+        ChannelMetrics channelMetrics = null;
+        if (channelMetricsRegistry != null && channelMetricsRegistry.isResolvable()) {
+            channelMetrics = channelMetricsRegistry.get().get(ic.getChannel());
+        }
+
         if (partitions == 1) {
             KafkaSource<Object, Object> source = new KafkaSource<>(vertx, group, ic, consumerRebalanceListeners,
-                    kafkaCDIEvents, deserializationFailureHandlers, -1);
+                    kafkaCDIEvents, deserializationFailureHandlers, -1, channelMetrics);
             sources.add(source);
             boolean broadcast = ic.getBroadcast();
             Multi<? extends Message<?>> stream;
@@ -200,7 +215,7 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
         List<Publisher<? extends Message<?>>> streams = new ArrayList<>();
         for (int i = 0; i < partitions; i++) {
             KafkaSource<Object, Object> source = new KafkaSource<>(vertx, group, ic, consumerRebalanceListeners,
-                    kafkaCDIEvents, deserializationFailureHandlers, i);
+                    kafkaCDIEvents, deserializationFailureHandlers, i, channelMetrics);
             sources.add(source);
             if (!ic.getBatch()) {
                 streams.add(source.getStream());
@@ -32,6 +32,10 @@ public interface KafkaConsumer<K, V> {
      * the produced {@code Uni} emits the exception as failure.
      * <p>
      * If the action does not return a result, use {@link #runOnPollingThread(java.util.function.Consumer)}.
+     * <p>
+     * When the channel sets {@code deserialization-parallelism} to a value greater than 1, the {@link Consumer} is a
+     * {@code Consumer<byte[], byte[]>}, whatever {@code K} and {@code V}: the records it returns contain the raw
+     * bytes, and reading their keys or values as {@code K} or {@code V} fails with a {@link ClassCastException}.
      *
      * @param action the action to execute, must not be {@code null}
      * @param <R> the type of result, can be {@code Void}
@@ -46,6 +50,9 @@ public interface KafkaConsumer<K, V> {
      * The action is a consumer receiving the {@link Consumer}.
      * The produced {@link Uni} emits {@code null} when the action completes. If the action throws an exception,
      * the produced {@code Uni} emits the exception as failure.
+     * <p>
+     * See {@link #runOnPollingThread(Function)} for the type of the {@link Consumer} when the records are deserialized
+     * in parallel.
      *
      * @param action the action, must not be {@code null}
      * @return the Uni emitting {@code null} or the failure when the action completes.
@@ -97,6 +104,10 @@ public interface KafkaConsumer<K, V> {
     Uni<Void> resume();
 
     /**
+     * When the channel sets {@code deserialization-parallelism} to a value greater than 1, the underlying consumer is
+     * a {@code Consumer<byte[], byte[]>}, whatever {@code K} and {@code V}, and the records it returns are not
+     * deserialized.
+     *
      * @return the underlying consumer. Be aware that to use it you needs to be on the polling thread.
      */
     Consumer<K, V> unwrap();
@@ -0,0 +1,21 @@
+package io.smallrye.reactive.messaging.kafka;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.reactive.messaging.MessageKeyExtractor;
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+
+/**
+ * Extracts the key of the Kafka record, to order the processing of the records by key with
+ * {@link io.smallrye.reactive.messaging.annotations.OrderedBy}.
+ * Messages without Kafka metadata, or records without key, share the {@code null} key.
+ */
+public class KafkaRecordKeyExtractor implements MessageKeyExtractor {
+
+    @Override
+    public Object extractKey(Message<?> message) {
+        return message.getMetadata(IncomingKafkaRecordMetadata.class)
+                .map(IncomingKafkaRecordMetadata::getKey)
+                .orElse(null);
+    }
+}
@@ -304,14 +304,14 @@ public class KafkaThrottledLatestProcessedCommit extends ContextHolder implement
             for (OffsetStore store : offsetStores.values()) {
                 long millis = store.hasTooManyMessagesWithoutAck();
                 if (millis != -1) {
-                    OffsetReceivedAt received = store.receivedOffsets.peek();
-                    if (received != null) {
+                    long offset = store.offsets.firstOffset();
+                    if (offset != -1) {
                         long lastOffset = store.getLastProcessedOffset();
                         TooManyMessagesWithoutAckException exception = new TooManyMessagesWithoutAckException(
                                 store.topicPartition,
-                                received.offset,
+                                offset,
                                 millis / 1000,
-                                store.receivedOffsets.size(),
+                                store.offsets.size(),
                                 lastOffset);
                         this.source.reportFailure(exception, true);
                     }
@@ -321,33 +321,10 @@ public class KafkaThrottledLatestProcessedCommit extends ContextHolder implement
 
     }
 
-    private static class OffsetReceivedAt {
-        private final long offset;
-        private final long receivedAt;
-
-        private OffsetReceivedAt(long offset, long receivedAt) {
-            this.offset = offset;
-            this.receivedAt = receivedAt;
-        }
-
-        static OffsetReceivedAt received(long offset) {
-            return new OffsetReceivedAt(offset, System.currentTimeMillis());
-        }
-
-        public long getOffset() {
-            return offset;
-        }
-
-        public long getReceivedAt() {
-            return receivedAt;
-        }
-    }
-
     private class OffsetStore {
 
         private final TopicPartition topicPartition;
-        private final Queue<OffsetReceivedAt> receivedOffsets = new LinkedList<>();
-        private final Set<Long> processedOffsets = new HashSet<>();
+        private final OffsetTracker offsets = new OffsetTracker();
         private final int unprocessedRecordMaxAge;
         private final AtomicLong unProcessedTotal = new AtomicLong();
         private long lastProcessedOffset;
@@ -365,66 +342,39 @@ public class KafkaThrottledLatestProcessedCommit extends ContextHolder implement
 
         void received(long offset) {
             if (offset > lastProcessedOffset) {
-                this.receivedOffsets.offer(OffsetReceivedAt.received(offset));
-                unProcessedTotal.incrementAndGet();
+                if (offsets.received(offset)) {
+                    unProcessedTotal.incrementAndGet();
+                }
             } else {
                 log.receivedOutdatedOffset(topicPartition, offset, lastProcessedOffset);
             }
         }
 
         void processed(long offset) {
-            final OffsetReceivedAt received = this.receivedOffsets.peek();
-            if (received != null && received.getOffset() <= offset) {
-                processedOffsets.add(offset);
-            }
+            offsets.processed(offset);
         }
 
         long clearLesserSequentiallyProcessedOffsetsAndReturnLargestOffset() {
-            if (!processedOffsets.isEmpty()) {
-                long largestSequentialProcessedOffset = -1;
-
-                while (!receivedOffsets.isEmpty()) {
-                    if (!processedOffsets.remove(receivedOffsets.peek().getOffset())) {
-                        break;
-                    }
-                    unProcessedTotal.decrementAndGet();
-                    OffsetReceivedAt poll = receivedOffsets.poll();
-                    if (poll != null) {
-                        largestSequentialProcessedOffset = poll.getOffset();
-                    }
-                }
-
-                if (largestSequentialProcessedOffset > -1) {
-                    lastProcessedOffset = largestSequentialProcessedOffset;
-                    removeReceivedOffsetsFromLastProcessedOffset();
-                    return largestSequentialProcessedOffset;
-                }
+            long largestSequentialProcessedOffset = offsets.clearSequentiallyProcessed();
+            if (largestSequentialProcessedOffset > -1) {
+                lastProcessedOffset = largestSequentialProcessedOffset;
             }
-
-            removeReceivedOffsetsFromLastProcessedOffset();
-
-            return -1;
-        }
-
-        private void removeReceivedOffsetsFromLastProcessedOffset() {
             // Remove received offset from previous assignments if any
-            receivedOffsets.removeIf(o -> o.getOffset() <= lastProcessedOffset);
+            offsets.clearUpTo(lastProcessedOffset);
+            unProcessedTotal.set(offsets.size());
+            return largestSequentialProcessedOffset;
         }
 
         long hasTooManyMessagesWithoutAck() {
-            if (receivedOffsets.isEmpty() || !isStillAssigned()) {
-                return -1;
-            }
-            OffsetReceivedAt peek = receivedOffsets.peek();
-            if (peek == null) {
+            if (offsets.isEmpty() || !isStillAssigned()) {
                 return -1;
             }
-            long elapsed = System.currentTimeMillis() - peek.getReceivedAt();
-            long lag = receivedOffsets.size();
+            long elapsed = System.currentTimeMillis() - offsets.firstReceivedAt();
+            long lag = offsets.size();
             boolean waitedTooLong = elapsed > unprocessedRecordMaxAge;
             if (waitedTooLong) {
-                log.waitingForAckForTooLong(peek.getOffset(), topicPartition, elapsed / 1000, unprocessedRecordMaxAge,
-                        lag, lastProcessedOffset);
+                log.waitingForAckForTooLong(offsets.firstOffset(), topicPartition, elapsed / 1000,
+                        unprocessedRecordMaxAge, lag, lastProcessedOffset);
                 return elapsed;
             }
             return -1;
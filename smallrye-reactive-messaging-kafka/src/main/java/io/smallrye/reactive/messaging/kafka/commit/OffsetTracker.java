@@ -0,0 +1,298 @@
+package io.smallrye.reactive.messaging.kafka.commit;
+
+/**
+ * Tracks the received and processed offsets of a topic-partition.
+ * <p>
+ * Offsets are grouped in blocks of 64 consecutive offsets. Each block stores its base offset, a bitset of the
+ * received offsets and a bitset of the processed offsets.
+ * Blocks are kept sorted by base offset in a growable ring, so tracking a record costs a few bit operations and does
+ * not allocate. Gaps between offsets (compacted topics, transaction markers) do not create empty blocks.
+ * <p>
+ * Each block also stores the reception time of its first tracked offset and the time of its latest reception. When the
+ * first offsets of a block are cleared, the reception time of the new first offset is approximated by the latest
+ * reception time of the block. This approximation is never earlier than the actual reception, so the age of the
+ * oldest unprocessed record is never overestimated.
+ * <p>
+ * This class is not thread-safe.
+ */
+class OffsetTracker {
+
+    private static final int BLOCK_BITS = 64;
+    private static final long BLOCK_MASK = BLOCK_BITS - 1;
+
+    private long[] bases;
+    private long[] received;
+    private long[] processed;
+    private long[] receivedAt;
+    private long[] lastReceivedAt;
+    private int mask;
+
+    /**
+     * Ring index of the first block.
+     */
+    private int head;
+    private int size;
+    private long unprocessed;
+
+    OffsetTracker() {
+        this(16);
+    }
+
+    OffsetTracker(int initialBlocks) {
+        int capacity = Integer.highestOneBit(Math.max(initialBlocks, 2) - 1) << 1;
+        this.bases = new long[capacity];
+        this.received = new long[capacity];
+        this.processed = new long[capacity];
+        this.receivedAt = new long[capacity];
+        this.lastReceivedAt = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Records the reception of the given offset.
+     *
+     * @param offset the offset
+     * @return {@code true} if the offset was not already tracked
+     */
+    boolean received(long offset) {
+        return received(offset, System.currentTimeMillis());
+    }
+
+    /**
+     * Records the reception of the given offset at the given time.
+     *
+     * @param offset the offset
+     * @param now the reception time
+     * @return {@code true} if the offset was not already tracked
+     */
+    boolean received(long offset, long now) {
+        int idx = index(findOrInsert(offset & ~BLOCK_MASK));
+        long bit = 1L << (offset & BLOCK_MASK);
+        if ((received[idx] & bit) != 0) {
+            return false;
+        }
+        if ((received[idx] & (bit - 1)) == 0) {
+            // the offset becomes the first tracked offset of its block
+            receivedAt[idx] = now;
+        }
+        received[idx] |= bit;
+        lastReceivedAt[idx] = now;
+        unprocessed++;
+        return true;
+    }
+
+    /**
+     * Records the processing of the given offset.
+     *
+     * @param offset the offset
+     * @return {@code true} if the offset was received and not yet cleared
+     */
+    boolean processed(long offset) {
+        int position = find(offset & ~BLOCK_MASK);
+        if (position < 0) {
+            return false;
+        }
+        int idx = index(position);
+        long bit = 1L << (offset & BLOCK_MASK);
+        if ((received[idx] & bit) == 0) {
+            return false;
+        }
+        processed[idx] |= bit;
+        return true;
+    }
+
+    /**
+     * Clears the received offsets that are processed and only preceded by processed offsets.
+     *
+     * @return the largest cleared offset, {@code -1} if none
+     */
+    long clearSequentiallyProcessed() {
+        long largest = -1;
+        while (size > 0) {
+            int idx = index(0);
+            long rec = received[idx];
+            long pending = rec & ~processed[idx];
+            long done = pending == 0 ? rec : rec & ((1L << Long.numberOfTrailingZeros(pending)) - 1);
+            if (done != 0) {
+                largest = bases[idx] + (BLOCK_MASK - Long.numberOfLeadingZeros(done));
+                unprocessed -= Long.bitCount(done);
+                received[idx] = rec & ~done;
+                processed[idx] &= ~done;
+            }
+            if (pending != 0) {
+                if (done != 0) {
+                    receivedAt[idx] = lastReceivedAt[idx];
+                }
+                break;
+            }
+            removeFirst();
+        }
+        return largest;
+    }
+
+    /**
+     * Clears all the received offsets lesser than or equal to the given offset, processed or not.
+     *
+     * @param offset the offset
+     */
+    void clearUpTo(long offset) {
+        while (size > 0) {
+            int idx = index(0);
+            long base = bases[idx];
+            if (base > offset) {
+                return;
+            }
+            if (base + BLOCK_MASK <= offset) {
+                unprocessed -= Long.bitCount(received[idx]);
+                removeFirst();
+            } else {
+                long cleared = received[idx] & (-1L >>> (BLOCK_MASK - (offset - base)));
+                unprocessed -= Long.bitCount(cleared);
+                received[idx] &= ~cleared;
+                processed[idx] &= ~cleared;
+                if (received[idx] == 0) {
+                    removeFirst();
+                } else if (cleared != 0) {
+                    receivedAt[idx] = lastReceivedAt[idx];
+                }
+                return;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return unprocessed == 0;
+    }
+
+    /**
+     * @return the number of received offsets not cleared yet
+     */
+    long size() {
+        return unprocessed;
+    }
+
+    /**
+     * @return the smallest received offset not cleared yet, {@code -1} if none
+     */
+    long firstOffset() {
+        if (size == 0) {
+            return -1;
+        }
+        int idx = index(0);
+        return bases[idx] + Long.numberOfTrailingZeros(received[idx]);
+    }
+
+    /**
+     * @return the reception time of the smallest received offset not cleared yet, or a later time if it is not known
+     *         exactly, {@code -1} if none
+     */
+    long firstReceivedAt() {
+        return size == 0 ? -1 : receivedAt[index(0)];
+    }
+
+    private int index(int position) {
+        return (head + position) & mask;
+    }
+
+    /**
+     * @return the position of the block with the given base, {@code -1} if none
+     */
+    private int find(long base) {
+        if (size == 0) {
+            return -1;
+        }
+        // acknowledgements mostly concern the oldest records
+        if (bases[head] == base) {
+            return 0;
+        }
+        int position = search(base);
+        return position < size && bases[index(position)] == base ? position : -1;
+    }
+
+    private int findOrInsert(long base) {
+        if (size > 0) {
+            int last = index(size - 1);
+            if (bases[last] == base) {
+                return size - 1;
+            }
+            if (bases[last] > base) {
+                // received out of order, e.g. after a seek
+                int position = search(base);
+                if (position < size && bases[index(position)] == base) {
+                    return position;
+                }
+                return insert(position, base);
+            }
+        }
+        return insert(size, base);
+    }
+
+    /**
+     * @return the position of the first block whose base is greater than or equal to the given base
+     */
+    private int search(long base) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (bases[index(middle)] < base) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int insert(int position, long base) {
+        if (size == bases.length) {
+            grow();
+        }
+        for (int i = size; i > position; i--) {
+            int to = index(i);
+            int from = index(i - 1);
+            bases[to] = bases[from];
+            received[to] = received[from];
+            processed[to] = processed[from];
+            receivedAt[to] = receivedAt[from];
+            lastReceivedAt[to] = lastReceivedAt[from];
+        }
+        int idx = index(position);
+        bases[idx] = base;
+        received[idx] = 0;
+        processed[idx] = 0;
+        size++;
+        return position;
+    }
+
+    private void removeFirst() {
+        received[head] = 0;
+        processed[head] = 0;
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = bases.length << 1;
+        long[] newBases = new long[capacity];
+        long[] newReceived = new long[capacity];
+        long[] newProcessed = new long[capacity];
+        long[] newReceivedAt = new long[capacity];
+        long[] newLastReceivedAt = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            int idx = index(i);
+            newBases[i] = bases[idx];
+            newReceived[i] = received[idx];
+            newProcessed[i] = processed[idx];
+            newReceivedAt[i] = receivedAt[idx];
+            newLastReceivedAt[i] = lastReceivedAt[idx];
+        }
+        bases = newBases;
+        received = newReceived;
+        processed = newProcessed;
+        receivedAt = newReceivedAt;
+        lastReceivedAt = newLastReceivedAt;
+        mask = capacity - 1;
+        head = 0;
+    }
+}
@@ -27,6 +27,8 @@ public class ConfigurationCleaner {
             "partition",
             "waitforwritecompletion", // lower case on purpose
             "max-inflight-messages",
+            "send-batch-size",
+            "send-batch-linger-us",
             "cloud-events-source",
             "cloud-events-type",
             "cloud-events-subject",
@@ -62,10 +64,13 @@ public class ConfigurationCleaner {
             "dead-letter-queue.key.serializer",
             "dead-letter-queue.value.serializer",
             "partitions",
+            "dispatch-lanes",
+            "dispatch-lanes-by",
             "consumer-rebalance-listener.name",
             "key-deserialization-failure-handler",
             "value-deserialization-failure-handler",
             "fail-on-deserialization-failure",
+            "deserialization-parallelism",
             "graceful-shutdown",
 
             // Remove most common attributes, may have been configured from the default config
@@ -0,0 +1,200 @@
+package io.smallrye.reactive.messaging.kafka.impl;
+
+import static io.smallrye.reactive.messaging.kafka.i18n.KafkaExceptions.ex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+
+/**
+ * Variant of {@link KafkaSenderProcessor} accumulating the messages and sending them by batches.
+ * <p>
+ * A batch is sent when it contains {@code batchSize} messages, or {@code lingerMicros} after the reception of its
+ * first message. Once a batch is sent (or written, if {@code waitForCompletion} is set), the same number of messages
+ * are requested from upstream.
+ */
+class KafkaBatchSenderProcessor
+        implements Processor<Message<?>, Message<?>>, Subscription {
+
+    private final long inflights;
+    private final boolean waitForCompletion;
+    private final int batchSize;
+    private final long lingerMicros;
+    private final ScheduledExecutorService scheduler;
+    private final Function<List<Message<?>>, Uni<Void>> send;
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final AtomicReference<Subscriber<? super Message<?>>> downstream = new AtomicReference<>();
+
+    // Guarded by this
+    private List<Message<?>> batch;
+    private ScheduledFuture<?> lingerTask;
+
+    public KafkaBatchSenderProcessor(long inflights, boolean waitForCompletion, int batchSize, long lingerMicros,
+            ScheduledExecutorService scheduler, Function<List<Message<?>>, Uni<Void>> send) {
+        this.inflights = inflights;
+        this.waitForCompletion = waitForCompletion;
+        this.batchSize = batchSize;
+        this.lingerMicros = lingerMicros;
+        this.scheduler = scheduler;
+        this.send = send;
+    }
+
+    @Override
+    public void subscribe(
+            Subscriber<? super Message<?>> subscriber) {
+        if (!downstream.compareAndSet(null, subscriber)) {
+            Subscriptions.fail(subscriber, ex.illegalStateOnlyOneSubscriber());
+        } else {
+            if (subscription.get() != null) {
+                subscriber.onSubscribe(this);
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (this.subscription.compareAndSet(null, subscription)) {
+            Subscriber<? super Message<?>> subscriber = downstream.get();
+            if (subscriber != null) {
+                subscriber.onSubscribe(this);
+            }
+        } else {
+            Subscriber<? super Message<?>> subscriber = downstream.get();
+            if (subscriber != null) {
+                subscriber.onSubscribe(Subscriptions.CANCELLED);
+            }
+        }
+    }
+
+    @Override
+    public void onNext(Message<?> message) {
+        List<Message<?>> full = null;
+        synchronized (this) {
+            if (batch == null) {
+                batch = new ArrayList<>(batchSize);
+            }
+            batch.add(message);
+            if (batch.size() >= batchSize) {
+                full = takeBatch();
+                send(full);
+            } else if (lingerTask == null) {
+                lingerTask = scheduler.schedule(this::flush, lingerMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+        if (full != null && !waitForCompletion) {
+            requestNext(full);
+        }
+    }
+
+    private List<Message<?>> takeBatch() {
+        List<Message<?>> messages = batch;
+        batch = null;
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return messages;
+    }
+
+    private void flush() {
+        List<Message<?>> messages;
+        synchronized (this) {
+            if (batch == null) {
+                return;
+            }
+            messages = takeBatch();
+            send(messages);
+        }
+        if (!waitForCompletion) {
+            requestNext(messages);
+        }
+    }
+
+    /**
+     * Hands the given batch to the producer.
+     * Must be called while holding the lock, so that the batches taken by {@link #onNext(Message)} and by the linger
+     * task reach the producer in the order they were taken, keeping the per-partition ordering.
+     */
+    private void send(List<Message<?>> messages) {
+        if (waitForCompletion) {
+            send.apply(messages)
+                    .subscribe().with(
+                            x -> requestNext(messages),
+                            this::onError);
+        } else {
+            send.apply(messages)
+                    .subscribe().with(x -> {
+                    }, this::onError);
+        }
+    }
+
+    @Override
+    public void request(long l) {
+        if (l != Long.MAX_VALUE) {
+            throw ex.illegalStateConsumeWithoutBackPressure();
+        }
+        subscription.get().request(inflights);
+    }
+
+    @Override
+    public void cancel() {
+        Subscription s = KafkaBatchSenderProcessor.this.subscription.getAndSet(Subscriptions.CANCELLED);
+        if (s != null) {
+            s.cancel();
+        }
+        List<Message<?>> pending;
+        synchronized (this) {
+            pending = batch == null ? null : takeBatch();
+        }
+        if (pending != null) {
+            // the pending messages will never be sent
+            Throwable reason = ex.illegalStateBatchCancelled();
+            for (Message<?> message : pending) {
+                message.nack(reason);
+            }
+        }
+    }
+
+    private void requestNext(List<Message<?>> messages) {
+        Subscriber<? super Message<?>> down = downstream.get();
+        if (down != null) {
+            for (Message<?> message : messages) {
+                down.onNext(message);
+            }
+        }
+        Subscription up = this.subscription.get();
+        if (up != null && inflights != Long.MAX_VALUE) {
+            up.request(messages.size());
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Subscriber<? super Message<?>> subscriber = downstream.getAndSet(null);
+        if (subscriber != null) {
+            subscriber.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        // Send the pending messages
+        flush();
+        Subscriber<? super Message<?>> subscriber = downstream.getAndSet(null);
+        if (subscriber != null) {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -3,11 +3,10 @@ package io.smallrye.reactive.messaging.kafka.impl;
 import static io.smallrye.reactive.messaging.kafka.i18n.KafkaLogging.log;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -17,6 +16,7 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
 import io.vertx.core.Context;
 
 /**
@@ -63,6 +63,17 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
     private final RecordQueue<T> queue;
     private final long retries;
 
+    /**
+     * The detailed metrics of the channel, {@code null} if not enabled.
+     */
+    private final ChannelMetrics metrics;
+    private final Runnable unregisterQueue;
+
+    /**
+     * Passes drained items downstream, allocated once to avoid a capturing lambda per drain.
+     */
+    private final Consumer<T> emitter = this::emit;
+
     public KafkaRecordStreamSubscription(
             ReactiveKafkaConsumer<K, V> client,
             KafkaConnectorIncomingConfiguration config,
@@ -80,6 +91,8 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
         // we can exceed maxQueueSize by at most 1 maxPollRecords
         this.queue = new RecordQueue<>(maxQueueSize + maxPollRecords);
         this.retries = config.getRetryAttempts() == -1 ? Long.MAX_VALUE : config.getRetryAttempts();
+        this.metrics = client.getChannelMetrics();
+        this.unregisterQueue = metrics == null ? null : metrics.registerQueue(queue::size);
         this.pollUni = client.poll()
                 .onItem().transform(cr -> {
                     if (cr.isEmpty()) {
@@ -146,10 +159,16 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
         int size = queue.size();
         if (size >= maxQueueSize && state.compareAndSet(STATE_POLLING, STATE_PAUSED)) {
             log.pausingChannel(channel, size, maxQueueSize);
+            if (metrics != null) {
+                metrics.paused();
+            }
             client.pause()
                     .subscribe().with(this::emptyConsumer, this::report);
         } else if (size <= halfMaxQueueSize && state.compareAndSet(STATE_PAUSED, STATE_POLLING)) {
             log.resumingChannel(channel, size, halfMaxQueueSize);
+            if (metrics != null) {
+                metrics.resumed();
+            }
             client.resume()
                     .subscribe().with(this::emptyConsumer, this::report);
         }
@@ -165,6 +184,7 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
                 break;
             }
             if (this.state.compareAndSet(state, STATE_CANCELLED)) {
+                unregisterQueue();
                 downstream.onFailure(fail);
                 break;
             }
@@ -188,15 +208,17 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
                 return;
             }
 
+            // apply the rewrites even without requests, so the revoked records are removed from the queue size
+            q.applyRewrites();
+
             while (emitted != requests) {
-                T item = q.poll();
+                int drained = q.drain(emitter, requests - emitted);
 
-                if (item == null || isCancelled()) {
+                if (drained == 0 || isCancelled()) {
                     break;
                 }
 
-                downstream.onItem(item);
-                emitted++;
+                emitted += drained;
             }
 
             requests = requested.addAndGet(-emitted);
@@ -214,6 +236,14 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
         }
     }
 
+    private void emit(T item) {
+        MultiSubscriber<? super T> subscriber = downstream;
+        // items drained after a cancellation are dropped, as the queue would be cleared
+        if (subscriber != null && state.get() != STATE_CANCELLED) {
+            subscriber.onItem(item);
+        }
+    }
+
     @Override
     public void cancel() {
         while (true) {
@@ -222,6 +252,7 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
                 break;
             }
             if (this.state.compareAndSet(state, STATE_CANCELLED)) {
+                unregisterQueue();
                 if (wip.getAndIncrement() == 0) {
                     // nothing was currently dispatched, clearing the queue.
                     client.close();
@@ -233,6 +264,12 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
         }
     }
 
+    private void unregisterQueue() {
+        if (unregisterQueue != null) {
+            unregisterQueue.run();
+        }
+    }
+
     boolean isCancelled() {
         if (state.get() == STATE_CANCELLED) {
             queue.clear();
@@ -249,20 +286,12 @@ public class KafkaRecordStreamSubscription<K, V, T> implements Subscription {
      * from the queue.
      *
      * Order is preserved.
+     * The rewrite is applied by the drain loop, which is dispatched to apply it.
      *
      * @param mapFunction
      */
     void rewriteQueue(UnaryOperator<T> mapFunction) {
-        ArrayDeque<T> replacementQueue = new ArrayDeque<>();
-        synchronized (queue) {
-            queue
-                    .stream()
-                    .map(mapFunction)
-                    .filter(Objects::nonNull)
-                    .forEach(replacementQueue::offer);
-
-            queue.clear();
-            queue.addAll((Iterable<T>) replacementQueue);
-        }
+        queue.rewrite(mapFunction);
+        dispatch();
     }
 }
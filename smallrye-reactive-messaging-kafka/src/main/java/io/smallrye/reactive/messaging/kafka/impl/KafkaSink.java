@@ -43,6 +43,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.reactive.messaging.TracingMetadata;
 import io.smallrye.reactive.messaging.ce.OutgoingCloudEventMetadata;
 import io.smallrye.reactive.messaging.health.HealthReport;
@@ -70,6 +71,7 @@ public class KafkaSink {
 
     private final List<Throwable> failures = new ArrayList<>();
     private final KafkaSenderProcessor processor;
+    private final KafkaBatchSenderProcessor batchProcessor;
     private final boolean writeAsBinaryCloudEvent;
     private final boolean writeCloudEvents;
     private final boolean mandatoryCloudEventAttributeSet;
@@ -129,10 +131,18 @@ public class KafkaSink {
         if (requests <= 0) {
             requests = Long.MAX_VALUE;
         }
-        processor = new KafkaSenderProcessor(requests, waitForWriteCompletion,
-                writeMessageToKafka());
+        int batchSize = config.getSendBatchSize();
+        if (batchSize > 1) {
+            processor = null;
+            batchProcessor = new KafkaBatchSenderProcessor(requests, waitForWriteCompletion, batchSize,
+                    config.getSendBatchLingerUs(), Infrastructure.getDefaultWorkerPool(), writeMessagesToKafka());
+        } else {
+            processor = new KafkaSenderProcessor(requests, waitForWriteCompletion,
+                    writeMessageToKafka());
+            batchProcessor = null;
+        }
         subscriber = ReactiveStreams.<Message<?>> builder()
-                .via(processor)
+                .via(processor != null ? processor : batchProcessor)
                 .onError(f -> {
                     log.unableToDispatch(f);
                     reportFailure(f);
@@ -169,66 +179,114 @@ public class KafkaSink {
     private Function<Message<?>, Uni<Void>> writeMessageToKafka() {
         return message -> {
             try {
-                Optional<OutgoingKafkaRecordMetadata<?>> om = getOutgoingKafkaRecordMetadata(message);
-                OutgoingKafkaRecordMetadata<?> outgoingMetadata = om.orElse(null);
-                String actualTopic = outgoingMetadata == null || outgoingMetadata.getTopic() == null ? this.topic
-                        : outgoingMetadata.getTopic();
-
-                ProducerRecord<?, ?> record;
-                OutgoingCloudEventMetadata<?> ceMetadata = message.getMetadata(OutgoingCloudEventMetadata.class)
-                        .orElse(null);
-                IncomingKafkaRecordMetadata<?, ?> incomingMetadata = getIncomingKafkaRecordMetadata(message).orElse(null);
-
-                if (message.getPayload() instanceof ProducerRecord) {
-                    record = (ProducerRecord<?, ?>) message.getPayload();
-                } else if (writeCloudEvents && (ceMetadata != null || mandatoryCloudEventAttributeSet)) {
-                    // We encode the outbound record as Cloud Events if:
-                    // - cloud events are enabled -> writeCloudEvents
-                    // - the incoming message contains Cloud Event metadata (OutgoingCloudEventMetadata -> ceMetadata)
-                    // - or if the message does not contain this metadata, the type and source are configured on the channel
-                    if (writeAsBinaryCloudEvent) {
-                        record = KafkaCloudEventHelper.createBinaryRecord(message, actualTopic, outgoingMetadata,
-                                incomingMetadata,
-                                ceMetadata, runtimeConfiguration);
-                    } else {
-                        record = KafkaCloudEventHelper
-                                .createStructuredRecord(message, actualTopic, outgoingMetadata, incomingMetadata, ceMetadata,
-                                        runtimeConfiguration);
-                    }
-                } else {
-                    record = getProducerRecord(message, outgoingMetadata, incomingMetadata, actualTopic);
-                }
-                log.sendingMessageToTopic(message, actualTopic);
-
-                @SuppressWarnings({ "unchecked", "rawtypes" })
-                Uni<RecordMetadata> sendUni = client.send((ProducerRecord) record);
-
-                Uni<Void> uni = sendUni.onItem().transformToUni(ignored -> {
-                    log.successfullyToTopic(message, record.topic());
-                    return Uni.createFrom().completionStage(message.ack());
-                });
+                return send(message, createProducerRecord(message));
+            } catch (RuntimeException e) {
+                log.unableToSendRecord(e);
+                return Uni.createFrom().failure(e);
+            }
+        };
+    }
 
-                if (this.retries == Integer.MAX_VALUE) {
-                    uni = uni.onFailure(this::isRecoverable).retry()
-                            .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(20)).expireIn(deliveryTimeoutMs);
-                } else if (this.retries > 0) {
-                    uni = uni.onFailure(this::isRecoverable).retry()
-                            .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(20)).atMost(this.retries);
+    /**
+     * Writes the messages to Kafka from a single task of the sending thread, and then acknowledges them together.
+     * The messages whose record could not be written are retried individually (if the failure is recoverable and
+     * retries are enabled) or nacked.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Function<List<Message<?>>, Uni<Void>> writeMessagesToKafka() {
+        return messages -> {
+            List<ProducerRecord<?, ?>> records = new ArrayList<>(messages.size());
+            try {
+                for (Message<?> message : messages) {
+                    records.add(createProducerRecord(message));
                 }
-
-                return uni
-                        .onFailure().recoverWithUni(t -> {
-                            // Log and nack the messages on failure.
-                            log.nackingMessage(message, actualTopic, t);
-                            return Uni.createFrom().completionStage(message.nack(t));
-                        });
             } catch (RuntimeException e) {
                 log.unableToSendRecord(e);
                 return Uni.createFrom().failure(e);
             }
+
+            Uni<List<Throwable>> sendUni = client.sendBatch((List) records);
+            return sendUni
+                    .onItem().transformToUni(failures -> {
+                        List<Uni<Void>> results = new ArrayList<>(messages.size());
+                        for (int i = 0; i < messages.size(); i++) {
+                            Message<?> message = messages.get(i);
+                            ProducerRecord<?, ?> record = records.get(i);
+                            Throwable failure = failures.get(i);
+                            if (failure == null) {
+                                log.successfullyToTopic(message, record.topic());
+                                results.add(Uni.createFrom().completionStage(message.ack()));
+                            } else if (this.retries > 0 && isRecoverable(failure)) {
+                                results.add(send(message, record));
+                            } else {
+                                log.nackingMessage(message, record.topic(), failure);
+                                results.add(Uni.createFrom().completionStage(message.nack(failure)));
+                            }
+                        }
+                        return Uni.combine().all().unis(results).discardItems();
+                    });
         };
     }
 
+    private ProducerRecord<?, ?> createProducerRecord(Message<?> message) {
+        Optional<OutgoingKafkaRecordMetadata<?>> om = getOutgoingKafkaRecordMetadata(message);
+        OutgoingKafkaRecordMetadata<?> outgoingMetadata = om.orElse(null);
+        String actualTopic = outgoingMetadata == null || outgoingMetadata.getTopic() == null ? this.topic
+                : outgoingMetadata.getTopic();
+
+        ProducerRecord<?, ?> record;
+        OutgoingCloudEventMetadata<?> ceMetadata = message.getMetadata(OutgoingCloudEventMetadata.class)
+                .orElse(null);
+        IncomingKafkaRecordMetadata<?, ?> incomingMetadata = getIncomingKafkaRecordMetadata(message).orElse(null);
+
+        if (message.getPayload() instanceof ProducerRecord) {
+            record = (ProducerRecord<?, ?>) message.getPayload();
+        } else if (writeCloudEvents && (ceMetadata != null || mandatoryCloudEventAttributeSet)) {
+            // We encode the outbound record as Cloud Events if:
+            // - cloud events are enabled -> writeCloudEvents
+            // - the incoming message contains Cloud Event metadata (OutgoingCloudEventMetadata -> ceMetadata)
+            // - or if the message does not contain this metadata, the type and source are configured on the channel
+            if (writeAsBinaryCloudEvent) {
+                record = KafkaCloudEventHelper.createBinaryRecord(message, actualTopic, outgoingMetadata,
+                        incomingMetadata,
+                        ceMetadata, runtimeConfiguration);
+            } else {
+                record = KafkaCloudEventHelper
+                        .createStructuredRecord(message, actualTopic, outgoingMetadata, incomingMetadata, ceMetadata,
+                                runtimeConfiguration);
+            }
+        } else {
+            record = getProducerRecord(message, outgoingMetadata, incomingMetadata, actualTopic);
+        }
+        log.sendingMessageToTopic(message, actualTopic);
+        return record;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Uni<Void> send(Message<?> message, ProducerRecord<?, ?> record) {
+        Uni<RecordMetadata> sendUni = client.send((ProducerRecord) record);
+
+        Uni<Void> uni = sendUni.onItem().transformToUni(ignored -> {
+            log.successfullyToTopic(message, record.topic());
+            return Uni.createFrom().completionStage(message.ack());
+        });
+
+        if (this.retries == Integer.MAX_VALUE) {
+            uni = uni.onFailure(this::isRecoverable).retry()
+                    .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(20)).expireIn(deliveryTimeoutMs);
+        } else if (this.retries > 0) {
+            uni = uni.onFailure(this::isRecoverable).retry()
+                    .withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(20)).atMost(this.retries);
+        }
+
+        return uni
+                .onFailure().recoverWithUni(t -> {
+                    // Log and nack the messages on failure.
+                    log.nackingMessage(message, record.topic(), t);
+                    return Uni.createFrom().completionStage(message.nack(t));
+                });
+    }
+
     private boolean isRecoverable(Throwable f) {
         return !NOT_RECOVERABLE.contains(f.getClass());
     }
@@ -406,6 +464,9 @@ public class KafkaSink {
         if (processor != null) {
             processor.cancel();
         }
+        if (batchProcessor != null) {
+            batchProcessor.cancel();
+        }
 
         try {
             this.client.close();
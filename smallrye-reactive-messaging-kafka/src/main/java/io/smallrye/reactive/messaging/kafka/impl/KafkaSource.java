@@ -33,6 +33,9 @@ import io.smallrye.reactive.messaging.kafka.fault.KafkaFailStop;
 import io.smallrye.reactive.messaging.kafka.fault.KafkaFailureHandler;
 import io.smallrye.reactive.messaging.kafka.fault.KafkaIgnoreFailure;
 import io.smallrye.reactive.messaging.kafka.health.KafkaSourceHealth;
+import io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
 import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.mutiny.core.Vertx;
@@ -59,6 +62,7 @@ public class KafkaSource<K, V> {
     private final Instance<KafkaConsumerRebalanceListener> consumerRebalanceListeners;
     private final ReactiveKafkaConsumer<K, V> client;
     private final EventLoopContext context;
+    private final ChannelMetrics channelMetrics;
 
     public KafkaSource(Vertx vertx,
             String consumerGroup,
@@ -67,8 +71,21 @@ public class KafkaSource<K, V> {
             KafkaCDIEvents kafkaCDIEvents,
             Instance<DeserializationFailureHandler<?>> deserializationFailureHandlers,
             int index) {
+        this(vertx, consumerGroup, config, consumerRebalanceListeners, kafkaCDIEvents, deserializationFailureHandlers,
+                index, null);
+    }
+
+    public KafkaSource(Vertx vertx,
+            String consumerGroup,
+            KafkaConnectorIncomingConfiguration config,
+            Instance<KafkaConsumerRebalanceListener> consumerRebalanceListeners,
+            KafkaCDIEvents kafkaCDIEvents,
+            Instance<DeserializationFailureHandler<?>> deserializationFailureHandlers,
+            int index,
+            ChannelMetrics channelMetrics) {
 
         this.group = consumerGroup;
+        this.channelMetrics = channelMetrics;
         this.index = index;
         this.deserializationFailureHandlers = deserializationFailureHandlers;
         this.consumerRebalanceListeners = consumerRebalanceListeners;
@@ -99,6 +116,21 @@ public class KafkaSource<K, V> {
                         ? KafkaCommitHandler.Strategy.IGNORE.name()
                         : KafkaCommitHandler.Strategy.THROTTLED.name());
 
+        int lanes = config.getDispatchLanes();
+        if (lanes > 1) {
+            if (config.getBatch()) {
+                throw new IllegalArgumentException("Invalid Kafka incoming configuration for channel `"
+                        + config.getChannel() + "`, `dispatch-lanes` cannot be used with `batch`");
+            }
+            if (KafkaCommitHandler.Strategy.from(commitStrategy) == KafkaCommitHandler.Strategy.LATEST) {
+                throw new IllegalArgumentException("Invalid Kafka incoming configuration for channel `"
+                        + config.getChannel() + "`, `dispatch-lanes` cannot be used with the `latest` commit strategy, "
+                        + "as records may be acknowledged out of order");
+            }
+        } else if (lanes <= 0) {
+            throw new IllegalArgumentException("`dispatch-lanes` must be greater than 0");
+        }
+
         commitHandler = createCommitHandler(vertx, client, consumerGroup, config, commitStrategy);
         failureHandler = createFailureHandler(config, client.configuration(), kafkaCDIEvents);
         if (configuration.getHealthEnabled()) {
@@ -155,6 +187,10 @@ public class KafkaSource<K, V> {
                         });
             }
 
+            if (lanes > 1) {
+                incomingMulti = dispatchToLanes(vertx, incomingMulti, lanes, isDispatchedByKey(config));
+            }
+
             if (config.getTracingEnabled()) {
                 incomingMulti = incomingMulti.onItem().invoke(record -> incomingTrace(record, false));
             }
@@ -233,6 +269,62 @@ public class KafkaSource<K, V> {
         }
     }
 
+    private static boolean isDispatchedByKey(KafkaConnectorIncomingConfiguration config) {
+        String by = config.getDispatchLanesBy();
+        if ("key".equalsIgnoreCase(by)) {
+            return true;
+        }
+        if ("partition".equalsIgnoreCase(by)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid Kafka incoming configuration for channel `" + config.getChannel()
+                + "`, `dispatch-lanes-by` must be `partition` or `key`, but was `" + by + "`");
+    }
+
+    /**
+     * Dispatches the records polled by the single consumer to the given number of lanes.
+     * Each lane emits its records on its own event loop, and the records capture the context of their lane, so the
+     * downstream processing of different lanes runs concurrently.
+     * Records assigned to the same lane are kept in order.
+     * <p>
+     * The records have been registered with the commit handler in the polling order, before the dispatch.
+     * The throttled commit strategy only commits an offset once all the previous records of the partition are
+     * acknowledged, so records completing out of order across lanes are committed correctly.
+     */
+    private Multi<IncomingKafkaRecord<K, V>> dispatchToLanes(Vertx vertx, Multi<IncomingKafkaRecord<K, V>> multi,
+            int lanes, boolean byKey) {
+        EventLoopContext[] contexts = new EventLoopContext[lanes];
+        for (int i = 0; i < lanes; i++) {
+            contexts[i] = ((VertxInternal) vertx.getDelegate()).createEventLoopContext();
+        }
+        return multi
+                .group().by(record -> lane(record, lanes, byKey))
+                .onItem().transformToMulti(lane -> {
+                    EventLoopContext laneContext = contexts[lane.key()];
+                    return lane
+                            .emitOn(command -> laneContext.runOnContext(x -> command.run()))
+                            .onItem().invoke(record -> {
+                                LocalContextMetadata metadata = ContextAwareMessage.captureLocalContextMetadata();
+                                if (metadata != null) {
+                                    record.injectMetadata(metadata);
+                                }
+                            });
+                }).merge(lanes);
+    }
+
+    static int lane(IncomingKafkaRecord<?, ?> record, int lanes, boolean byKey) {
+        Object key = byKey ? record.getKey() : null;
+        int hash;
+        if (key instanceof byte[]) {
+            hash = Arrays.hashCode((byte[]) key);
+        } else if (key != null) {
+            hash = key.hashCode();
+        } else {
+            hash = 31 * record.getTopic().hashCode() + record.getPartition();
+        }
+        return Math.floorMod(hash ^ (hash >>> 16), lanes);
+    }
+
     public synchronized void reportFailure(Throwable failure, boolean fatal) {
         if (failure instanceof RebalanceInProgressException) {
             // Just log the failure - it will be retried
@@ -477,6 +569,13 @@ public class KafkaSource<K, V> {
         return deserializationFailureHandlers;
     }
 
+    /**
+     * @return the detailed metrics of the channel, {@code null} if not enabled
+     */
+    ChannelMetrics getChannelMetrics() {
+        return channelMetrics;
+    }
+
     Instance<KafkaConsumerRebalanceListener> getConsumerRebalanceListeners() {
         return consumerRebalanceListeners;
     }
@@ -0,0 +1,162 @@
+package io.smallrye.reactive.messaging.kafka.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Deserializes the raw records polled by a Kafka consumer using a bounded number of threads.
+ * <p>
+ * The records of each topic-partition are split into contiguous slices. The slices are shared between the polling
+ * thread and {@code parallelism - 1} decoding threads, each decoded record being written at the index of its raw
+ * record, so the order of the records of a topic-partition is kept. The polling thread waits for all the slices to be
+ * decoded before returning, the decoded records reach the record queue exactly as if the Kafka client had deserialized
+ * them.
+ * <p>
+ * The given deserializers are called concurrently, and must be thread-safe.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+class ParallelRecordDeserializer<K, V> {
+
+    /**
+     * Minimum number of records of a slice, to avoid scheduling tasks smaller than their scheduling cost.
+     */
+    static final int MIN_SLICE_SIZE = 32;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final Deserializer<K> keyDeserializer;
+    private final Deserializer<V> valueDeserializer;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    ParallelRecordDeserializer(Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer, int parallelism) {
+        this.keyDeserializer = keyDeserializer;
+        this.valueDeserializer = valueDeserializer;
+        this.parallelism = parallelism;
+        this.executor = Executors.newFixedThreadPool(parallelism - 1, r -> {
+            Thread thread = new Thread(r, "smallrye-kafka-deserializer-thread-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Deserializes the given records, must be called from the polling thread.
+     *
+     * @param records the raw records
+     * @return the deserialized records, in the same order
+     * @throws KafkaException if a record cannot be deserialized and the failure is not recovered
+     */
+    @SuppressWarnings("unchecked")
+    ConsumerRecords<K, V> deserialize(ConsumerRecords<byte[], byte[]> records) {
+        if (records.isEmpty()) {
+            return (ConsumerRecords<K, V>) ConsumerRecords.EMPTY;
+        }
+        int sliceSize = Math.max(MIN_SLICE_SIZE, (records.count() + parallelism - 1) / parallelism);
+        Map<TopicPartition, List<ConsumerRecord<K, V>>> result = new LinkedHashMap<>();
+        List<Slice> slices = new ArrayList<>();
+        for (TopicPartition tp : records.partitions()) {
+            List<ConsumerRecord<byte[], byte[]>> raw = records.records(tp);
+            ConsumerRecord<K, V>[] decoded = new ConsumerRecord[raw.size()];
+            for (int from = 0; from < raw.size(); from += sliceSize) {
+                slices.add(new Slice(raw, decoded, from, Math.min(from + sliceSize, raw.size())));
+            }
+            result.put(tp, Arrays.asList(decoded));
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < slices.size()) {
+                slices.get(index).run();
+            }
+        };
+        int helpers = Math.min(parallelism, slices.size()) - 1;
+        List<Future<?>> futures = new ArrayList<>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            futures.add(executor.submit(worker));
+        }
+        try {
+            worker.run();
+        } catch (RuntimeException e) {
+            // stop the helpers at their next slice
+            next.set(slices.size());
+            throw e;
+        }
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return new ConsumerRecords<>(result);
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new KafkaException(cause);
+        }
+    }
+
+    private ConsumerRecord<K, V> deserialize(ConsumerRecord<byte[], byte[]> record) {
+        K key = keyDeserializer.deserialize(record.topic(), record.headers(), record.key());
+        V value = valueDeserializer.deserialize(record.topic(), record.headers(), record.value());
+        return new ConsumerRecord<>(record.topic(), record.partition(), record.offset(), record.timestamp(),
+                record.timestampType(), record.serializedKeySize(), record.serializedValueSize(), key, value,
+                record.headers(), record.leaderEpoch());
+    }
+
+    /**
+     * Closes the decoding threads and the deserializers.
+     */
+    void close() {
+        executor.shutdownNow();
+        keyDeserializer.close();
+        valueDeserializer.close();
+    }
+
+    private class Slice implements Runnable {
+
+        private final List<ConsumerRecord<byte[], byte[]>> raw;
+        private final ConsumerRecord<K, V>[] decoded;
+        private final int from;
+        private final int to;
+
+        private Slice(List<ConsumerRecord<byte[], byte[]>> raw, ConsumerRecord<K, V>[] decoded, int from, int to) {
+            this.raw = raw;
+            this.decoded = decoded;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void run() {
+            for (int i = from; i < to; i++) {
+                decoded[i] = deserialize(raw.get(i));
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import javax.enterprise.inject.literal.NamedLiteral;
 import org.apache.kafka.clients.consumer.*;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 
 import io.smallrye.common.annotation.CheckReturnValue;
@@ -30,6 +31,7 @@ import io.smallrye.reactive.messaging.kafka.DeserializationFailureHandler;
 import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
 import io.smallrye.reactive.messaging.kafka.fault.DeserializerWrapper;
 import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
 import io.vertx.core.Context;
 
 public class ReactiveKafkaConsumer<K, V> implements io.smallrye.reactive.messaging.kafka.KafkaConsumer<K, V> {
@@ -54,6 +56,13 @@ public class ReactiveKafkaConsumer<K, V> implements io.smallrye.reactive.messagi
     private final KafkaRecordBatchStream<K, V> batchStream;
     private final Map<String, Object> kafkaConfiguration;
 
+    /**
+     * Deserializes the polled records when {@code deserialization-parallelism} is greater than 1, {@code null}
+     * otherwise, in which case the Kafka client deserializes the records.
+     */
+    private final ParallelRecordDeserializer<K, V> deserializer;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public ReactiveKafkaConsumer(KafkaConnectorIncomingConfiguration config,
             KafkaSource<K, V> source) {
         this.configuration = config;
@@ -82,7 +91,18 @@ public class ReactiveKafkaConsumer<K, V> implements io.smallrye.reactive.messagi
 
         kafkaWorker = Executors.newSingleThreadScheduledExecutor(KafkaPollingThread::new);
 
-        consumer = new KafkaConsumer<>(kafkaConfiguration, keyDeserializer, valueDeserializer);
+        int parallelism = config.getDeserializationParallelism();
+        if (parallelism > 1) {
+            // the client polls raw records, deserialized by the parallel stage before reaching the queue.
+            // The consumer exposed by unwrap and runOnPollingThread is then a Consumer<byte[], byte[]>, as documented
+            // on the deserialization-parallelism attribute.
+            deserializer = new ParallelRecordDeserializer<>(keyDeserializer, valueDeserializer, parallelism);
+            consumer = (Consumer) new KafkaConsumer<>(kafkaConfiguration, new ByteArrayDeserializer(),
+                    new ByteArrayDeserializer());
+        } else {
+            deserializer = null;
+            consumer = new KafkaConsumer<>(kafkaConfiguration, keyDeserializer, valueDeserializer);
+        }
         stream = new KafkaRecordStream<>(this, config, source.getContext().getDelegate());
         batchStream = new KafkaRecordBatchStream<>(this, config, source.getContext().getDelegate());
     }
@@ -97,6 +117,10 @@ public class ReactiveKafkaConsumer<K, V> implements io.smallrye.reactive.messagi
         }
     }
 
+    ChannelMetrics getChannelMetrics() {
+        return source.getChannelMetrics();
+    }
+
     // Visible to use for rebalance on MockConsumer which doesn't call listeners
     public ConsumerRebalanceListener getRebalanceListener() {
         return this.rebalanceListener;
@@ -133,20 +157,25 @@ public class ReactiveKafkaConsumer<K, V> implements io.smallrye.reactive.messagi
         });
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     Uni<ConsumerRecords<K, V>> poll() {
         if (polling.compareAndSet(false, true)) {
             return runOnPollingThread(c -> {
+                ConsumerRecords<K, V> records;
                 if (System.getSecurityManager() == null) {
-                    return paused.get() ? c.poll(Duration.ZERO) : c.poll(pollTimeout);
+                    records = paused.get() ? c.poll(Duration.ZERO) : c.poll(pollTimeout);
                 } else {
-                    return AccessController.doPrivileged(new PrivilegedAction<ConsumerRecords<K, V>>() {
+                    records = AccessController.doPrivileged(new PrivilegedAction<ConsumerRecords<K, V>>() {
                         @Override
                         public ConsumerRecords<K, V> run() {
                             return paused.get() ? c.poll(Duration.ZERO) : c.poll(pollTimeout);
                         }
                     });
                 }
+                if (deserializer != null) {
+                    return deserializer.deserialize((ConsumerRecords<byte[], byte[]>) (ConsumerRecords) records);
+                }
+                return records;
             })
                     .eventually(() -> polling.set(false))
                     .onFailure(WakeupException.class).recoverWithItem((ConsumerRecords<K, V>) ConsumerRecords.EMPTY);
@@ -401,6 +430,9 @@ public class ReactiveKafkaConsumer<K, V> implements io.smallrye.reactive.messagi
                         return null;
                     });
                 }
+                if (deserializer != null) {
+                    deserializer.close();
+                }
             }).onItem().invoke(kafkaWorker::shutdown);
 
             // Interrupt polling
@@ -6,12 +6,14 @@ import static io.smallrye.reactive.messaging.kafka.i18n.KafkaLogging.log;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -19,6 +21,7 @@ import javax.enterprise.inject.Instance;
 
 import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -138,6 +141,43 @@ public class ReactiveKafkaProducer<K, V> implements io.smallrye.reactive.messagi
         })).runSubscriptionOn(kafkaWorker);
     }
 
+    /**
+     * Sends the given records from a single task of the sending thread.
+     *
+     * @param records the records
+     * @return a {@code Uni} completed once all the records are written or failed, with the failure of each record,
+     *         {@code null} for the records written successfully
+     */
+    @CheckReturnValue
+    public Uni<List<Throwable>> sendBatch(List<ProducerRecord<K, V>> records) {
+        return Uni.createFrom().<List<Throwable>> emitter(em -> {
+            Throwable[] failures = new Throwable[records.size()];
+            AtomicInteger remaining = new AtomicInteger(records.size());
+            for (int i = 0; i < failures.length; i++) {
+                int index = i;
+                ProducerRecord<K, V> record = records.get(i);
+                Callback callback = (metadata, exception) -> {
+                    if (exception != null) {
+                        if (record.topic() != null) {
+                            log.unableToWrite(this.channel, record.topic(), exception);
+                        } else {
+                            log.unableToWrite(this.channel, exception);
+                        }
+                        failures[index] = exception;
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        em.complete(Arrays.asList(failures));
+                    }
+                };
+                try {
+                    producer.send(record, callback);
+                } catch (RuntimeException e) {
+                    callback.onCompletion(null, e);
+                }
+            }
+        }).runSubscriptionOn(kafkaWorker);
+    }
+
     @Override
     @CheckReturnValue
     public Uni<Void> flush() {
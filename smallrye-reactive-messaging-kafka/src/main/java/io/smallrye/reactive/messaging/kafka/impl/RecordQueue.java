@@ -1,76 +1,400 @@
 package io.smallrye.reactive.messaging.kafka.impl;
 
 import java.util.ArrayDeque;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Stores the records coming from Kafka.
- * Only a few operations are supported: {@link #offer(Object)}, {@link #addAll(Iterable)}, {@link #clear()},
- * {@link #size()} and {@link #poll()}.
  * <p>
- * The access is guarded by the monitor lock.
+ * This is a single-producer / single-consumer queue.
+ * The Kafka polling thread is the only producer: it calls {@link #offer(Object)}, {@link #addAll(Iterable)} and
+ * {@link #rewrite(UnaryOperator)}.
+ * The drain loop of {@link KafkaRecordStreamSubscription} is the only consumer: it calls {@link #poll()},
+ * {@link #drain(Consumer, long)}, {@link #applyRewrites()} and {@link #clear()}.
+ * {@link #size()} and {@link #isEmpty()} can be called from any thread.
+ * <p>
+ * Records are stored in a ring buffer whose producer and consumer indexes are padded to sit on their own cache lines.
+ * Both sides are lock-free: the producer and the consumer never wait for each other.
+ * <p>
+ * The ring capacity is bounded by the pause/resume mechanism of {@link KafkaRecordStreamSubscription}: the Kafka
+ * consumer is paused when the queue holds {@code max-queue-size-factor * max.poll.records} records, so a poll adds at
+ * most {@code max.poll.records} records beyond that limit, and the ring is sized accordingly. If pausing is disabled
+ * ({@code pause-if-no-requests=false}), the application explicitly chose to keep polling without downstream requests:
+ * when the ring is full, a new ring is linked to the current one, so records are never dropped, like the unbounded
+ * queue used before.
+ * <p>
+ * A {@link #rewrite(UnaryOperator)} does not touch the ring. It records the rewrite with the current producer index,
+ * and the consumer applies it to the items enqueued before that index: the items are moved out of the ring to a
+ * consumer-owned deque in their rewritten form. Until the consumer applies the rewrite, the removed items are still
+ * counted by {@link #size()}.
+ *
+ * @param <T> the type of the stored items
  */
-public class RecordQueue<T> extends ArrayDeque<T> {
+public class RecordQueue<T> extends RecordQueueConsumerFields {
+
+    /**
+     * The rewrites not yet applied by the consumer, the most recent first, {@code null} if none.
+     */
+    private final AtomicReference<Rewrite<T>> rewrites = new AtomicReference<>();
+
+    long p20, p21, p22, p23, p24, p25, p26, p27;
 
     public RecordQueue(int capacityHint) {
         super(capacityHint);
     }
 
-    @Override
-    public boolean addAll(Collection<? extends T> c) {
-        throw new UnsupportedOperationException();
+    /**
+     * Enqueues the given item.
+     * Must only be called by the producer thread.
+     *
+     * @param item the item, must not be {@code null}
+     * @return {@code true}
+     */
+    public boolean offer(T item) {
+        Objects.requireNonNull(item);
+        PRODUCER_INDEX.lazySet(this, write(item, producerIndex));
+        return true;
     }
 
+    /**
+     * Enqueues all the given items, publishing the producer index once at the end.
+     * Must only be called by the producer thread.
+     *
+     * @param iterable the items, e.g. a {@link org.apache.kafka.clients.consumer.ConsumerRecords}
+     */
     public void addAll(Iterable<T> iterable) {
-        synchronized (this) {
-            for (T record : iterable) {
-                super.offer(record);
+        long index = producerIndex;
+        for (T item : iterable) {
+            index = write(Objects.requireNonNull(item), index);
+        }
+        PRODUCER_INDEX.lazySet(this, index);
+    }
+
+    /**
+     * Dequeues the next item.
+     * Must only be called by the consumer thread.
+     *
+     * @return the next item, {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        applyRewrites();
+        T item = pollFront();
+        if (item == null) {
+            long index = consumerIndex;
+            item = (T) read(index);
+            if (item != null) {
+                CONSUMER_INDEX.lazySet(this, index + 1);
             }
         }
+        return item;
     }
 
-    @Override
-    public boolean add(T item) {
-        throw new UnsupportedOperationException();
+    /**
+     * Dequeues up to {@code max} items and passes them to the given consumer.
+     * The rewrites requested while draining are applied before passing the next item.
+     * Must only be called by the consumer thread.
+     *
+     * @param consumer the consumer receiving the items
+     * @param max the maximum number of items to pass to the consumer
+     * @return the number of items passed to the consumer
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, long max) {
+        int drained = 0;
+        while (drained < max) {
+            applyRewrites();
+            T item = pollFront();
+            if (item == null) {
+                long index = consumerIndex;
+                item = (T) read(index);
+                if (item == null) {
+                    break;
+                }
+                CONSUMER_INDEX.lazySet(this, index + 1);
+            }
+            drained++;
+            consumer.accept(item);
+        }
+        return drained;
     }
 
-    @Override
-    public boolean offer(T item) {
-        synchronized (this) {
-            return super.offer(item);
+    /**
+     * Discards all the items currently stored.
+     * Must only be called by the consumer thread.
+     */
+    public void clear() {
+        applyRewrites();
+        front.clear();
+        frontSize = 0;
+        long index = consumerIndex;
+        while (read(index) != null) {
+            index++;
         }
+        CONSUMER_INDEX.lazySet(this, index);
     }
 
-    @Override
-    public T poll() {
-        T record;
-        synchronized (this) {
-            record = super.poll();
+    /**
+     * Replaces all the items currently stored using the given mapping function.
+     * If the mapping function returns {@code null}, the item is removed from the queue.
+     * Order is preserved.
+     * <p>
+     * The rewrite is applied by the consumer to the items enqueued before this call, before passing them downstream
+     * or on {@link #applyRewrites()}. Items enqueued after this call are not rewritten.
+     * Must only be called by the producer thread.
+     *
+     * @param mapFunction the mapping function
+     */
+    public void rewrite(UnaryOperator<T> mapFunction) {
+        Objects.requireNonNull(mapFunction);
+        long boundary = producerIndex;
+        Rewrite<T> previous;
+        do {
+            previous = rewrites.get();
+        } while (!rewrites.compareAndSet(previous, new Rewrite<>(mapFunction, boundary, previous)));
+    }
+
+    /**
+     * Applies the rewrites requested by the producer, so that the removed items are no longer counted by
+     * {@link #size()}.
+     * Must only be called by the consumer thread.
+     */
+    @SuppressWarnings("unchecked")
+    public void applyRewrites() {
+        if (rewrites.get() == null) {
+            return;
+        }
+        Rewrite<T> head = rewrites.getAndSet(null);
+        List<Rewrite<T>> chronological = new ArrayList<>();
+        for (Rewrite<T> r = head; r != null; r = r.previous) {
+            chronological.add(0, r);
         }
-        return record;
+
+        // the items already moved out of the ring were enqueued before any of the new rewrites
+        int size = front.size();
+        for (int i = 0; i < size; i++) {
+            T item = apply(chronological, (T) front.poll(), Long.MIN_VALUE);
+            if (item != null) {
+                front.offer(item);
+            }
+        }
+
+        // move the items enqueued before the most recent rewrite out of the ring
+        long boundary = head.boundary;
+        long index = consumerIndex;
+        while (index < boundary) {
+            Object item = read(index);
+            if (item == null) {
+                break;
+            }
+            T result = apply(chronological, (T) item, index);
+            if (result != null) {
+                front.offer(result);
+            }
+            index++;
+        }
+        frontSize = front.size();
+        CONSUMER_INDEX.lazySet(this, index);
     }
 
-    @Override
-    public T peek() {
-        throw new UnsupportedOperationException();
+    private static <T> T apply(List<Rewrite<T>> rewrites, T item, long index) {
+        T result = item;
+        for (Rewrite<T> rewrite : rewrites) {
+            if (index < rewrite.boundary) {
+                result = rewrite.mapFunction.apply(result);
+                if (result == null) {
+                    return null;
+                }
+            }
+        }
+        return result;
     }
 
-    @Override
-    public boolean remove(Object o) {
-        throw new UnsupportedOperationException();
+    private T pollFront() {
+        if (frontSize == 0) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        T item = (T) front.poll();
+        frontSize = front.size();
+        return item;
     }
 
-    @Override
+    /**
+     * @return the number of items in the queue
+     */
     public int size() {
-        synchronized (this) {
-            return super.size();
+        long after = consumerIndex;
+        for (;;) {
+            long before = after;
+            long producer = producerIndex;
+            int moved = frontSize;
+            after = consumerIndex;
+            if (before == after) {
+                return (int) (producer - after) + moved;
+            }
         }
     }
 
-    @Override
-    public void clear() {
-        synchronized (this) {
-            super.clear();
+    public boolean isEmpty() {
+        return producerIndex == consumerIndex && frontSize == 0;
+    }
+
+    /**
+     * A rewrite requested by the producer, applied to the items whose index is lower than the boundary.
+     */
+    private static final class Rewrite<T> {
+        final UnaryOperator<T> mapFunction;
+        final long boundary;
+        final Rewrite<T> previous;
+
+        Rewrite(UnaryOperator<T> mapFunction, long boundary, Rewrite<T> previous) {
+            this.mapFunction = mapFunction;
+            this.boundary = boundary;
+            this.previous = previous;
+        }
+    }
+}
+
+/**
+ * Fields shared by the producer and the consumer, never written after construction.
+ */
+abstract class RecordQueueColdFields {
+
+    /**
+     * Written in the slot following the last consumed item of a full ring, indicates the consumer to move to the
+     * next ring.
+     */
+    static final Object JUMP = new Object();
+
+    final int mask;
+    final int capacity;
+    final int lookAheadStep;
+
+    RecordQueueColdFields(int capacityHint) {
+        int capacity = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(capacityHint, 4) - 1));
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.lookAheadStep = Math.max(capacity / 4, 1);
+    }
+}
+
+abstract class RecordQueuePad0 extends RecordQueueColdFields {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    RecordQueuePad0(int capacityHint) {
+        super(capacityHint);
+    }
+}
+
+/**
+ * Fields written by the producer thread.
+ */
+abstract class RecordQueueProducerFields extends RecordQueuePad0 {
+
+    static final AtomicLongFieldUpdater<RecordQueueProducerFields> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(RecordQueueProducerFields.class, "producerIndex");
+
+    volatile long producerIndex;
+    long producerLimit;
+    AtomicReferenceArray<Object> producerBuffer;
+
+    RecordQueueProducerFields(int capacityHint) {
+        super(capacityHint);
+        // the ring has one extra slot storing the link to the next ring
+        this.producerBuffer = new AtomicReferenceArray<>(capacity + 1);
+        this.producerLimit = mask;
+    }
+
+    /**
+     * Writes the item at the given index, linking a new ring if the current one is full.
+     * Always keeps one free slot so the consumer can be redirected to the next ring.
+     *
+     * @return the next producer index, not yet published
+     */
+    long write(Object item, long index) {
+        AtomicReferenceArray<Object> buffer = producerBuffer;
+        int offset = (int) index & mask;
+        if (index < producerLimit) {
+            buffer.lazySet(offset, item);
+            return index + 1;
+        }
+        if (buffer.get((int) (index + lookAheadStep) & mask) == null) {
+            producerLimit = index + lookAheadStep - 1;
+            buffer.lazySet(offset, item);
+        } else if (buffer.get((int) (index + 1) & mask) == null) {
+            buffer.lazySet(offset, item);
+        } else {
+            AtomicReferenceArray<Object> next = new AtomicReferenceArray<>(capacity + 1);
+            producerBuffer = next;
+            producerLimit = index + mask;
+            next.lazySet(offset, item);
+            buffer.lazySet(capacity, next);
+            buffer.lazySet(offset, JUMP);
+        }
+        return index + 1;
+    }
+}
+
+abstract class RecordQueuePad1 extends RecordQueueProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    RecordQueuePad1(int capacityHint) {
+        super(capacityHint);
+    }
+}
+
+/**
+ * Fields written by the consumer thread.
+ */
+abstract class RecordQueueConsumerFields extends RecordQueuePad1 {
+
+    static final AtomicLongFieldUpdater<RecordQueueConsumerFields> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(RecordQueueConsumerFields.class, "consumerIndex");
+
+    volatile long consumerIndex;
+    AtomicReferenceArray<Object> consumerBuffer;
+
+    /**
+     * The rewritten items moved out of the ring, passed downstream before the items remaining in the ring.
+     */
+    final ArrayDeque<Object> front = new ArrayDeque<>();
+    volatile int frontSize;
+
+    RecordQueueConsumerFields(int capacityHint) {
+        super(capacityHint);
+        this.consumerBuffer = producerBuffer;
+    }
+
+    /**
+     * Takes the item at the given index out of the ring, following the link to the next ring if needed.
+     * The consumer index is not updated.
+     *
+     * @return the item, {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    Object read(long index) {
+        AtomicReferenceArray<Object> buffer = consumerBuffer;
+        int offset = (int) index & mask;
+        Object item = buffer.get(offset);
+        if (item == null) {
+            return null;
+        }
+        if (item == JUMP) {
+            AtomicReferenceArray<Object> next = (AtomicReferenceArray<Object>) buffer.get(capacity);
+            buffer.lazySet(capacity, null);
+            consumerBuffer = next;
+            buffer = next;
+            item = buffer.get(offset);
         }
+        buffer.lazySet(offset, null);
+        return item;
     }
 }
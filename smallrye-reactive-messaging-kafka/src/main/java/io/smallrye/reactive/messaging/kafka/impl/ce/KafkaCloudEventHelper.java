@@ -75,9 +75,11 @@ public class KafkaCloudEventHelper {
             byte[] bytes = (byte[]) record.value();
             Buffer buffer = Buffer.buffer(bytes);
             content = buffer.toJsonObject();
+        } else if (record.value() instanceof io.vertx.core.buffer.Buffer) {
+            content = ((io.vertx.core.buffer.Buffer) record.value()).toJsonObject();
         } else {
             throw new IllegalArgumentException(
-                    "Invalid value type. Structured Cloud Event can only be created from String, JsonObject and byte[], found: "
+                    "Invalid value type. Structured Cloud Event can only be created from String, JsonObject, byte[] and Buffer, found: "
                             + record.value().getClass());
         }
 
@@ -0,0 +1,36 @@
+package io.smallrye.reactive.messaging.kafka.serde;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Kafka deserializer for Vert.x {@link Buffer}.
+ * <p>
+ * The returned buffer wraps the bytes of the record, without copying them. Appending to the buffer reallocates it,
+ * leaving the bytes of the record untouched.
+ */
+public class BufferDeserializer implements Deserializer<Buffer> {
+
+    @Override
+    public Buffer deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return Buffer.buffer(new WrappedHeapByteBuf(data));
+    }
+
+    /**
+     * A heap buffer wrapping the given array, unlike {@code Unpooled.wrappedBuffer} it can grow past the array
+     * length.
+     */
+    private static class WrappedHeapByteBuf extends UnpooledHeapByteBuf {
+
+        private WrappedHeapByteBuf(byte[] array) {
+            super(UnpooledByteBufAllocator.DEFAULT, array, Integer.MAX_VALUE);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.smallrye.reactive.messaging.kafka.serde;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Kafka serializer for Vert.x {@link Buffer}.
+ * <p>
+ * When the buffer is backed by an array holding exactly its readable bytes (such as the buffers created from a
+ * {@code byte[]}, or received with {@link BufferDeserializer}), the array is passed to the Kafka client as-is.
+ * Otherwise, the readable bytes are copied.
+ */
+public class BufferSerializer implements Serializer<Buffer> {
+
+    @Override
+    public byte[] serialize(String topic, Buffer data) {
+        if (data == null) {
+            return null;
+        }
+        ByteBuf buf = data.getByteBuf();
+        if (buf.hasArray()) {
+            byte[] array = buf.array();
+            if (buf.arrayOffset() + buf.readerIndex() == 0 && buf.readableBytes() == array.length) {
+                return array;
+            }
+        }
+        return data.getBytes();
+    }
+
+}
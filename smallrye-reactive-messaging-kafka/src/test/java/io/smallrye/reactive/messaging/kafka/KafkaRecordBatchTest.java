@@ -1,6 +1,7 @@
 package io.smallrye.reactive.messaging.kafka;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -10,6 +11,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.StreamSupport;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -85,6 +87,30 @@ public class KafkaRecordBatchTest {
         assertThat(batchIncomingRecords).map(Message::getPayload).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6);
     }
 
+    @Test
+    void testPayloadIsACachedViewOfTheRecordValues() {
+        IncomingKafkaRecordBatch<String, Integer> batchRecords = new IncomingKafkaRecordBatch<>(records, "test",
+                commitHandler, onNack, false, false);
+
+        List<Integer> batchPayload = batchRecords.getPayload();
+        assertThat(batchRecords.getPayload()).isSameAs(batchPayload);
+        assertThat(batchPayload).containsExactlyElementsOf(
+                () -> StreamSupport.stream(records.spliterator(), false).map(ConsumerRecord::value).iterator());
+        assertThatThrownBy(() -> batchPayload.add(42)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testRecordsAreCachedAndReuseTheLatestOffsetRecords() {
+        IncomingKafkaRecordBatch<String, Integer> batchRecords = new IncomingKafkaRecordBatch<>(records, "test",
+                commitHandler, onNack, false, false);
+
+        List<KafkaRecord<String, Integer>> batchIncomingRecords = batchRecords.getRecords();
+        assertThat(batchRecords.getRecords()).isSameAs(batchIncomingRecords);
+        assertThat(batchIncomingRecords).map(Message::getPayload)
+                .containsExactlyElementsOf(batchRecords.getPayload());
+        assertThat(batchIncomingRecords).containsAll(batchRecords.getLatestOffsetRecords().values());
+    }
+
     @Test
     void testAckLatestOffsetRecords() {
         IncomingKafkaRecordBatch<String, Integer> batchRecords = new IncomingKafkaRecordBatch<>(records, "test",
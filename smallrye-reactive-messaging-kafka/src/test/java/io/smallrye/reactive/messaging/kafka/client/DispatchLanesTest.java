@@ -0,0 +1,187 @@
+package io.smallrye.reactive.messaging.kafka.client;
+
+import static io.smallrye.reactive.messaging.kafka.base.MockKafkaUtils.injectMockConsumer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import javax.enterprise.inject.Instance;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.reactive.messaging.kafka.*;
+import io.smallrye.reactive.messaging.kafka.base.WeldTestBase;
+import io.smallrye.reactive.messaging.kafka.impl.KafkaSource;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+public class DispatchLanesTest extends WeldTestBase {
+
+    private static final String TOPIC = "my-topic";
+
+    public Vertx vertx;
+    private MockConsumer<String, String> consumer;
+    private KafkaSource<String, String> source;
+
+    @BeforeEach
+    public void initializing() {
+        vertx = Vertx.vertx();
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    }
+
+    @AfterEach
+    void closing() {
+        if (source != null) {
+            source.closeQuietly();
+        }
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testRecordsDispatchedByPartition() {
+        MapBasedConfig config = commonConfiguration()
+                .with("dispatch-lanes", 2)
+                .with("client.id", UUID.randomUUID().toString());
+        source = new KafkaSource<>(vertx, UUID.randomUUID().toString(),
+                new KafkaConnectorIncomingConfiguration(config), getConsumerRebalanceListeners(),
+                CountKafkaCdiEvents.noCdiEvents, getDeserializationFailureHandlers(), -1);
+        injectMockConsumer(source, consumer);
+
+        List<IncomingKafkaRecord<String, String>> list = new CopyOnWriteArrayList<>();
+        source.getStream().subscribe().with(list::add);
+
+        TopicPartition tp0 = new TopicPartition(TOPIC, 0);
+        TopicPartition tp1 = new TopicPartition(TOPIC, 1);
+        Map<TopicPartition, Long> beginning = new HashMap<>();
+        beginning.put(tp0, 0L);
+        beginning.put(tp1, 0L);
+        consumer.updateBeginningOffsets(beginning);
+
+        consumer.schedulePollTask(() -> {
+            source.getCommitHandler().partitionsAssigned(Arrays.asList(tp0, tp1));
+            consumer.rebalance(Arrays.asList(tp0, tp1));
+            for (int i = 0; i < 100; i++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, "k", "0v" + i));
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 1, i, "k", "1v" + i));
+            }
+        });
+
+        await().until(() -> list.size() == 200);
+
+        // each partition is kept in order, on its own lane
+        for (int partition = 0; partition < 2; partition++) {
+            int p = partition;
+            List<IncomingKafkaRecord<String, String>> records = list.stream()
+                    .filter(r -> r.getPartition() == p)
+                    .collect(Collectors.toList());
+            assertThat(records).hasSize(100).extracting(IncomingKafkaRecord::getOffset).isSorted();
+            assertThat(records.stream().map(this::laneContext).distinct()).hasSize(1);
+        }
+        Context lane0 = laneContext(list.stream().filter(r -> r.getPartition() == 0).findFirst().get());
+        Context lane1 = laneContext(list.stream().filter(r -> r.getPartition() == 1).findFirst().get());
+        assertThat(lane0).isNotSameAs(lane1);
+
+        // acknowledge the second half of partition 0 before the first one
+        List<IncomingKafkaRecord<String, String>> p0 = list.stream().filter(r -> r.getPartition() == 0)
+                .collect(Collectors.toList());
+        p0.subList(50, 100).forEach(r -> r.ack().toCompletableFuture().join());
+        p0.subList(0, 49).forEach(r -> r.ack().toCompletableFuture().join());
+
+        await().untilAsserted(() -> {
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Collections.singleton(tp0));
+            assertThat(committed.get(tp0)).isNotNull();
+            assertThat(committed.get(tp0).offset()).isEqualTo(49);
+        });
+
+        p0.get(49).ack().toCompletableFuture().join();
+        await().untilAsserted(() -> {
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Collections.singleton(tp0));
+            assertThat(committed.get(tp0).offset()).isEqualTo(100);
+        });
+    }
+
+    @Test
+    void testRecordsDispatchedByKey() {
+        MapBasedConfig config = commonConfiguration()
+                .with("dispatch-lanes", 4)
+                .with("dispatch-lanes-by", "key")
+                .with("client.id", UUID.randomUUID().toString());
+        source = new KafkaSource<>(vertx, UUID.randomUUID().toString(),
+                new KafkaConnectorIncomingConfiguration(config), getConsumerRebalanceListeners(),
+                CountKafkaCdiEvents.noCdiEvents, getDeserializationFailureHandlers(), -1);
+        injectMockConsumer(source, consumer);
+
+        List<IncomingKafkaRecord<String, String>> list = new CopyOnWriteArrayList<>();
+        source.getStream().subscribe().with(list::add);
+
+        TopicPartition tp0 = new TopicPartition(TOPIC, 0);
+        consumer.updateBeginningOffsets(Collections.singletonMap(tp0, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(Collections.singletonList(tp0));
+            for (int i = 0; i < 200; i++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, "k" + (i % 10), "v" + i));
+            }
+        });
+
+        await().until(() -> list.size() == 200);
+
+        Map<String, List<IncomingKafkaRecord<String, String>>> byKey = list.stream()
+                .collect(Collectors.groupingBy(IncomingKafkaRecord::getKey));
+        assertThat(byKey).hasSize(10);
+        for (List<IncomingKafkaRecord<String, String>> records : byKey.values()) {
+            assertThat(records).extracting(IncomingKafkaRecord::getOffset).isSorted();
+            assertThat(records.stream().map(this::laneContext).distinct()).hasSize(1);
+        }
+    }
+
+    @Test
+    void testLanesNotSupportedWithLatestCommitStrategy() {
+        MapBasedConfig config = commonConfiguration()
+                .with("dispatch-lanes", 2)
+                .with("commit-strategy", "latest");
+        assertThatThrownBy(() -> new KafkaSource<>(vertx, UUID.randomUUID().toString(),
+                new KafkaConnectorIncomingConfiguration(config), getConsumerRebalanceListeners(),
+                CountKafkaCdiEvents.noCdiEvents, getDeserializationFailureHandlers(), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Context laneContext(IncomingKafkaRecord<?, ?> record) {
+        return VertxContext.getRootContext(record.getMetadata().get(LocalContextMetadata.class).get().context());
+    }
+
+    private MapBasedConfig commonConfiguration() {
+        return new MapBasedConfig()
+                .with("channel-name", "channel")
+                .with("topic", TOPIC)
+                .with("health-enabled", false)
+                .with("tracing-enabled", false)
+                .with(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 100)
+                .with("value.deserializer", StringDeserializer.class.getName());
+    }
+
+    public Instance<KafkaConsumerRebalanceListener> getConsumerRebalanceListeners() {
+        return getBeanManager().createInstance().select(KafkaConsumerRebalanceListener.class);
+    }
+
+    public Instance<DeserializationFailureHandler<?>> getDeserializationFailureHandlers() {
+        return getBeanManager().createInstance().select(
+                new javax.enterprise.util.TypeLiteral<DeserializationFailureHandler<?>>() {
+                });
+    }
+}
@@ -0,0 +1,157 @@
+package io.smallrye.reactive.messaging.kafka.client;
+
+import static io.smallrye.reactive.messaging.kafka.base.MockKafkaUtils.injectMockConsumer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import javax.enterprise.inject.Instance;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.kafka.*;
+import io.smallrye.reactive.messaging.kafka.base.WeldTestBase;
+import io.smallrye.reactive.messaging.kafka.impl.KafkaSource;
+import io.smallrye.reactive.messaging.test.common.config.MapBasedConfig;
+import io.vertx.mutiny.core.Vertx;
+
+public class ParallelDeserializationTest extends WeldTestBase {
+
+    private static final String TOPIC = "my-topic";
+
+    public Vertx vertx;
+    private MockConsumer<byte[], byte[]> consumer;
+    private KafkaSource<String, String> source;
+
+    @BeforeEach
+    public void initializing() {
+        vertx = Vertx.vertx();
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    }
+
+    @AfterEach
+    void closing() {
+        if (source != null) {
+            source.closeQuietly();
+        }
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testRecordsDeserializedInOrder() {
+        MapBasedConfig config = commonConfiguration()
+                .with("value.deserializer", StringDeserializer.class.getName())
+                .with("deserialization-parallelism", 4);
+        source = createSource(config);
+        injectMockConsumer(source, consumer);
+
+        List<IncomingKafkaRecord<String, String>> list = new CopyOnWriteArrayList<>();
+        source.getStream().subscribe().with(list::add);
+
+        TopicPartition tp0 = new TopicPartition(TOPIC, 0);
+        TopicPartition tp1 = new TopicPartition(TOPIC, 1);
+        Map<TopicPartition, Long> beginning = new HashMap<>();
+        beginning.put(tp0, 0L);
+        beginning.put(tp1, 0L);
+        consumer.updateBeginningOffsets(beginning);
+
+        consumer.schedulePollTask(() -> {
+            source.getCommitHandler().partitionsAssigned(Arrays.asList(tp0, tp1));
+            consumer.rebalance(Arrays.asList(tp0, tp1));
+            for (int i = 0; i < 300; i++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, bytes("k" + i), bytes("0v" + i)));
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 1, i, null, bytes("1v" + i)));
+            }
+        });
+
+        await().until(() -> list.size() == 600);
+
+        for (int partition = 0; partition < 2; partition++) {
+            int p = partition;
+            List<IncomingKafkaRecord<String, String>> records = list.stream()
+                    .filter(r -> r.getPartition() == p)
+                    .collect(Collectors.toList());
+            assertThat(records).hasSize(300).extracting(IncomingKafkaRecord::getOffset).isSorted();
+            for (int i = 0; i < 300; i++) {
+                assertThat(records.get(i).getPayload()).isEqualTo(p + "v" + i);
+                assertThat(records.get(i).getKey()).isEqualTo(p == 0 ? "k" + i : null);
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void testDeserializationFailureRecoveredWithNull() {
+        MapBasedConfig config = commonConfiguration()
+                .with("value.deserializer", IntegerDeserializer.class.getName())
+                .with("fail-on-deserialization-failure", false)
+                .with("deserialization-parallelism", 2);
+        source = createSource(config);
+        injectMockConsumer(source, consumer);
+
+        List<IncomingKafkaRecord<String, Integer>> list = new CopyOnWriteArrayList<>();
+        source.getStream().subscribe().with(r -> list.add((IncomingKafkaRecord) r));
+
+        TopicPartition tp0 = new TopicPartition(TOPIC, 0);
+        consumer.updateBeginningOffsets(Collections.singletonMap(tp0, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(Collections.singletonList(tp0));
+            for (int i = 0; i < 100; i++) {
+                // every tenth record is too short to be an integer
+                byte[] value = i % 10 == 0 ? new byte[] { 1, 2 } : ByteBuffer.allocate(4).putInt(i).array();
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, bytes("k"), value));
+            }
+        });
+
+        await().until(() -> list.size() == 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.get(i).getOffset()).isEqualTo(i);
+            assertThat(list.get(i).getPayload()).isEqualTo(i % 10 == 0 ? null : i);
+        }
+    }
+
+    private KafkaSource<String, String> createSource(MapBasedConfig config) {
+        return new KafkaSource<>(vertx, UUID.randomUUID().toString(),
+                new KafkaConnectorIncomingConfiguration(config), getConsumerRebalanceListeners(),
+                CountKafkaCdiEvents.noCdiEvents, getDeserializationFailureHandlers(), -1);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private MapBasedConfig commonConfiguration() {
+        return new MapBasedConfig()
+                .with("channel-name", "channel")
+                .with("topic", TOPIC)
+                .with("health-enabled", false)
+                .with("tracing-enabled", false)
+                .with("client.id", UUID.randomUUID().toString())
+                .with(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 100);
+    }
+
+    public Instance<KafkaConsumerRebalanceListener> getConsumerRebalanceListeners() {
+        return getBeanManager().createInstance().select(KafkaConsumerRebalanceListener.class);
+    }
+
+    public Instance<DeserializationFailureHandler<?>> getDeserializationFailureHandlers() {
+        return getBeanManager().createInstance().select(
+                new javax.enterprise.util.TypeLiteral<DeserializationFailureHandler<?>>() {
+                });
+    }
+}
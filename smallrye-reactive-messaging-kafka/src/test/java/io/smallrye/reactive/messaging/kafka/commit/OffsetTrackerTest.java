@@ -0,0 +1,183 @@
+package io.smallrye.reactive.messaging.kafka.commit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OffsetTrackerTest {
+
+    @Test
+    void testSequentialProcessing() {
+        OffsetTracker tracker = new OffsetTracker(2);
+        assertThat(tracker.isEmpty()).isTrue();
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(-1);
+        assertThat(tracker.firstOffset()).isEqualTo(-1);
+
+        for (long i = 0; i < 1000; i++) {
+            assertThat(tracker.received(i)).isTrue();
+        }
+        assertThat(tracker.received(10)).isFalse();
+        assertThat(tracker.size()).isEqualTo(1000);
+        assertThat(tracker.firstOffset()).isZero();
+        assertThat(tracker.firstReceivedAt()).isPositive();
+
+        for (long i = 0; i < 500; i++) {
+            assertThat(tracker.processed(i)).isTrue();
+        }
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(499);
+        assertThat(tracker.size()).isEqualTo(500);
+        assertThat(tracker.firstOffset()).isEqualTo(500);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(-1);
+
+        for (long i = 500; i < 1000; i++) {
+            tracker.processed(i);
+        }
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(999);
+        assertThat(tracker.isEmpty()).isTrue();
+        assertThat(tracker.firstOffset()).isEqualTo(-1);
+    }
+
+    @Test
+    void testReceptionTimeOfTheFirstOffset() {
+        OffsetTracker tracker = new OffsetTracker();
+        tracker.received(0, 100);
+        tracker.received(1, 100);
+        tracker.received(2, 200);
+        assertThat(tracker.firstReceivedAt()).isEqualTo(100);
+
+        // offsets received later in the block are not reported with the reception time of the block
+        tracker.processed(0);
+        tracker.processed(1);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(1);
+        assertThat(tracker.firstReceivedAt()).isEqualTo(200);
+
+        tracker.received(3, 300);
+        tracker.clearUpTo(2);
+        assertThat(tracker.firstOffset()).isEqualTo(3);
+        assertThat(tracker.firstReceivedAt()).isEqualTo(300);
+
+        // an offset received before the first tracked offset of its block, e.g. after a seek
+        tracker.received(1, 400);
+        assertThat(tracker.firstOffset()).isEqualTo(1);
+        assertThat(tracker.firstReceivedAt()).isEqualTo(400);
+    }
+
+    @Test
+    void testOutOfOrderProcessing() {
+        OffsetTracker tracker = new OffsetTracker();
+        for (long i = 0; i < 200; i++) {
+            tracker.received(i);
+        }
+        for (long i = 199; i > 0; i--) {
+            tracker.processed(i);
+        }
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(-1);
+        assertThat(tracker.size()).isEqualTo(200);
+
+        tracker.processed(0);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(199);
+        assertThat(tracker.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testGapsBetweenOffsets() {
+        OffsetTracker tracker = new OffsetTracker(2);
+        long[] offsets = { 3, 5, 130, 1_000_000, 1_000_001, 5_000_000_000L };
+        for (long offset : offsets) {
+            tracker.received(offset);
+        }
+        assertThat(tracker.size()).isEqualTo(offsets.length);
+        // never received
+        assertThat(tracker.processed(4)).isFalse();
+        assertThat(tracker.processed(64)).isFalse();
+
+        tracker.processed(3);
+        tracker.processed(5);
+        tracker.processed(1_000_000);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(5);
+        assertThat(tracker.firstOffset()).isEqualTo(130);
+
+        tracker.processed(130);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(1_000_000);
+        assertThat(tracker.firstOffset()).isEqualTo(1_000_001);
+
+        tracker.processed(5_000_000_000L);
+        tracker.processed(1_000_001);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(5_000_000_000L);
+        assertThat(tracker.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testReceivedOutOfOrder() {
+        OffsetTracker tracker = new OffsetTracker(2);
+        tracker.received(500);
+        tracker.received(300);
+        tracker.received(100);
+        tracker.received(301);
+        assertThat(tracker.firstOffset()).isEqualTo(100);
+        assertThat(tracker.size()).isEqualTo(4);
+
+        tracker.processed(100);
+        tracker.processed(300);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(300);
+        assertThat(tracker.firstOffset()).isEqualTo(301);
+    }
+
+    @Test
+    void testClearUpTo() {
+        OffsetTracker tracker = new OffsetTracker();
+        for (long i = 10; i < 300; i++) {
+            tracker.received(i);
+        }
+        tracker.clearUpTo(5);
+        assertThat(tracker.size()).isEqualTo(290);
+
+        tracker.clearUpTo(140);
+        assertThat(tracker.size()).isEqualTo(159);
+        assertThat(tracker.firstOffset()).isEqualTo(141);
+
+        tracker.processed(141);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(141);
+
+        tracker.clearUpTo(1000);
+        assertThat(tracker.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testRandomAcknowledgementOrder() {
+        OffsetTracker tracker = new OffsetTracker(1);
+        Random random = new Random(42);
+        List<Long> pending = new ArrayList<>();
+        long next = 0;
+        long committed = -1;
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 100; i++) {
+                // simulate compaction gaps
+                next += 1 + (random.nextInt(10) == 0 ? random.nextInt(100) : 0);
+                tracker.received(next);
+                pending.add(next);
+            }
+            Collections.shuffle(pending, random);
+            List<Long> acked = new ArrayList<>(pending.subList(0, pending.size() / 2));
+            pending.removeAll(acked);
+            acked.forEach(tracker::processed);
+
+            long cleared = tracker.clearSequentiallyProcessed();
+            long firstPending = pending.stream().min(Long::compare).orElse(Long.MAX_VALUE);
+            if (cleared != -1) {
+                assertThat(cleared).isGreaterThan(committed).isLessThan(firstPending);
+                committed = cleared;
+            }
+            assertThat(tracker.firstOffset()).isEqualTo(firstPending);
+            assertThat(tracker.size()).isGreaterThanOrEqualTo(pending.size());
+        }
+        pending.forEach(tracker::processed);
+        assertThat(tracker.clearSequentiallyProcessed()).isEqualTo(next);
+        assertThat(tracker.isEmpty()).isTrue();
+    }
+}
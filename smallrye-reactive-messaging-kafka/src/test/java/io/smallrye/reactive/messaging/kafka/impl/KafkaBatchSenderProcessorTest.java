@@ -0,0 +1,166 @@
+package io.smallrye.reactive.messaging.kafka.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+class KafkaBatchSenderProcessorTest {
+
+    private ScheduledExecutorService scheduler;
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void cleanup() {
+        scheduler.shutdownNow();
+    }
+
+    private Uni<Void> record(List<Message<?>> messages) {
+        batches.add(messages.stream().map(m -> (Integer) m.getPayload()).collect(Collectors.toList()));
+        return Uni.createFrom().voidItem();
+    }
+
+    @Test
+    void testBatchesAreSentWhenFull() {
+        KafkaBatchSenderProcessor processor = new KafkaBatchSenderProcessor(10, true, 5, 10_000_000L, scheduler,
+                this::record);
+        AssertSubscriber<Message<?>> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        Multi.createFrom().range(0, 10).<Message<?>> map(Message::of).subscribe(processor);
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(10);
+        assertThat(batches).containsExactly(Arrays.asList(0, 1, 2, 3, 4), Arrays.asList(5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void testPartialBatchIsSentAfterLinger() {
+        KafkaBatchSenderProcessor processor = new KafkaBatchSenderProcessor(10, true, 5, 10_000L, scheduler,
+                this::record);
+        AssertSubscriber<Message<?>> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        Multi.createFrom().<Message<?>> emitter(e -> {
+            e.emit(Message.of(0));
+            e.emit(Message.of(1));
+            e.emit(Message.of(2));
+            // never completes
+        }).subscribe(processor);
+
+        await().until(() -> subscriber.getItems().size() == 3);
+        assertThat(batches).containsExactly(Arrays.asList(0, 1, 2));
+        assertThat(subscriber.isCancelled()).isFalse();
+    }
+
+    @Test
+    void testPendingBatchIsSentOnCompletion() {
+        KafkaBatchSenderProcessor processor = new KafkaBatchSenderProcessor(10, true, 5, 10_000_000L, scheduler,
+                this::record);
+        AssertSubscriber<Message<?>> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        Multi.createFrom().range(0, 7).<Message<?>> map(Message::of).subscribe(processor);
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(7);
+        assertThat(batches).containsExactly(Arrays.asList(0, 1, 2, 3, 4), Arrays.asList(5, 6));
+    }
+
+    @Test
+    void testNextBatchIsRequestedOnceWritten() {
+        List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+        KafkaBatchSenderProcessor processor = new KafkaBatchSenderProcessor(5, true, 5, 10_000_000L, scheduler,
+                messages -> {
+                    record(messages);
+                    CompletableFuture<Void> future = new CompletableFuture<>();
+                    pending.add(future);
+                    return Uni.createFrom().completionStage(future);
+                });
+        AssertSubscriber<Message<?>> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        Multi.createFrom().range(0, 10).<Message<?>> map(Message::of).subscribe(processor);
+
+        await().pollDelay(Duration.ofMillis(100)).until(() -> pending.size() == 1);
+        assertThat(subscriber.getItems()).isEmpty();
+
+        pending.get(0).complete(null);
+        await().until(() -> pending.size() == 2);
+        assertThat(subscriber.getItems()).hasSize(5);
+
+        subscriber.awaitCompletion();
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    void testBatchesReachTheProducerInOrder() {
+        // a single sending thread, like the Kafka producer worker
+        ExecutorService sendingThread = Executors.newSingleThreadExecutor();
+        ExecutorService upstreamThread = Executors.newSingleThreadExecutor();
+        List<Integer> sent = new CopyOnWriteArrayList<>();
+        try {
+            KafkaBatchSenderProcessor processor = new KafkaBatchSenderProcessor(Long.MAX_VALUE, false, 7, 1L,
+                    scheduler, messages -> Uni.createFrom().<Void> item(() -> {
+                        messages.forEach(m -> sent.add((Integer) m.getPayload()));
+                        return null;
+                    }).runSubscriptionOn(sendingThread));
+            AssertSubscriber<Message<?>> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            // the linger task flushes partial batches concurrently with the full batches sent by onNext
+            Multi.createFrom().range(0, 20_000).<Message<?>> map(Message::of)
+                    .runSubscriptionOn(upstreamThread)
+                    .subscribe(processor);
+
+            subscriber.awaitCompletion();
+            await().until(() -> sent.size() == 20_000);
+            assertThat(sent)
+                    .containsExactlyElementsOf(IntStream.range(0, 20_000).boxed().collect(Collectors.toList()));
+        } finally {
+            sendingThread.shutdownNow();
+            upstreamThread.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPendingBatchIsNackedOnCancellation() {
+        List<Throwable> nacks = new CopyOnWriteArrayList<>();
+        KafkaBatchSenderProcessor processor = new KafkaBatchSenderProcessor(10, true, 5, 10_000_000L, scheduler,
+                this::record);
+        AssertSubscriber<Message<?>> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        Multi.createFrom().<Message<?>> emitter(e -> {
+            for (int i = 0; i < 3; i++) {
+                e.emit(Message.of(i).withNack(t -> {
+                    nacks.add(t);
+                    return CompletableFuture.completedFuture(null);
+                }));
+            }
+            // never completes
+        }).subscribe(processor);
+
+        subscriber.cancel();
+
+        assertThat(nacks).hasSize(3).allMatch(t -> t instanceof IllegalStateException);
+        assertThat(batches).isEmpty();
+    }
+}
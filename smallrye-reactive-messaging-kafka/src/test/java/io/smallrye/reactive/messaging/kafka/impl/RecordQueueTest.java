@@ -0,0 +1,119 @@
+package io.smallrye.reactive.messaging.kafka.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RecordQueueTest {
+
+    @Test
+    void testOfferAndPoll() {
+        RecordQueue<Integer> queue = new RecordQueue<>(8);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+
+        queue.offer(1);
+        queue.offer(2);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testAddAllBeyondCapacityKeepsOrder() {
+        RecordQueue<Integer> queue = new RecordQueue<>(4);
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        queue.addAll(items);
+        assertThat(queue.size()).isEqualTo(1000);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drain(drained::add, 30)).isEqualTo(30);
+        assertThat(queue.size()).isEqualTo(970);
+        assertThat(queue.drain(drained::add, Long.MAX_VALUE)).isEqualTo(970);
+        assertThat(drained).isEqualTo(items);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testRewriteOnlyAffectsEnqueuedItems() {
+        RecordQueue<Integer> queue = new RecordQueue<>(8);
+        queue.addAll(Arrays.asList(1, 2, 3, 4));
+        assertThat(queue.poll()).isEqualTo(1);
+
+        queue.rewrite(i -> i % 2 == 0 ? null : i * 10);
+        // the removed items are counted until the consumer applies the rewrite
+        assertThat(queue.size()).isEqualTo(3);
+        queue.applyRewrites();
+        assertThat(queue.size()).isEqualTo(1);
+        queue.addAll(Arrays.asList(5, 6));
+        queue.rewrite(i -> i + 1);
+        queue.offer(7);
+
+        List<Integer> drained = new ArrayList<>();
+        queue.drain(drained::add, Long.MAX_VALUE);
+        assertThat(drained).containsExactly(31, 6, 7, 7);
+    }
+
+    @Test
+    void testRewriteRequestedWhileDraining() {
+        RecordQueue<Integer> queue = new RecordQueue<>(8);
+        queue.addAll(Arrays.asList(1, 2, 3, 4, 5));
+
+        List<Integer> drained = new ArrayList<>();
+        queue.drain(i -> {
+            drained.add(i);
+            if (i == 2) {
+                queue.rewrite(j -> j == 4 ? null : -j);
+                queue.offer(6);
+            }
+        }, Long.MAX_VALUE);
+
+        assertThat(drained).containsExactly(1, 2, -3, -5, 6);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testClear() {
+        RecordQueue<Integer> queue = new RecordQueue<>(4);
+        queue.addAll(IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        queue.clear();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isZero();
+        queue.offer(42);
+        assertThat(queue.poll()).isEqualTo(42);
+    }
+
+    @Test
+    void testConcurrentProducerAndConsumer() throws Exception {
+        RecordQueue<Integer> queue = new RecordQueue<>(16);
+        int count = 1_000_000;
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                batch.add(i);
+                if (batch.size() == 10) {
+                    queue.addAll(batch);
+                    batch.clear();
+                }
+            }
+            queue.addAll(batch);
+        });
+
+        int[] expected = { 0 };
+        while (expected[0] < count) {
+            queue.drain(i -> assertThat(i).isEqualTo(expected[0]++), 64);
+        }
+        producer.get(10, TimeUnit.SECONDS);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
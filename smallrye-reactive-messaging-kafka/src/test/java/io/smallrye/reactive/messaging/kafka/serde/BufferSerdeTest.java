@@ -0,0 +1,62 @@
+package io.smallrye.reactive.messaging.kafka.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+class BufferSerdeTest {
+
+    private final BufferSerializer serializer = new BufferSerializer();
+    private final BufferDeserializer deserializer = new BufferDeserializer();
+
+    @Test
+    void testNull() {
+        assertThat(serializer.serialize("topic", null)).isNull();
+        assertThat(deserializer.deserialize("topic", null)).isNull();
+    }
+
+    @Test
+    void testDeserializerWrapsTheRecordBytes() {
+        byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+        Buffer buffer = deserializer.deserialize("topic", data);
+        assertThat(buffer.toString()).isEqualTo("hello");
+
+        data[0] = 'j';
+        assertThat(buffer.toString()).isEqualTo("jello");
+
+        // serializing the received buffer passes the same array
+        assertThat(serializer.serialize("topic", buffer)).isSameAs(data);
+    }
+
+    @Test
+    void testDeserializedBufferCanGrow() {
+        byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+        Buffer buffer = deserializer.deserialize("topic", data);
+        buffer.appendString(" world");
+        assertThat(buffer.toString()).isEqualTo("hello world");
+        assertThat(new String(data, StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    void testSerializerAvoidsCopyOfExactBuffers() {
+        byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+        assertThat(serializer.serialize("topic", Buffer.buffer(data))).isEqualTo(data);
+
+        Buffer exact = deserializer.deserialize("topic", data);
+        assertThat(serializer.serialize("topic", exact)).isSameAs(data);
+    }
+
+    @Test
+    void testSerializerCopiesPartialBuffers() {
+        Buffer buffer = Buffer.buffer(64).appendString("hello");
+        assertThat(serializer.serialize("topic", buffer)).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+
+        Buffer slice = Buffer.buffer("hello world").slice(6, 11);
+        assertThat(serializer.serialize("topic", slice)).isEqualTo("world".getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -5,6 +5,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSession;
 import io.smallrye.reactive.messaging.mqtt.session.MqttClientSessionOptions;
 import io.vertx.core.Future;
@@ -51,12 +53,20 @@ public class Clients {
 
         private final MqttClientSession client;
         private final BroadcastProcessor<MqttPublishMessage> messages;
+        private final TopicFilterTrie<MultiEmitter<? super MqttPublishMessage>> subscriptions = new TopicFilterTrie<>();
 
         public ClientHolder(MqttClientSession client) {
             this.client = client;
             messages = BroadcastProcessor.create();
-            client.messageHandler(m -> messages.onNext(MqttPublishMessage.newInstance(m)));
-            client.exceptionHandler(messages::onError);
+            client.messageHandler(m -> {
+                MqttPublishMessage message = MqttPublishMessage.newInstance(m);
+                subscriptions.match(message.topicName(), emitter -> emitter.emit(message));
+                messages.onNext(message);
+            });
+            client.exceptionHandler(t -> {
+                subscriptions.forEach(emitter -> emitter.fail(t));
+                messages.onError(t);
+            });
         }
 
         public Future<Void> start() {
@@ -71,6 +81,22 @@ public class Clients {
             return messages;
         }
 
+        /**
+         * Gets the stream of the messages whose topic matches the given filter.
+         * <p>
+         * The subscriptions sharing the client are indexed by topic filter, so each message is dispatched only to the
+         * matching streams. Like {@link #stream()}, the returned stream does not handle back-pressure.
+         *
+         * @param topicFilter the topic filter, possibly containing wildcards
+         * @return the stream of messages
+         */
+        public Multi<MqttPublishMessage> stream(String topicFilter) {
+            return Multi.createFrom().emitter(emitter -> {
+                subscriptions.add(topicFilter, emitter);
+                emitter.onTermination(() -> subscriptions.remove(topicFilter, emitter));
+            }, BackPressureStrategy.IGNORE);
+        }
+
         public MqttClientSession getClient() {
             return client;
         }
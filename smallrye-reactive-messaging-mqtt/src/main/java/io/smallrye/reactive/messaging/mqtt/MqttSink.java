@@ -11,6 +11,7 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
 
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.mqtt.MqttQoS;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.vertx.AsyncResultUni;
@@ -108,7 +109,8 @@ public class MqttSink {
             return new Buffer(io.vertx.core.buffer.Buffer.buffer(payload.toString()));
         }
         if (payload instanceof byte[]) {
-            return new Buffer(io.vertx.core.buffer.Buffer.buffer((byte[]) payload));
+            // wrap the array instead of copying it
+            return new Buffer(io.vertx.core.buffer.Buffer.buffer(Unpooled.wrappedBuffer((byte[]) payload)));
         }
         if (payload instanceof Buffer) {
             return (Buffer) payload;
@@ -0,0 +1,151 @@
+package io.smallrye.reactive.messaging.mqtt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Indexes values by MQTT topic filter, to find the values whose filter matches a topic name.
+ * <p>
+ * Each level of a filter is a node of the trie. The single-level wildcard {@code +} and the multi-level wildcard
+ * {@code #} are regular nodes, explored in addition to the exact level when matching. As required by the MQTT
+ * specification, {@code #} also matches the parent level ({@code a/#} matches {@code a}), and wildcards at the first
+ * level do not match topic names starting with {@code $}.
+ * <p>
+ * Matching is lock-free, adding and removing values are synchronized.
+ *
+ * @param <T> the type of the values
+ */
+class TopicFilterTrie<T> {
+
+    private static final String SINGLE_LEVEL = "+";
+    private static final String MULTI_LEVEL = "#";
+
+    private final Node<T> root = new Node<>(null, null);
+
+    /**
+     * Adds a value matching the given filter.
+     *
+     * @param filter the topic filter
+     * @param value the value
+     */
+    synchronized void add(String filter, T value) {
+        Node<T> node = root;
+        for (String level : levels(filter)) {
+            Node<T> parent = node;
+            node = node.children.computeIfAbsent(level, l -> new Node<>(parent, l));
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Removes a value added with the given filter.
+     *
+     * @param filter the topic filter
+     * @param value the value
+     * @return whether the value was found
+     */
+    synchronized boolean remove(String filter, T value) {
+        Node<T> node = root;
+        for (String level : levels(filter)) {
+            node = node.children.get(level);
+            if (node == null) {
+                return false;
+            }
+        }
+        boolean removed = node.values.remove(value);
+        // prune the branch of the filter
+        while (node.parent != null && node.values.isEmpty() && node.children.isEmpty()) {
+            node.parent.children.remove(node.level);
+            node = node.parent;
+        }
+        return removed;
+    }
+
+    /**
+     * Invokes the given action for each value whose filter matches the given topic name.
+     *
+     * @param topic the topic name
+     * @param action the action
+     */
+    void match(String topic, Consumer<T> action) {
+        List<String> levels = levels(topic);
+        // wildcards at the first level do not match the topics starting with $
+        boolean system = topic.startsWith("$");
+        match(root, levels, 0, !system, action);
+    }
+
+    private static <T> void match(Node<T> node, List<String> levels, int index, boolean wildcards,
+            Consumer<T> action) {
+        if (wildcards) {
+            Node<T> multi = node.children.get(MULTI_LEVEL);
+            if (multi != null) {
+                multi.values.forEach(action);
+            }
+        }
+        if (index == levels.size()) {
+            node.values.forEach(action);
+            return;
+        }
+        Node<T> exact = node.children.get(levels.get(index));
+        if (exact != null) {
+            match(exact, levels, index + 1, true, action);
+        }
+        if (wildcards) {
+            Node<T> single = node.children.get(SINGLE_LEVEL);
+            if (single != null) {
+                match(single, levels, index + 1, true, action);
+            }
+        }
+    }
+
+    /**
+     * Invokes the given action for each value.
+     *
+     * @param action the action
+     */
+    void forEach(Consumer<T> action) {
+        forEach(root, action);
+    }
+
+    private static <T> void forEach(Node<T> node, Consumer<T> action) {
+        node.values.forEach(action);
+        for (Node<T> child : node.children.values()) {
+            forEach(child, action);
+        }
+    }
+
+    boolean isEmpty() {
+        return root.children.isEmpty() && root.values.isEmpty();
+    }
+
+    /**
+     * Splits a topic name or filter in levels. Unlike {@link String#split(String)}, empty levels are kept.
+     */
+    private static List<String> levels(String topic) {
+        List<String> levels = new ArrayList<>();
+        int start = 0;
+        int index;
+        while ((index = topic.indexOf('/', start)) != -1) {
+            levels.add(topic.substring(start, index));
+            start = index + 1;
+        }
+        levels.add(topic.substring(start));
+        return levels;
+    }
+
+    private static class Node<T> {
+        final Node<T> parent;
+        final String level;
+        final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        final List<T> values = new CopyOnWriteArrayList<>();
+
+        Node(Node<T> parent, String level) {
+            this.parent = parent;
+            this.level = level;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.smallrye.reactive.messaging.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TopicFilterTrieTest {
+
+    private static List<String> match(TopicFilterTrie<String> trie, String topic) {
+        List<String> matches = new ArrayList<>();
+        trie.match(topic, matches::add);
+        return matches;
+    }
+
+    private static TopicFilterTrie<String> trie(String... filters) {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        for (String filter : filters) {
+            trie.add(filter, filter);
+        }
+        return trie;
+    }
+
+    @Test
+    void testExactMatch() {
+        TopicFilterTrie<String> trie = trie("a/b", "a/c", "a");
+        assertThat(match(trie, "a/b")).containsExactly("a/b");
+        assertThat(match(trie, "a")).containsExactly("a");
+        assertThat(match(trie, "a/b/c")).isEmpty();
+        assertThat(match(trie, "b")).isEmpty();
+    }
+
+    @Test
+    void testSingleLevelWildcard() {
+        TopicFilterTrie<String> trie = trie("a/+", "+/b", "a/+/c", "+");
+        assertThat(match(trie, "a/b")).containsExactlyInAnyOrder("a/+", "+/b");
+        assertThat(match(trie, "a/x/c")).containsExactly("a/+/c");
+        assertThat(match(trie, "a")).containsExactly("+");
+        assertThat(match(trie, "a/b/d")).isEmpty();
+        // + matches an empty level
+        assertThat(match(trie, "a/")).containsExactly("a/+");
+    }
+
+    @Test
+    void testMultiLevelWildcard() {
+        TopicFilterTrie<String> trie = trie("a/#", "#", "a/+/#");
+        assertThat(match(trie, "a")).containsExactlyInAnyOrder("a/#", "#");
+        assertThat(match(trie, "a/b")).containsExactlyInAnyOrder("a/#", "#", "a/+/#");
+        assertThat(match(trie, "a/b/c/d")).containsExactlyInAnyOrder("a/#", "#", "a/+/#");
+        assertThat(match(trie, "b/c")).containsExactly("#");
+    }
+
+    @Test
+    void testSystemTopics() {
+        TopicFilterTrie<String> trie = trie("#", "+/monitor", "$SYS/#", "$SYS/+");
+        assertThat(match(trie, "$SYS/monitor")).containsExactlyInAnyOrder("$SYS/#", "$SYS/+");
+        assertThat(match(trie, "app/monitor")).containsExactlyInAnyOrder("#", "+/monitor");
+    }
+
+    @Test
+    void testRemove() {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        trie.add("a/+/c", "first");
+        trie.add("a/+/c", "second");
+        trie.add("a/#", "third");
+
+        assertThat(trie.remove("a/+/c", "first")).isTrue();
+        assertThat(match(trie, "a/b/c")).containsExactlyInAnyOrder("second", "third");
+        assertThat(trie.remove("a/+/c", "first")).isFalse();
+        assertThat(trie.remove("x/y", "first")).isFalse();
+
+        assertThat(trie.remove("a/+/c", "second")).isTrue();
+        assertThat(trie.remove("a/#", "third")).isTrue();
+        assertThat(trie.isEmpty()).isTrue();
+        assertThat(match(trie, "a/b/c")).isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.e
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderLogging.log;
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderMessages.msg;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -14,6 +15,7 @@ import javax.enterprise.inject.Instance;
 
 import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
 import io.smallrye.mutiny.Multi;
@@ -21,11 +23,17 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.Invoker;
 import io.smallrye.reactive.messaging.MediatorConfiguration;
 import io.smallrye.reactive.messaging.MessageConverter;
+import io.smallrye.reactive.messaging.MessageKeyExtractor;
 import io.smallrye.reactive.messaging.providers.connectors.WorkerPoolRegistry;
 import io.smallrye.reactive.messaging.providers.extension.HealthCenter;
 import io.smallrye.reactive.messaging.providers.helpers.BroadcastHelper;
+import io.smallrye.reactive.messaging.providers.helpers.ConverterCache;
 import io.smallrye.reactive.messaging.providers.helpers.ConverterUtils;
+import io.smallrye.reactive.messaging.providers.helpers.MethodHandleInvoker;
+import io.smallrye.reactive.messaging.providers.helpers.MultiUtils;
 import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
 import io.vertx.mutiny.core.Context;
 import io.vertx.mutiny.core.Vertx;
 
@@ -36,7 +44,9 @@ public abstract class AbstractMediator {
     private Invoker invoker;
     private Instance<PublisherDecorator> decorators;
     protected HealthCenter health;
-    private Instance<MessageConverter> converters;
+    private ConverterCache converters;
+    private ChannelMetrics metrics;
+    private MessageKeyExtractor keyExtractor;
 
     public AbstractMediator(MediatorConfiguration configuration) {
         this.configuration = configuration;
@@ -51,9 +61,40 @@ public abstract class AbstractMediator {
     }
 
     public void setConverters(Instance<MessageConverter> converters) {
+        this.converters = new ConverterCache(converters);
+    }
+
+    /**
+     * Sets the converter cache, shared by the mediators.
+     *
+     * @param converters the converter cache
+     */
+    public void setConverters(ConverterCache converters) {
         this.converters = converters;
     }
 
+    /**
+     * Sets the detailed metrics of the incoming channel of this mediator.
+     * Mediators consuming several channels are not instrumented, as the messages cannot be attributed to a channel.
+     *
+     * @param registry the registry of the channel metrics
+     */
+    public void setChannelMetrics(ChannelMetricsRegistry registry) {
+        List<String> incoming = configuration.getIncoming();
+        if (incoming != null && incoming.size() == 1) {
+            this.metrics = registry.get(incoming.get(0));
+        }
+    }
+
+    /**
+     * Sets the key extractor ordering the blocking executions by key.
+     *
+     * @param keyExtractor the key extractor, {@code null} to use the ordering configured on {@code @Blocking}
+     */
+    public void setKeyExtractor(MessageKeyExtractor keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
     public void setWorkerPoolRegistry(WorkerPoolRegistry workerPoolRegistry) {
         this.workerPoolRegistry = workerPoolRegistry;
     }
@@ -74,13 +115,7 @@ public abstract class AbstractMediator {
         // Method overriding initialize MUST call super(bean).
         synchronized (this) {
             if (this.invoker == null) {
-                this.invoker = args -> {
-                    try {
-                        return this.configuration.getMethod().invoke(bean, args);
-                    } catch (Exception e) {
-                        throw ex.processingException(configuration.methodAsString(), e);
-                    }
-                };
+                this.invoker = createInvoker(bean);
             }
         }
         Objects.requireNonNull(this.invoker, msg.invokerNotInitialized());
@@ -89,6 +124,21 @@ public abstract class AbstractMediator {
         }
     }
 
+    private Invoker createInvoker(Object bean) {
+        try {
+            return MethodHandleInvoker.create(configuration.getMethod(), bean, configuration.methodAsString());
+        } catch (IllegalAccessException | RuntimeException e) {
+            // Fallback to reflection
+            return args -> {
+                try {
+                    return this.configuration.getMethod().invoke(bean, args);
+                } catch (Exception e1) {
+                    throw ex.processingException(configuration.methodAsString(), e1);
+                }
+            };
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected <T> T invoke(Object... args) {
         try {
@@ -100,40 +150,163 @@ public abstract class AbstractMediator {
     }
 
     protected <T> Uni<T> invokeOnMessageContext(Message<?> message, Object... args) {
-        return LocalContextMetadata.invokeOnMessageContext(message, x -> invoke(args));
+        return LocalContextMetadata.invokeOnMessageContext(message, x -> invokeAndObserve(args));
     }
 
+    /**
+     * Invokes the method for a message, recording the processing time if detailed metrics are enabled.
+     *
+     * @param args the arguments
+     * @return the result of the invocation
+     */
     @SuppressWarnings("unchecked")
+    protected <T> T invokeAndObserve(Object... args) {
+        if (metrics == null) {
+            return invoke(args);
+        }
+        long start = metrics.processingStarted();
+        Object result;
+        try {
+            result = invoke(args);
+        } catch (RuntimeException e) {
+            metrics.processingCompleted(start);
+            throw e;
+        }
+        if (result instanceof CompletionStage) {
+            return (T) ((CompletionStage<?>) result).whenComplete((x, f) -> metrics.processingCompleted(start));
+        } else if (result instanceof Uni) {
+            return (T) ((Uni<?>) result).onTermination().invoke(() -> metrics.processingCompleted(start));
+        }
+        metrics.processingCompleted(start);
+        return (T) result;
+    }
+
     protected <T> Uni<T> invokeBlocking(Message<?> message, Object... args) {
         try {
             Optional<LocalContextMetadata> metadata = message != null ? message.getMetadata().get(LocalContextMetadata.class)
                     : Optional.empty();
             Context currentContext = metadata.map(m -> Context.newInstance(m.context()))
                     .orElseGet(Vertx::currentContext);
-            return workerPoolRegistry.executeWork(currentContext,
-                    Uni.createFrom().emitter(emitter -> {
-                        try {
-                            Object result = this.invoker.invoke(args);
-                            if (result instanceof CompletionStage) {
-                                ((CompletionStage<?>) result).thenAccept(x -> emitter.complete((T) x));
-                            } else {
-                                emitter.complete((T) result);
-                            }
-                        } catch (RuntimeException e) {
-                            log.methodException(configuration().methodAsString(), e);
-                            emitter.fail(e);
-                        }
-                    }),
-                    configuration.getWorkerPoolName(),
-                    configuration.isBlockingExecutionOrdered());
+            // When ordered by key, the ordering is enforced by the stream, the executions must not be serialized
+            boolean ordered = keyExtractor == null && configuration.isBlockingExecutionOrdered();
+            if (metrics == null) {
+                return workerPoolRegistry.executeWork(currentContext, invokeOnWorker(0L, args),
+                        configuration.getWorkerPoolName(), ordered);
+            }
+            return Uni.createFrom().deferred(() -> workerPoolRegistry.executeWork(currentContext,
+                    invokeOnWorker(System.nanoTime(), args),
+                    configuration.getWorkerPoolName(), ordered));
         } catch (RuntimeException e) {
             log.methodException(configuration().methodAsString(), e);
             throw e;
         }
     }
 
+    /**
+     * Maps the messages with a blocking invocation, according to the configured ordering: ordered by key, ordered or
+     * unordered.
+     *
+     * @param multi the upstream
+     * @param mapper the mapper invoking the blocking method
+     * @return the results
+     */
+    protected <T> Multi<T> transformBlocking(Multi<? extends Message<?>> multi,
+            Function<Message<?>, Uni<? extends T>> mapper) {
+        if (keyExtractor != null) {
+            return MultiUtils.transformToUniOrderedByKey(multi, keyExtractor, configuration.getKeyOrderedConcurrency(),
+                    mapper);
+        } else if (configuration.isBlockingExecutionOrdered()) {
+            return multi.onItem().transformToUniAndConcatenate(mapper);
+        } else {
+            return multi.onItem().transformToUniAndMerge(mapper);
+        }
+    }
+
+    /**
+     * Same as {@link #transformBlocking(Multi, Function)}, with a mapper producing streams.
+     */
+    protected <T> Multi<T> transformBlockingToMulti(Multi<? extends Message<?>> multi,
+            Function<Message<?>, Publisher<? extends T>> mapper) {
+        if (keyExtractor != null) {
+            return MultiUtils.transformToMultiOrderedByKey(multi, keyExtractor, configuration.getKeyOrderedConcurrency(),
+                    mapper);
+        } else if (configuration.isBlockingExecutionOrdered()) {
+            return multi.onItem().transformToMultiAndConcatenate(mapper);
+        } else {
+            return multi.onItem().transformToMultiAndMerge(mapper);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Uni<T> invokeOnWorker(long submitted, Object... args) {
+        return Uni.createFrom().emitter(emitter -> {
+            long start = 0L;
+            if (metrics != null) {
+                metrics.workerWaitTime().recordSince(submitted);
+                start = metrics.processingStarted();
+            }
+            try {
+                Object result = this.invoker.invoke(args);
+                if (result instanceof CompletionStage) {
+                    long started = start;
+                    ((CompletionStage<?>) result).whenComplete((x, f) -> {
+                        if (metrics != null) {
+                            metrics.processingCompleted(started);
+                        }
+                        if (f != null) {
+                            emitter.fail(f);
+                        } else {
+                            emitter.complete((T) x);
+                        }
+                    });
+                } else {
+                    if (metrics != null) {
+                        metrics.processingCompleted(start);
+                    }
+                    emitter.complete((T) result);
+                }
+            } catch (RuntimeException e) {
+                if (metrics != null) {
+                    metrics.processingCompleted(start);
+                }
+                log.methodException(configuration().methodAsString(), e);
+                emitter.fail(e);
+            }
+        });
+    }
+
+    /**
+     * Acknowledges the given message, recording the acknowledgement time if detailed metrics are enabled.
+     *
+     * @param message the message
+     * @return the acknowledgement completion stage
+     */
+    protected CompletionStage<Void> ack(Message<?> message) {
+        if (metrics == null) {
+            return message.ack();
+        }
+        long start = System.nanoTime();
+        return metrics.observeAck(start, message.ack());
+    }
+
+    /**
+     * Negatively acknowledges the given message, recording the negative acknowledgement time if detailed metrics are
+     * enabled.
+     *
+     * @param message the message
+     * @param reason the failure
+     * @return the negative acknowledgement completion stage
+     */
+    protected CompletionStage<Void> nack(Message<?> message, Throwable reason) {
+        if (metrics == null) {
+            return message.nack(reason);
+        }
+        long start = System.nanoTime();
+        return metrics.observeNack(start, message.nack(reason));
+    }
+
     protected CompletionStage<Message<?>> getAckOrCompletion(Message<?> message) {
-        CompletionStage<Void> ack = message.ack();
+        CompletionStage<Void> ack = ack(message);
         if (ack != null) {
             return ack.thenApply(x -> message);
         } else {
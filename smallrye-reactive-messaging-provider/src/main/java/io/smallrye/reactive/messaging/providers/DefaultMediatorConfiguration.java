@@ -21,11 +21,13 @@ import org.eclipse.microprofile.reactive.messaging.Outgoing;
 
 import io.smallrye.reactive.messaging.Invoker;
 import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.MessageKeyExtractor;
 import io.smallrye.reactive.messaging.Shape;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.annotations.Broadcast;
 import io.smallrye.reactive.messaging.annotations.Incomings;
 import io.smallrye.reactive.messaging.annotations.Merge;
+import io.smallrye.reactive.messaging.annotations.OrderedBy;
 import io.smallrye.reactive.messaging.providers.helpers.TypeUtils;
 import io.smallrye.reactive.messaging.providers.helpers.Validation;
 
@@ -74,6 +76,10 @@ public class DefaultMediatorConfiguration implements MediatorConfiguration {
 
     private boolean isOrderedExecution;
 
+    private Class<? extends MessageKeyExtractor> keyExtractorClass;
+
+    private int keyOrderedConcurrency = -1;
+
     private final MediatorConfigurationSupport mediatorConfigurationSupport;
 
     private Type ingestedPayloadType;
@@ -161,6 +167,14 @@ public class DefaultMediatorConfiguration implements MediatorConfiguration {
             this.mediatorConfigurationSupport.validateBlocking(validationOutput);
         }
 
+        OrderedBy orderedBy = method.getAnnotation(OrderedBy.class);
+        if (orderedBy != null) {
+            this.mediatorConfigurationSupport.validateOrderedBy(this.isBlocking, validationOutput,
+                    orderedBy.maxConcurrency());
+            this.keyExtractorClass = orderedBy.value();
+            this.keyOrderedConcurrency = orderedBy.maxConcurrency();
+        }
+
         ingestedPayloadType = validationOutput.getIngestedPayloadType();
     }
 
@@ -263,6 +277,16 @@ public class DefaultMediatorConfiguration implements MediatorConfiguration {
         return isOrderedExecution;
     }
 
+    @Override
+    public Class<? extends MessageKeyExtractor> getKeyExtractorClass() {
+        return keyExtractorClass;
+    }
+
+    @Override
+    public int getKeyOrderedConcurrency() {
+        return keyOrderedConcurrency;
+    }
+
     @Override
     public Class<? extends Invoker> getInvokerClass() {
         return null;
@@ -604,6 +604,15 @@ public class MediatorConfigurationSupport {
         }
     }
 
+    public void validateOrderedBy(boolean blocking, ValidationOutput validationOutput, int maxConcurrency) {
+        if (!blocking || validationOutput.consumption.equals(MediatorConfiguration.Consumption.NONE)) {
+            throw ex.definitionOrderedByOnlyBlocking(methodAsString);
+        }
+        if (maxConcurrency <= 0) {
+            throw ex.definitionOrderedByInvalidConcurrency(methodAsString, maxConcurrency);
+        }
+    }
+
     public void strict() {
         this.strict = true;
     }
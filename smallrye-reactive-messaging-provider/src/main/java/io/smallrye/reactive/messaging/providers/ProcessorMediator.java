@@ -167,13 +167,14 @@ public class ProcessorMediator extends AbstractMediator {
     @SuppressWarnings("unchecked")
     private void processMethodReturningAPublisherBuilderOfMessageAndConsumingMessages() {
         this.mapper = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                .onItem().transformToMultiAndConcatenate(msg -> ((PublisherBuilder<Message<?>>) invoke(msg)).buildRs());
+                .onItem().transformToMultiAndConcatenate(
+                        msg -> ((PublisherBuilder<Message<?>>) invokeAndObserve(msg)).buildRs());
     }
 
     @SuppressWarnings("unchecked")
     private void processMethodReturningAPublisherOfMessageAndConsumingMessages() {
         this.mapper = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                .onItem().transformToMultiAndConcatenate(msg -> ((Publisher<Message<?>>) invoke(msg)));
+                .onItem().transformToMultiAndConcatenate(msg -> ((Publisher<Message<?>>) invokeAndObserve(msg)));
     }
 
     private void processMethodReturningAProcessorBuilderOfMessages() {
@@ -229,7 +230,7 @@ public class ProcessorMediator extends AbstractMediator {
         this.mapper = upstream -> {
             Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
             return multi.onItem().transformToMultiAndConcatenate(message -> {
-                PublisherBuilder<?> pb = invoke(message.getPayload());
+                PublisherBuilder<?> pb = invokeAndObserve(message.getPayload());
                 return Multi.createFrom().publisher(pb.buildRs())
                         .onItem().transform(payload -> Message.of(payload, message.getMetadata()));
                 // TODO We can handle post-acknowledgement here. -> onCompletion
@@ -241,7 +242,7 @@ public class ProcessorMediator extends AbstractMediator {
         this.mapper = upstream -> {
             Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
             return multi.onItem().transformToMultiAndConcatenate(message -> {
-                Publisher<?> pub = invoke(message.getPayload());
+                Publisher<?> pub = invokeAndObserve(message.getPayload());
                 return Multi.createFrom().publisher(pub)
                         .onItem().transform(payload -> Message.of(payload, message.getMetadata()));
                 // TODO We can handle post-acknowledgement here. -> onCompletion
@@ -252,27 +253,14 @@ public class ProcessorMediator extends AbstractMediator {
     private void processMethodReturningIndividualMessageAndConsumingIndividualItem() {
         // Item can be a message or a payload
         if (configuration.isBlocking()) {
-            if (configuration.isBlockingExecutionOrdered()) {
-                this.mapper = upstream -> {
-                    Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
-                    return multi
-                            .onItem()
-                            .transformToMultiAndConcatenate(message -> invokeBlocking(message, withPayloadOrMessage(message))
-                                    .onItemOrFailure()
-                                    .transformToUni((o, t) -> this.handlePostInvocationWithMessage((Message<?>) o, t))
-                                    .onItem().transformToMulti(this::handleSkip));
-                };
-            } else {
-                this.mapper = upstream -> {
-                    Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
-                    return multi
-                            .onItem().transformToMultiAndMerge(message -> invokeBlocking(message, withPayloadOrMessage(message))
-                                    .onItemOrFailure()
-                                    .transformToUni((o, t) -> this.handlePostInvocationWithMessage((Message<?>) o, t))
-                                    .onItem().transformToMulti(this::handleSkip));
-                };
-            }
-
+            this.mapper = upstream -> {
+                Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
+                return transformBlockingToMulti(multi,
+                        message -> invokeBlocking(message, withPayloadOrMessage(message))
+                                .onItemOrFailure()
+                                .transformToUni((o, t) -> this.handlePostInvocationWithMessage((Message<?>) o, t))
+                                .onItem().transformToMulti(this::handleSkip));
+            };
         } else {
             this.mapper = upstream -> {
                 Multi<? extends Message<?>> multi = MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration);
@@ -293,19 +281,11 @@ public class ProcessorMediator extends AbstractMediator {
     private void processMethodReturningIndividualPayloadAndConsumingIndividualItem() {
         // Item can be message or payload.
         if (configuration.isBlocking()) {
-            if (configuration.isBlockingExecutionOrdered()) {
-                this.mapper = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem()
-                        .transformToMultiAndConcatenate(message -> invokeBlocking(message, withPayloadOrMessage(message))
-                                .onItemOrFailure().transformToUni((r, f) -> handlePostInvocation(message, r, f))
-                                .onItem().transformToMulti(this::handleSkip));
-            } else {
-                this.mapper = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToMultiAndMerge(message -> invokeBlocking(message, withPayloadOrMessage(message))
-                                .onItemOrFailure().transformToUni((r, f) -> handlePostInvocation(message, r, f))
-                                .onItem().transformToMulti(this::handleSkip));
-            }
-
+            this.mapper = upstream -> transformBlockingToMulti(
+                    MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration),
+                    message -> invokeBlocking(message, withPayloadOrMessage(message))
+                            .onItemOrFailure().transformToUni((r, f) -> handlePostInvocation(message, r, f))
+                            .onItem().transformToMulti(this::handleSkip));
         } else {
             this.mapper = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
                     .onItem().transformToMultiAndConcatenate(
@@ -327,7 +307,7 @@ public class ProcessorMediator extends AbstractMediator {
         if (fail != null) {
             if (isPostAck()) {
                 return Uni.createFrom()
-                        .completionStage(message.nack(fail).thenApply(x -> null));
+                        .completionStage(nack(message, fail).thenApply(x -> null));
             } else {
                 throw ex.processingException(getMethodAsString(), fail);
             }
@@ -341,7 +321,7 @@ public class ProcessorMediator extends AbstractMediator {
             // the method returned null, the message is not forwarded, but we ack the message in post ack
             if (isPostAck()) {
                 return Uni.createFrom()
-                        .completionStage(message.ack().thenApply(x -> null));
+                        .completionStage(ack(message).thenApply(x -> null));
             } else {
                 return Uni.createFrom().nullItem();
             }
@@ -153,19 +153,12 @@ public class SubscriberMediator extends AbstractMediator {
     private void processMethodReturningVoid() {
         this.subscriber = IgnoringSubscriber.INSTANCE;
         if (configuration.isBlocking()) {
-            if (configuration.isBlockingExecutionOrdered()) {
-                this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndConcatenate(msg -> invokeBlocking(msg, msg.getPayload())
-                                .onItemOrFailure().transformToUni(handleInvocationResult(msg)))
-                        .onFailure()
-                        .invoke(failure -> health.reportApplicationFailure(configuration.methodAsString(), failure));
-            } else {
-                this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndMerge(msg -> invokeBlocking(msg, msg.getPayload())
-                                .onItemOrFailure().transformToUni(handleInvocationResult(msg)))
-                        .onFailure()
-                        .invoke(failure -> health.reportApplicationFailure(configuration.methodAsString(), failure));
-            }
+            this.function = upstream -> this.<Message<?>> transformBlocking(
+                    MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration),
+                    msg -> invokeBlocking(msg, msg.getPayload())
+                            .onItemOrFailure().transformToUni(handleInvocationResult(msg)))
+                    .onFailure()
+                    .invoke(failure -> health.reportApplicationFailure(configuration.methodAsString(), failure));
         } else {
             this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
                     .onItem()
@@ -181,7 +174,7 @@ public class SubscriberMediator extends AbstractMediator {
         return (success, failure) -> {
             if (failure != null) {
                 if (configuration.getAcknowledgment() == Acknowledgment.Strategy.POST_PROCESSING) {
-                    return Uni.createFrom().completionStage(m.nack(failure).thenApply(x -> m));
+                    return Uni.createFrom().completionStage(nack(m, failure).thenApply(x -> m));
                 } else {
                     // Invocation failed, but the message may have been already acknowledged (PRE or MANUAL), so
                     // we cannot nack. We propagate the failure downstream.
@@ -189,7 +182,7 @@ public class SubscriberMediator extends AbstractMediator {
                 }
             } else {
                 if (configuration.getAcknowledgment() == Acknowledgment.Strategy.POST_PROCESSING) {
-                    return Uni.createFrom().completionStage(m.ack().thenApply(x -> m));
+                    return Uni.createFrom().completionStage(ack(m).thenApply(x -> m));
                 } else {
                     return Uni.createFrom().item(m);
                 }
@@ -201,15 +194,10 @@ public class SubscriberMediator extends AbstractMediator {
         this.subscriber = IgnoringSubscriber.INSTANCE;
         boolean invokeWithPayload = MediatorConfiguration.Consumption.PAYLOAD == configuration.consumption();
         if (configuration.isBlocking()) {
-            if (configuration.isBlockingExecutionOrdered()) {
-                this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndConcatenate(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
-                        .onFailure().invoke(this::reportFailure);
-            } else {
-                this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndMerge(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
-                        .onFailure().invoke(this::reportFailure);
-            }
+            this.function = upstream -> this.<Message<?>> transformBlocking(
+                    MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration),
+                    msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
+                    .onFailure().invoke(this::reportFailure);
         } else {
             this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
                     .onItem().transformToUniAndConcatenate(msg -> {
@@ -246,15 +234,10 @@ public class SubscriberMediator extends AbstractMediator {
         this.subscriber = IgnoringSubscriber.INSTANCE;
         boolean invokeWithPayload = MediatorConfiguration.Consumption.PAYLOAD == configuration.consumption();
         if (configuration.isBlocking()) {
-            if (configuration.isBlockingExecutionOrdered()) {
-                this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndConcatenate(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
-                        .onFailure().invoke(this::reportFailure);
-            } else {
-                this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
-                        .onItem().transformToUniAndMerge(msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
-                        .onFailure().invoke(this::reportFailure);
-            }
+            this.function = upstream -> this.<Message<?>> transformBlocking(
+                    MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration),
+                    msg -> invokeBlockingAndHandleOutcome(invokeWithPayload, msg))
+                    .onFailure().invoke(this::reportFailure);
         } else {
             this.function = upstream -> MultiUtils.handlePreProcessingAcknowledgement(upstream, configuration)
                     .onItem().transformToUniAndConcatenate(msg -> {
@@ -291,9 +274,9 @@ public class SubscriberMediator extends AbstractMediator {
                     (m, t) -> {
                         if (configuration.getAcknowledgment() == Acknowledgment.Strategy.POST_PROCESSING) {
                             if (t != null) {
-                                return m.nack(t);
+                                return nack(m, t);
                             } else {
-                                return m.ack();
+                                return ack(m);
                             }
                         } else {
                             CompletableFuture<Void> future = new CompletableFuture<>();
@@ -0,0 +1,139 @@
+package io.smallrye.reactive.messaging.providers.connectors;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
+import io.vertx.mutiny.core.Context;
+
+/**
+ * Executes blocking work on virtual threads.
+ * <p>
+ * Each execution gets its own thread. The number of concurrent executions is limited by {@code maxConcurrency},
+ * executions exceeding the limit are queued until a running execution completes.
+ * Ordered executions submitted from the same Vert.x context run one after the other, like
+ * {@link io.vertx.core.Context#executeBlocking(io.vertx.core.Handler, boolean)}.
+ * The work runs without a current Vert.x context, results are emitted on the submitting context.
+ * <p>
+ * Virtual threads are looked up reflectively, as they require Java 21 (or Java 19 and 20 with preview features
+ * enabled). {@link #createVirtualThreadFactory(String)} returns {@code null} when they are not available.
+ */
+public class VirtualThreadWorker {
+
+    private final ThreadFactory threadFactory;
+    private final int maxConcurrency;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final TaskQueue orderedTasks = new TaskQueue();
+
+    /**
+     * @param threadFactory the factory creating the threads, one per execution
+     * @param maxConcurrency the maximum number of concurrent executions, 0 or less for no limit
+     */
+    public VirtualThreadWorker(ThreadFactory threadFactory, int maxConcurrency) {
+        this.threadFactory = threadFactory;
+        this.maxConcurrency = maxConcurrency <= 0 ? Integer.MAX_VALUE : maxConcurrency;
+    }
+
+    /**
+     * Creates a factory of virtual threads.
+     *
+     * @param prefix the prefix of the thread names
+     * @return the factory, {@code null} if the JVM does not support virtual threads
+     */
+    public static ThreadFactory createVirtualThreadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (Exception | LinkageError e) {
+            // Not supported (Java < 19), or preview features not enabled
+            return null;
+        }
+    }
+
+    public <T> Uni<T> executeBlocking(Context context, Uni<T> uni, boolean ordered) {
+        return Uni.createFrom().emitter(emitter -> {
+            Runnable task = () -> {
+                try {
+                    T item = uni.await().indefinitely();
+                    if (context == null) {
+                        emitter.complete(item);
+                    } else {
+                        context.runOnContext(() -> emitter.complete(item));
+                    }
+                } catch (Throwable failure) {
+                    if (context == null) {
+                        emitter.fail(failure);
+                    } else {
+                        context.runOnContext(() -> emitter.fail(failure));
+                    }
+                }
+            };
+            if (ordered) {
+                getOrderedTasks(context).execute(task, this::submit);
+            } else {
+                submit(task);
+            }
+        });
+    }
+
+    private TaskQueue getOrderedTasks(Context context) {
+        if (context == null) {
+            return orderedTasks;
+        }
+        return (TaskQueue) ((ContextInternal) context.getDelegate()).contextData()
+                .computeIfAbsent(this, k -> new TaskQueue());
+    }
+
+    private void submit(Runnable task) {
+        pending.offer(task);
+        drain();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                // a running execution drains the queue on completion
+                return;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                Runnable task = pending.poll();
+                if (task == null) {
+                    running.decrementAndGet();
+                } else {
+                    threadFactory.newThread(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            running.decrementAndGet();
+                            drain();
+                        }
+                    }).start();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of executions currently running
+     */
+    public int running() {
+        return running.get();
+    }
+
+    /**
+     * @return the number of executions waiting for the concurrency limit
+     */
+    public int pending() {
+        return pending.size();
+    }
+}
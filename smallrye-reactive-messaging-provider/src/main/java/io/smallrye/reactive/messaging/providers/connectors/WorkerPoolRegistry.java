@@ -11,6 +11,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -37,6 +38,9 @@ import io.vertx.mutiny.core.WorkerExecutor;
 public class WorkerPoolRegistry {
     private static final String WORKER_CONFIG_PREFIX = "smallrye.messaging.worker";
     private static final String WORKER_CONCURRENCY = "max-concurrency";
+    private static final String WORKER_VIRTUAL_THREADS = "virtual-threads";
+    private static final String DEFAULT_VIRTUAL_THREADS = "smallrye.messaging.blocking.virtual-threads";
+    private static final String DEFAULT_VIRTUAL_THREADS_CONCURRENCY = DEFAULT_VIRTUAL_THREADS + "." + WORKER_CONCURRENCY;
 
     @Inject
     private Instance<ExecutionHolder> executionHolder;
@@ -46,6 +50,7 @@ public class WorkerPoolRegistry {
 
     private final Map<String, Integer> workerConcurrency = new HashMap<>();
     private final Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+    private final Map<String, VirtualThreadWorker> virtualThreadWorkers = new ConcurrentHashMap<>();
     private ExecutionHolder holder;
 
     public void terminate(
@@ -64,6 +69,13 @@ public class WorkerPoolRegistry {
         } else {
             this.holder = executionHolder.get();
         }
+        if (configInstance.isResolvable()) {
+            Config config = configInstance.get();
+            if (config.getOptionalValue(DEFAULT_VIRTUAL_THREADS, Boolean.class).orElse(false)) {
+                defineVirtualThreadWorker(Blocking.DEFAULT_WORKER_POOL,
+                        config.getOptionalValue(DEFAULT_VIRTUAL_THREADS_CONCURRENCY, Integer.class).orElse(-1));
+            }
+        }
     }
 
     public <T> Uni<T> executeWork(Context currentContext, Uni<T> uni, String workerName, boolean ordered) {
@@ -72,6 +84,11 @@ public class WorkerPoolRegistry {
         }
         Objects.requireNonNull(uni, msg.actionNotProvided());
 
+        VirtualThreadWorker virtualThreadWorker = getVirtualThreadWorker(workerName);
+        if (virtualThreadWorker != null) {
+            return virtualThreadWorker.executeBlocking(currentContext, uni, ordered);
+        }
+
         if (workerName == null) {
             if (currentContext != null) {
                 return currentContext.executeBlocking(Uni.createFrom().deferred(() -> uni), ordered);
@@ -125,6 +142,27 @@ public class WorkerPoolRegistry {
         throw ex.illegalArgumentForFailedWorker();
     }
 
+    private VirtualThreadWorker getVirtualThreadWorker(String workerName) {
+        if (virtualThreadWorkers.isEmpty()) {
+            return null;
+        }
+        return virtualThreadWorkers.get(workerName == null ? Blocking.DEFAULT_WORKER_POOL : workerName);
+    }
+
+    private void defineVirtualThreadWorker(String poolName, int concurrency) {
+        if (virtualThreadWorkers.containsKey(poolName)) {
+            return;
+        }
+        String name = poolName.equals(Blocking.DEFAULT_WORKER_POOL) ? "smallrye-virtual-worker" : poolName;
+        ThreadFactory factory = VirtualThreadWorker.createVirtualThreadFactory(name + "-");
+        if (factory == null) {
+            log.virtualThreadsNotSupported(name);
+        } else {
+            virtualThreadWorkers.put(poolName, new VirtualThreadWorker(factory, concurrency));
+            log.virtualThreadWorkerCreated(name, concurrency);
+        }
+    }
+
     public <T> void analyzeWorker(AnnotatedType<T> annotatedType) {
         Objects.requireNonNull(annotatedType, msg.annotatedTypeWasEmpty());
 
@@ -154,6 +192,11 @@ public class WorkerPoolRegistry {
             }
 
             workerConcurrency.put(poolName, concurrency.get());
+
+            String virtualThreadsKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_VIRTUAL_THREADS;
+            if (configInstance.get().getOptionalValue(virtualThreadsKey, Boolean.class).orElse(false)) {
+                defineVirtualThreadWorker(poolName, concurrency.get());
+            }
         }
     }
 
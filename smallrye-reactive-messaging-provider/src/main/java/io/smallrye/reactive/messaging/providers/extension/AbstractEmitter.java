@@ -2,6 +2,10 @@ package io.smallrye.reactive.messaging.providers.extension;
 
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -16,8 +20,15 @@ import io.smallrye.reactive.messaging.EmitterConfiguration;
 import io.smallrye.reactive.messaging.MessagePublisherProvider;
 import io.smallrye.reactive.messaging.providers.helpers.BroadcastHelper;
 import io.smallrye.reactive.messaging.providers.helpers.NoStackTraceException;
+import io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
 
 public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T> {
+    /**
+     * Configuration property enabling the lock-free emitters, see {@link MpscEmitter}.
+     */
+    public static final String LOCK_FREE_PROPERTY = "smallrye.messaging.emitter.lock-free";
+
     public static final NoStackTraceException NO_SUBSCRIBER_EXCEPTION = new NoStackTraceException(
             "Unable to process message - no subscriber");
     protected final AtomicReference<MultiEmitter<? super Message<? extends T>>> internal = new AtomicReference<>();
@@ -28,10 +39,31 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
     protected final AtomicReference<Throwable> synchronousFailure = new AtomicReference<>();
     private final OnOverflow.Strategy overflow;
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Whether the emissions go through a lock-free {@link MpscEmitter} instead of being serialized by the emitter
+     * monitor.
+     */
+    private final boolean lockFree;
+
     public AbstractEmitter(EmitterConfiguration config, long defaultBufferSize) {
+        this(config, defaultBufferSize, false, null);
+    }
+
+    /**
+     * Creates the emitter.
+     *
+     * @param config the emitter configuration
+     * @param defaultBufferSize the buffer size used when not configured on the emitter
+     * @param lockFree whether the emitter can be called concurrently without locking
+     * @param metrics the detailed metrics of the channel, used to report the buffered messages of a lock-free
+     *        emitter, {@code null} if not enabled
+     */
+    @SuppressWarnings("unchecked")
+    public AbstractEmitter(EmitterConfiguration config, long defaultBufferSize, boolean lockFree,
+            ChannelMetrics metrics) {
         this.name = config.name();
         this.overflow = config.overflowBufferStrategy();
+        this.lockFree = lockFree;
         if (defaultBufferSize <= 0) {
             throw ex.illegalArgumentForDefaultBuffer();
         }
@@ -44,7 +76,10 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
         };
 
         Multi<Message<? extends T>> tempPublisher;
-        if (config.overflowBufferStrategy() == null) {
+        if (lockFree) {
+            tempPublisher = getLockFreePublisher(config.overflowBufferStrategy(), config.overflowBufferSize(),
+                    defaultBufferSize, deferred, metrics);
+        } else if (config.overflowBufferStrategy() == null) {
             Multi<Message<? extends T>> multi = Multi.createFrom().emitter(deferred, BackPressureStrategy.BUFFER);
             tempPublisher = getPublisherUsingBufferStrategy(defaultBufferSize, multi);
         } else {
@@ -121,6 +156,26 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
         }
     }
 
+    /**
+     * Creates the stream of a lock-free emitter.
+     * <p>
+     * Without overflow strategy, the stream fails once {@code defaultBufferSize} messages are waiting for downstream
+     * requests, as the default buffering stream.
+     */
+    Multi<Message<? extends T>> getLockFreePublisher(OnOverflow.Strategy overFlowStrategy, long bufferSize,
+            long defaultBufferSize, Consumer<MultiEmitter<? super Message<? extends T>>> deferred,
+            ChannelMetrics metrics) {
+        if (overFlowStrategy == null) {
+            return MpscEmitter.create(deferred, OnOverflow.Strategy.FAIL, defaultBufferSize, metrics)
+                    .onFailure().invoke(synchronousFailure::set);
+        }
+        long size = 0;
+        if (overFlowStrategy == OnOverflow.Strategy.BUFFER) {
+            size = bufferSize > 0 ? bufferSize : defaultBufferSize;
+        }
+        return MpscEmitter.create(deferred, overFlowStrategy, size, metrics);
+    }
+
     /**
      * Creates the stream when using the default buffer size.
      *
@@ -141,11 +196,20 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
         return publisher;
     }
 
-    protected synchronized void emit(Message<? extends T> message) {
+    protected void emit(Message<? extends T> message) {
         if (message == null) {
             throw ex.illegalArgumentForNullValue();
         }
+        if (lockFree) {
+            doEmit(message);
+        } else {
+            synchronized (this) {
+                doEmit(message);
+            }
+        }
+    }
 
+    private void doEmit(Message<? extends T> message) {
         MultiEmitter<? super Message<? extends T>> emitter = verify();
         if (emitter == null) {
             if (overflow == OnOverflow.Strategy.DROP) {
@@ -167,6 +231,109 @@ public abstract class AbstractEmitter<T> implements MessagePublisherProvider<T>
         }
     }
 
+    /**
+     * Emits a batch of messages, verifying the state of the emitter once for the whole batch.
+     * <p>
+     * With the {@link OnOverflow.Strategy#THROW_EXCEPTION THROW_EXCEPTION} and {@link OnOverflow.Strategy#BUFFER
+     * BUFFER} strategies, the capacity is reserved for the whole batch: either all the messages are emitted, or none of
+     * them are and an exception is thrown.
+     *
+     * @param messages the messages, must not contain {@code null}
+     */
+    protected void emitBatch(List<? extends Message<? extends T>> messages) {
+        if (lockFree) {
+            doEmitBatch(messages);
+        } else {
+            synchronized (this) {
+                doEmitBatch(messages);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void doEmitBatch(List<? extends Message<? extends T>> messages) {
+        MultiEmitter<? super Message<? extends T>> emitter = verify();
+        if (emitter == null) {
+            if (overflow == OnOverflow.Strategy.DROP) {
+                // There are no subscribers, but because we use the DROP strategy, just ignore the events.
+                // However, nack the messages, so the sender can be aware of the rejection.
+                messages.forEach(m -> m.nack(NO_SUBSCRIBER_EXCEPTION));
+            }
+            return;
+        }
+        if (synchronousFailure.get() != null) {
+            throw ex.incomingNotFoundForEmitter(synchronousFailure.get());
+        }
+        if (emitter.isCancelled()) {
+            throw ex.illegalStateForDownstreamCancel();
+        }
+        if (emitter instanceof ThrowingEmitter) {
+            ((ThrowingEmitter<Message<? extends T>>) emitter).emitAll(messages);
+        } else if (emitter instanceof MpscEmitter) {
+            ((MpscEmitter<Message<? extends T>>) emitter).emitAll(messages);
+        } else {
+            for (Message<? extends T> message : messages) {
+                emitter.emit(message);
+            }
+        }
+        if (synchronousFailure.get() != null) {
+            throw ex.illegalStateForEmitterWhileEmitting(synchronousFailure.get());
+        }
+    }
+
+    /**
+     * Creates the messages of a batch of payloads.
+     * <p>
+     * The given callbacks are invoked once for the whole batch: {@code onAck} when all the messages have been
+     * acknowledged, {@code onNack} when the first message is negatively acknowledged.
+     *
+     * @param payloads the payloads, must not contain {@code null}
+     * @param onAck the action invoked once all the messages are acknowledged
+     * @param onNack the action invoked when the first message is negatively acknowledged
+     * @return the messages
+     */
+    protected List<Message<? extends T>> createBatch(List<T> payloads, Runnable onAck,
+            Consumer<Throwable> onNack) {
+        AtomicInteger remaining = new AtomicInteger(payloads.size());
+        List<Message<? extends T>> messages = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            messages.add(ContextAwareMessage.of(payload)
+                    .withAck(() -> {
+                        if (remaining.decrementAndGet() == 0) {
+                            onAck.run();
+                        }
+                        return CompletableFuture.completedFuture(null);
+                    }).withNack(reason -> {
+                        // Only report the first failure
+                        if (remaining.getAndSet(-1) > 0) {
+                            onNack.accept(reason);
+                        }
+                        return CompletableFuture.completedFuture(null);
+                    }));
+        }
+        return messages;
+    }
+
+    /**
+     * Copies the given items into a list, checking that none of them is {@code null}.
+     *
+     * @param items the items, must not be {@code null}
+     * @return the list of items
+     */
+    protected static <I> List<I> copyOf(Iterable<I> items) {
+        if (items == null) {
+            throw ex.illegalArgumentForNullValue();
+        }
+        List<I> list = new ArrayList<>();
+        for (I item : items) {
+            if (item == null) {
+                throw ex.illegalArgumentForNullValue();
+            }
+            list.add(item);
+        }
+        return list;
+    }
+
     protected MultiEmitter<? super Message<? extends T>> verify() {
         MultiEmitter<? super Message<? extends T>> emitter = internal.get();
         if (emitter == null) {
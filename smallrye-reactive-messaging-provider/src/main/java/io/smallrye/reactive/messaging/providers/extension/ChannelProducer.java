@@ -9,6 +9,7 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
@@ -28,6 +29,7 @@ import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.ChannelRegistry;
 import io.smallrye.reactive.messaging.MessageConverter;
 import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.providers.helpers.ConverterCache;
 import io.smallrye.reactive.messaging.providers.helpers.TypeUtils;
 import io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions;
 
@@ -45,6 +47,16 @@ public class ChannelProducer {
     // @Any would only be needed if we wanted to allow implementations with qualifiers
     Instance<MessageConverter> converters;
 
+    /**
+     * Converter resolutions shared by all the channel injection points.
+     */
+    private ConverterCache converterCache;
+
+    @PostConstruct
+    void init() {
+        converterCache = new ConverterCache(converters);
+    }
+
     /**
      * Injects {@code Multi<Message<X>>} and {@code Multi<X>}. It also matches the injection of
      * {@code Publisher<Message<X>>} and {@code Publisher<X>}.
@@ -63,10 +75,11 @@ public class ChannelProducer {
             if (payloadType == null) {
                 return cast(getPublisher(injectionPoint));
             } else {
-                return cast(convert(getPublisher(injectionPoint), converters, getRawTypeIfParameterized(payloadType)));
+                return cast(convert(getPublisher(injectionPoint), converterCache,
+                        getRawTypeIfParameterized(payloadType)));
             }
         } else {
-            return cast(convert(getPublisher(injectionPoint), converters, getRawTypeIfParameterized(first))
+            return cast(convert(getPublisher(injectionPoint), converterCache, getRawTypeIfParameterized(first))
                     .onItem().call(m -> Uni.createFrom().completionStage(m.ack()))
                     .onItem().transform(Message::getPayload)
                     .broadcast().toAllSubscribers());
@@ -1,19 +1,37 @@
 package io.smallrye.reactive.messaging.providers.extension;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 
 import io.smallrye.reactive.messaging.EmitterConfiguration;
 import io.smallrye.reactive.messaging.EmitterFactory;
 import io.smallrye.reactive.messaging.annotations.EmitterFactoryFor;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
 
 @EmitterFactoryFor(Emitter.class)
 @ApplicationScoped
 // Wildcard parameterized type is not a legal managed bean
 public class EmitterFactoryImpl implements EmitterFactory<EmitterImpl<Object>> {
+
+    @Inject
+    @ConfigProperty(name = AbstractEmitter.LOCK_FREE_PROPERTY, defaultValue = "false")
+    boolean lockFree;
+
+    @Inject
+    Instance<ChannelMetricsRegistry> channelMetrics;
+
     @Override
     public EmitterImpl<Object> createEmitter(EmitterConfiguration configuration, long defaultBufferSize) {
+        if (lockFree) {
+            ChannelMetrics metrics = channelMetrics.isResolvable() ? channelMetrics.get().get(configuration.name())
+                    : null;
+            return new EmitterImpl<>(configuration, defaultBufferSize, true, metrics);
+        }
         return new EmitterImpl<>(configuration, defaultBufferSize);
     }
 }
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.providers.extension;
 
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -10,6 +11,7 @@ import org.eclipse.microprofile.reactive.messaging.Message;
 
 import io.smallrye.reactive.messaging.EmitterConfiguration;
 import io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
 
 /**
  * Implementation of the emitter pattern.
@@ -22,8 +24,12 @@ public class EmitterImpl<T> extends AbstractEmitter<T> implements Emitter<T> {
         super(config, defaultBufferSize);
     }
 
+    public EmitterImpl(EmitterConfiguration config, long defaultBufferSize, boolean lockFree, ChannelMetrics metrics) {
+        super(config, defaultBufferSize, lockFree, metrics);
+    }
+
     @Override
-    public synchronized CompletionStage<Void> send(T payload) {
+    public CompletionStage<Void> send(T payload) {
         if (payload == null) {
             throw ex.illegalArgumentForNullValue();
         }
@@ -40,11 +46,29 @@ public class EmitterImpl<T> extends AbstractEmitter<T> implements Emitter<T> {
     }
 
     @Override
-    public synchronized <M extends Message<? extends T>> void send(M msg) {
+    public <M extends Message<? extends T>> void send(M msg) {
         if (msg == null) {
             throw ex.illegalArgumentForNullValue();
         }
         emit(msg);
     }
 
+    @Override
+    public CompletionStage<Void> sendBatch(Iterable<T> payloads) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        List<Message<? extends T>> messages = createBatch(copyOf(payloads),
+                () -> future.complete(null), future::completeExceptionally);
+        if (messages.isEmpty()) {
+            future.complete(null);
+        } else {
+            emitBatch(messages);
+        }
+        return future;
+    }
+
+    @Override
+    public <M extends Message<? extends T>> void sendMessages(List<M> msgs) {
+        emitBatch(copyOf(msgs));
+    }
+
 }
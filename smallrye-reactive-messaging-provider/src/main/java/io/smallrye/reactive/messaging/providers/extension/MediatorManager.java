@@ -6,6 +6,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.*;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.*;
@@ -22,6 +23,9 @@ import io.smallrye.reactive.messaging.providers.AbstractMediator;
 import io.smallrye.reactive.messaging.providers.MediatorFactory;
 import io.smallrye.reactive.messaging.providers.PublisherDecorator;
 import io.smallrye.reactive.messaging.providers.connectors.WorkerPoolRegistry;
+import io.smallrye.reactive.messaging.providers.helpers.ConverterCache;
+import io.smallrye.reactive.messaging.providers.helpers.StartupTasks;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
 import io.smallrye.reactive.messaging.providers.wiring.Graph;
 import io.smallrye.reactive.messaging.providers.wiring.Wiring;
 
@@ -52,10 +56,18 @@ public class MediatorManager {
     // @Any would only be needed if we wanted to allow implementations with qualifiers
     Instance<MessageConverter> converters;
 
+    /**
+     * Converter resolutions shared by all the mediators.
+     */
+    private ConverterCache converterCache;
+
     private final List<EmitterConfiguration> emitters = new ArrayList<>();
 
     @Inject
     HealthCenter health;
+
+    @Inject
+    Instance<ChannelMetricsRegistry> channelMetrics;
     private final List<ChannelConfiguration> channels = new ArrayList<>();
     @Inject
     ChannelRegistry registry;
@@ -69,6 +81,15 @@ public class MediatorManager {
     @ConfigProperty(name = STRICT_MODE_PROPERTY, defaultValue = "false")
     boolean strictMode;
 
+    @Inject
+    @ConfigProperty(name = StartupTasks.STARTUP_PARALLELISM_PROPERTY, defaultValue = "1")
+    int startupParallelism;
+
+    @PostConstruct
+    void init() {
+        converterCache = new ConverterCache(converters);
+    }
+
     public <T> void analyze(AnnotatedType<T> annotatedType, Bean<T> bean) {
 
         if (strictMode) {
@@ -162,9 +183,12 @@ public class MediatorManager {
     public AbstractMediator createMediator(MediatorConfiguration configuration) {
         AbstractMediator mediator = mediatorFactory.create(configuration);
         mediator.setDecorators(decorators);
-        mediator.setConverters(converters);
+        mediator.setConverters(converterCache);
         mediator.setHealth(health);
         mediator.setWorkerPoolRegistry(workerPoolRegistry);
+        if (channelMetrics.isResolvable()) {
+            mediator.setChannelMetrics(channelMetrics.get());
+        }
 
         try {
             Object beanInstance = beanManager.getReference(configuration.getBean(), Object.class,
@@ -187,6 +211,10 @@ public class MediatorManager {
                 }
             }
 
+            if (configuration.getKeyExtractorClass() != null) {
+                mediator.setKeyExtractor(createKeyExtractor(configuration.getKeyExtractorClass()));
+            }
+
             mediator.initialize(beanInstance);
         } catch (Throwable e) {
             log.unableToInitializeMediator(mediator.getMethodAsString(), e);
@@ -195,6 +223,14 @@ public class MediatorManager {
         return mediator;
     }
 
+    private MessageKeyExtractor createKeyExtractor(Class<? extends MessageKeyExtractor> clazz) throws Exception {
+        Instance<? extends MessageKeyExtractor> instance = beanManager.createInstance().select(clazz);
+        if (instance.isResolvable()) {
+            return instance.get();
+        }
+        return clazz.getDeclaredConstructor().newInstance();
+    }
+
     public void start() {
         // Register connectors and other "ends" managed externally.
         registars.stream().forEach(ChannelRegistar::initialize);
@@ -210,7 +246,7 @@ public class MediatorManager {
             throw composite;
         }
 
-        graph.materialize(registry);
+        graph.materialize(registry, startupParallelism);
 
         health.markInitialized();
     }
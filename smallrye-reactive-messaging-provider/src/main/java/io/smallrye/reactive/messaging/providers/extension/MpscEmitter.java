@@ -0,0 +1,416 @@
+package io.smallrye.reactive.messaging.providers.extension;
+
+import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
+
+/**
+ * A {@link MultiEmitter} which can be called concurrently by many producers without locking.
+ * <p>
+ * The emitted items are enqueued in a multi-producer single-consumer lock-free queue, and are passed downstream by a
+ * drain loop run by whichever thread wins the work-in-progress counter. The producers never block: the overflow
+ * strategies decide at emission time what to do with an item when downstream has not requested enough items.
+ * <ul>
+ * <li>{@code BUFFER}: up to {@code bufferSize} items are buffered beyond the downstream requests, then the emission
+ * throws an {@link IllegalStateException}</li>
+ * <li>{@code THROW_EXCEPTION}: same as {@code BUFFER} without buffer</li>
+ * <li>{@code UNBOUNDED_BUFFER}: all the items are buffered</li>
+ * <li>{@code DROP}: the items emitted without downstream requests are dropped</li>
+ * <li>{@code LATEST}: only the latest item emitted without downstream requests is kept</li>
+ * <li>{@code FAIL}: up to {@code bufferSize} items are buffered beyond the downstream requests, then the stream is
+ * failed with a {@link BackPressureFailure}</li>
+ * <li>{@code NONE}: the items are passed downstream regardless of the requests</li>
+ * </ul>
+ * The order of the items emitted by the same thread is kept.
+ * <p>
+ * The stream is not terminated while an emission is in progress, so an item accepted concurrently with
+ * {@link #complete()} or {@link #fail(Throwable)} is passed downstream before the termination. An item emitted once the
+ * emitter is completed or failed is rejected with an {@link IllegalStateException}.
+ *
+ * @param <T> the type to emit
+ */
+class MpscEmitter<T> implements MultiEmitter<T>, Subscription {
+
+    private final MultiSubscriber<? super T> downstream;
+    private final OnOverflow.Strategy strategy;
+
+    private final Queue<T> queue = Queues.createMpscQueue();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * The number of emissions in progress. The drain loop does not terminate the stream while it is not 0.
+     */
+    private final AtomicInteger emitting = new AtomicInteger();
+
+    /**
+     * Stores the current downstream demand.
+     */
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * The number of items which can still be accepted by the bounded strategies: the buffer size, plus the downstream
+     * requests, minus the accepted items.
+     */
+    private final AtomicLong credits;
+    private final boolean bounded;
+
+    /**
+     * The number of items emitted but not yet passed downstream, used for metrics.
+     */
+    private final LongAdder buffered = new LongAdder();
+
+    /**
+     * With the {@code LATEST} strategy, the latest item collapsed from the queue while downstream had no demand.
+     * Only accessed by the drain loop.
+     */
+    private T latest;
+
+    private final AtomicReference<Runnable> onTermination = new AtomicReference<>();
+    private final Runnable unregisterQueue;
+
+    private volatile boolean done;
+    private volatile Throwable failure;
+    /**
+     * Set when the {@code FAIL} strategy overflows, the failure is then passed downstream without waiting for the
+     * buffered items to be requested.
+     */
+    private volatile boolean overflowed;
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a {@link Multi} passing each subscriber a new {@link MpscEmitter} through the given consumer.
+     *
+     * @param deferred the consumer receiving the emitter of each subscriber
+     * @param strategy the overflow strategy
+     * @param bufferSize the buffer size, used by the {@code BUFFER} and {@code FAIL} strategies
+     * @param metrics the detailed metrics of the channel, {@code null} if not enabled
+     * @param <T> the type to emit
+     * @return the multi
+     */
+    static <T> Multi<T> create(Consumer<MultiEmitter<? super T>> deferred, OnOverflow.Strategy strategy,
+            long bufferSize, ChannelMetrics metrics) {
+        return new AbstractMulti<T>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super T> subscriber) {
+                MpscEmitter<T> emitter = new MpscEmitter<>(subscriber, strategy, bufferSize, metrics);
+                subscriber.onSubscribe(emitter);
+                deferred.accept(emitter);
+            }
+        };
+    }
+
+    MpscEmitter(MultiSubscriber<? super T> downstream, OnOverflow.Strategy strategy, long bufferSize,
+            ChannelMetrics metrics) {
+        this.downstream = downstream;
+        this.strategy = strategy;
+        switch (strategy) {
+            case BUFFER:
+            case FAIL:
+                this.bounded = true;
+                this.credits = new AtomicLong(bufferSize);
+                break;
+            case THROW_EXCEPTION:
+            case DROP:
+                this.bounded = true;
+                this.credits = new AtomicLong();
+                break;
+            case UNBOUNDED_BUFFER:
+            case LATEST:
+            case NONE:
+                this.bounded = false;
+                this.credits = null;
+                break;
+            default:
+                throw ex.illegalArgumentForBackPressure(strategy);
+        }
+        this.unregisterQueue = metrics == null ? null : metrics.registerQueue(buffered::sum);
+    }
+
+    @Override
+    public MultiEmitter<T> emit(T item) {
+        emitting.getAndIncrement();
+        try {
+            if (!verify()) {
+                return this;
+            }
+            if (bounded && !acquire(1)) {
+                reject();
+                return this;
+            }
+            buffered.increment();
+            queue.offer(item);
+        } finally {
+            emitting.decrementAndGet();
+            // also signals the termination deferred while this emission was in progress
+            drain();
+        }
+        return this;
+    }
+
+    /**
+     * Emits the given items. With the {@code BUFFER} and {@code THROW_EXCEPTION} strategies, the capacity is reserved
+     * for all the items at once: either all of them are emitted, or none of them are and an exception is thrown.
+     *
+     * @param items the items to emit
+     */
+    void emitAll(List<? extends T> items) {
+        emitting.getAndIncrement();
+        try {
+            if (!verify()) {
+                return;
+            }
+            boolean reserved = false;
+            if (strategy == OnOverflow.Strategy.BUFFER || strategy == OnOverflow.Strategy.THROW_EXCEPTION) {
+                if (!acquire(items.size())) {
+                    reject();
+                }
+                reserved = true;
+            }
+            for (T item : items) {
+                if (done) {
+                    // failed by the FAIL strategy
+                    break;
+                }
+                if (bounded && !reserved && !acquire(1)) {
+                    reject();
+                    continue;
+                }
+                buffered.increment();
+                queue.offer(item);
+            }
+        } finally {
+            emitting.decrementAndGet();
+            drain();
+        }
+    }
+
+    /**
+     * Checks whether an item can be emitted. Must be called once the emission is counted in {@link #emitting}, so
+     * the stream cannot be terminated before the item is enqueued.
+     *
+     * @return {@code false} if downstream has cancelled, the item is then ignored
+     * @throws IllegalStateException if the emitter has been completed or failed
+     */
+    private boolean verify() {
+        if (cancelled) {
+            return false;
+        }
+        if (done) {
+            throw ex.illegalStateForTerminatedEmitter();
+        }
+        return true;
+    }
+
+    private boolean acquire(long count) {
+        long current;
+        do {
+            current = credits.get();
+            if (current == Long.MAX_VALUE) {
+                return true;
+            }
+            if (current < count) {
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - count));
+        return true;
+    }
+
+    private void reject() {
+        switch (strategy) {
+            case DROP:
+                // Drop the item
+                break;
+            case FAIL:
+                if (!done && !cancelled) {
+                    failure = new BackPressureFailure("Could not emit item downstream due to lack of requests");
+                    overflowed = true;
+                    done = true;
+                    drain();
+                }
+                break;
+            default:
+                throw ex.illegalStateInsufficientDownstreamRequests();
+        }
+    }
+
+    @Override
+    public void fail(Throwable failure) {
+        if (done || cancelled) {
+            return;
+        }
+        this.failure = failure;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void complete() {
+        if (done || cancelled) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public MultiEmitter<T> onTermination(Runnable onTermination) {
+        this.onTermination.set(onTermination);
+        return this;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public long requested() {
+        return requested.get();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            fail(Subscriptions.getInvalidRequestException());
+            return;
+        }
+        Subscriptions.add(requested, n);
+        if (bounded) {
+            Subscriptions.add(credits, n);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            long r = strategy == OnOverflow.Strategy.NONE ? Long.MAX_VALUE : requested.get();
+            long e = 0L;
+            if (overflowed) {
+                clear();
+                downstream.onFailure(failure);
+                return;
+            }
+            while (e != r) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                // done is read before emitting, see verify()
+                boolean d = done && emitting.get() == 0;
+                T item = poll();
+                if (item == null) {
+                    if (d) {
+                        terminate();
+                        return;
+                    }
+                    break;
+                }
+                buffered.decrement();
+                downstream.onItem(item);
+                e++;
+            }
+
+            if (e == r) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                if (done && emitting.get() == 0 && latest == null && queue.isEmpty()) {
+                    terminate();
+                    return;
+                }
+            }
+
+            if (e != 0 && r != Long.MAX_VALUE) {
+                Subscriptions.produced(requested, e);
+            }
+            if (strategy == OnOverflow.Strategy.LATEST && requested.get() == 0) {
+                collapse();
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private T poll() {
+        T item = latest;
+        if (item != null) {
+            latest = null;
+            return item;
+        }
+        return queue.poll();
+    }
+
+    /**
+     * Keeps only the latest of the items waiting for downstream requests.
+     */
+    private void collapse() {
+        T item;
+        while ((item = queue.poll()) != null) {
+            if (latest != null) {
+                buffered.decrement();
+            }
+            latest = item;
+        }
+    }
+
+    private void clear() {
+        latest = null;
+        queue.clear();
+        buffered.reset();
+        unregister();
+    }
+
+    private void terminate() {
+        unregister();
+        Throwable f = failure;
+        if (f != null) {
+            downstream.onFailure(f);
+        } else {
+            downstream.onCompletion();
+        }
+    }
+
+    private void unregister() {
+        if (unregisterQueue != null) {
+            unregisterQueue.run();
+        }
+        Runnable action = onTermination.getAndSet(null);
+        if (action != null) {
+            action.run();
+        }
+    }
+}
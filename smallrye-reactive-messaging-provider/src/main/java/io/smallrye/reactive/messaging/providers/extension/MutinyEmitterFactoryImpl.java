@@ -1,18 +1,37 @@
 package io.smallrye.reactive.messaging.providers.extension;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.smallrye.reactive.messaging.EmitterConfiguration;
 import io.smallrye.reactive.messaging.EmitterFactory;
 import io.smallrye.reactive.messaging.MutinyEmitter;
 import io.smallrye.reactive.messaging.annotations.EmitterFactoryFor;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
 
 @EmitterFactoryFor(MutinyEmitter.class)
 @ApplicationScoped
 // Wildcard parameterized type is not a legal managed bean
 public class MutinyEmitterFactoryImpl implements EmitterFactory<MutinyEmitterImpl<Object>> {
+
+    @Inject
+    @ConfigProperty(name = AbstractEmitter.LOCK_FREE_PROPERTY, defaultValue = "false")
+    boolean lockFree;
+
+    @Inject
+    Instance<ChannelMetricsRegistry> channelMetrics;
+
     @Override
     public MutinyEmitterImpl<Object> createEmitter(EmitterConfiguration configuration, long defaultBufferSize) {
+        if (lockFree) {
+            ChannelMetrics metrics = channelMetrics.isResolvable() ? channelMetrics.get().get(configuration.name())
+                    : null;
+            return new MutinyEmitterImpl<>(configuration, defaultBufferSize, true, metrics);
+        }
         return new MutinyEmitterImpl<>(configuration, defaultBufferSize);
     }
 }
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.providers.extension;
 
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -13,6 +14,7 @@ import io.smallrye.reactive.messaging.EmitterConfiguration;
 import io.smallrye.reactive.messaging.MutinyEmitter;
 import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 import io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 
@@ -21,6 +23,11 @@ public class MutinyEmitterImpl<T> extends AbstractEmitter<T> implements MutinyEm
         super(config, defaultBufferSize);
     }
 
+    public MutinyEmitterImpl(EmitterConfiguration config, long defaultBufferSize, boolean lockFree,
+            ChannelMetrics metrics) {
+        super(config, defaultBufferSize, lockFree, metrics);
+    }
+
     @Override
     @CheckReturnValue
     public Uni<Void> send(T payload) {
@@ -73,4 +80,41 @@ public class MutinyEmitterImpl<T> extends AbstractEmitter<T> implements MutinyEm
             // Do nothing.
         }, ProviderLogging.log::failureEmittingMessage);
     }
+
+    @Override
+    @CheckReturnValue
+    public Uni<Void> sendBatch(Iterable<T> payloads) {
+        List<T> list = copyOf(payloads);
+
+        // If we are running on a Vert.x I/O thread, we need to capture the context to switch back
+        // during the emission.
+        Context context = Vertx.currentContext();
+        Uni<Void> uni = Uni.createFrom().emitter(e -> {
+            if (list.isEmpty()) {
+                e.complete(null);
+            } else {
+                emitBatch(createBatch(list, () -> e.complete(null), e::fail));
+            }
+        });
+        if (context != null) {
+            uni = uni.emitOn(runnable -> context.runOnContext(x -> runnable.run()));
+        }
+        return uni;
+    }
+
+    @Override
+    public <M extends Message<? extends T>> void sendMessages(List<M> msgs) {
+        List<M> list = copyOf(msgs);
+        Uni.createFrom().emitter(e -> {
+            try {
+                emitBatch(list);
+            } catch (Exception t) {
+                // Capture synchronous exception and nack the messages.
+                list.forEach(m -> m.nack(t));
+                throw t;
+            }
+        }).subscribe().with(x -> {
+            // Do nothing.
+        }, ProviderLogging.log::failureEmittingMessage);
+    }
 }
@@ -2,6 +2,7 @@ package io.smallrye.reactive.messaging.providers.extension;
 
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -64,6 +65,28 @@ class ThrowingEmitter<T> implements MultiEmitter<T> {
         return this;
     }
 
+    /**
+     * Emits the given items if there are enough requests from downstream for all of them, otherwise none of them are
+     * emitted.
+     *
+     * @param items the items to emit
+     */
+    void emitAll(List<? extends T> items) {
+        long count = items.size();
+        // Reserve the requests for all the items at once
+        long requests;
+        do {
+            requests = requested.get();
+            if (requests < count) {
+                throw ex.illegalStateInsufficientDownstreamRequests();
+            }
+        } while (!requested.compareAndSet(requests, requests - count));
+
+        for (T item : items) {
+            delegate.emit(item);
+        }
+    }
+
     public void fail(Throwable failure) {
         delegate.fail(failure);
     }
@@ -0,0 +1,100 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.inject.Instance;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.reactive.messaging.MessageConverter;
+
+/**
+ * Resolves the {@link MessageConverter} converting a message to a target payload type, and caches the resolution per
+ * (payload class, target type).
+ * <p>
+ * The resolution is cached per payload class, so messages with different payload classes flowing to the same
+ * injection point each use their own converter. The cache is a map owned by this instance rather than a
+ * {@link ClassValue}, which would keep the converters, and so the CDI container, reachable from classes such as
+ * {@code String} after the application is stopped. When the payload is already assignable to the target type, the
+ * resolution is cached as the {@link MessageConverter.IdentityConverter}.
+ * <p>
+ * A converter may decide from the message metadata, so only the converters having accepted a message are cached, and
+ * a cached converter is checked again against each message. If it cannot convert the message, the converters are
+ * looked up as if nothing was cached. When no converter can convert a message, the message is passed as it is and
+ * nothing is cached.
+ * <p>
+ * A cache is meant to be shared by all the consumers of the same {@link MessageConverter} instances, such as the
+ * channel injection points or the mediators.
+ */
+public class ConverterCache {
+
+    private final Instance<MessageConverter> converters;
+
+    /**
+     * The converters sorted by priority, lazily computed.
+     */
+    private volatile List<MessageConverter> sorted;
+
+    private final Map<Class<?>, Map<Type, MessageConverter>> resolved = new ConcurrentHashMap<>();
+
+    public ConverterCache(Instance<MessageConverter> converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * Converts the given message so its payload matches the given type.
+     *
+     * @param message the message
+     * @param target the target payload type
+     * @return the converted message, or the given message if the payload is already of the given type or if no
+     *         converter can convert it
+     */
+    public Message<?> convert(Message<?> message, Type target) {
+        Object payload = message.getPayload();
+        if (payload == null) {
+            // cannot be cached, as the resolution depends on the message
+            return lookup(message, target).convert(message, target);
+        }
+        Class<?> type = payload.getClass();
+        if (type.equals(target)) {
+            return message;
+        }
+        Map<Type, MessageConverter> cache = resolved.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+        MessageConverter converter = cache.get(target);
+        if (converter == MessageConverter.IdentityConverter.INSTANCE
+                || (converter != null && converter.canConvert(message, target))) {
+            return converter.convert(message, target);
+        }
+        if (TypeUtils.isAssignable(type, target)) {
+            cache.put(target, MessageConverter.IdentityConverter.INSTANCE);
+            return message;
+        }
+        converter = lookup(message, target);
+        if (converter != MessageConverter.IdentityConverter.INSTANCE) {
+            cache.put(target, converter);
+        }
+        return converter.convert(message, target);
+    }
+
+    private MessageConverter lookup(Message<?> message, Type target) {
+        for (MessageConverter converter : getSortedConverters()) {
+            if (converter.canConvert(message, target)) {
+                return converter;
+            }
+        }
+        // No converter found, the message is passed as it is
+        return MessageConverter.IdentityConverter.INSTANCE;
+    }
+
+    private List<MessageConverter> getSortedConverters() {
+        List<MessageConverter> list = sorted;
+        if (list == null) {
+            list = ConverterUtils.getSortedConverters(converters);
+            sorted = list;
+        }
+        return list;
+    }
+}
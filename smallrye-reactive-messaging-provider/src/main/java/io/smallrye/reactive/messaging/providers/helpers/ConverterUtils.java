@@ -4,7 +4,6 @@ import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.enterprise.inject.Instance;
@@ -23,47 +22,27 @@ public class ConverterUtils {
 
     public static Multi<? extends Message<?>> convert(Multi<? extends Message<?>> upstream,
             Instance<MessageConverter> converters, Type injectedPayloadType) {
-        if (injectedPayloadType != null) {
-            return upstream
-                    .map(new Function<Message<?>, Message<?>>() {
-
-                        MessageConverter actual;
-
-                        @Override
-                        public Message<?> apply(Message<?> o) {
-                            //noinspection ConstantConditions - it can be `null`
-                            if (injectedPayloadType == null) {
-                                return o;
-                            } else if (o.getPayload() != null && o.getPayload().getClass().equals(injectedPayloadType)) {
-                                return o;
-                            }
+        return convert(upstream, new ConverterCache(converters), injectedPayloadType);
+    }
 
-                            if (actual != null) {
-                                // Use the cached converter.
-                                return actual.convert(o, injectedPayloadType);
-                            } else {
-                                if (o.getPayload() != null
-                                        && TypeUtils.isAssignable(o.getPayload().getClass(), injectedPayloadType)) {
-                                    actual = MessageConverter.IdentityConverter.INSTANCE;
-                                    return o;
-                                }
-                                // Lookup and cache
-                                for (MessageConverter conv : getSortedConverters(converters)) {
-                                    if (conv.canConvert(o, injectedPayloadType)) {
-                                        actual = conv;
-                                        return actual.convert(o, injectedPayloadType);
-                                    }
-                                }
-                                // No converter found
-                                return o;
-                            }
-                        }
-                    });
+    /**
+     * Converts the payload of the messages of the given stream to the given type, resolving the converters using the
+     * given (possibly shared) cache.
+     *
+     * @param upstream the stream
+     * @param converters the converter cache
+     * @param injectedPayloadType the expected payload type, if {@code null} the stream is returned as it is
+     * @return the stream of converted messages
+     */
+    public static Multi<? extends Message<?>> convert(Multi<? extends Message<?>> upstream,
+            ConverterCache converters, Type injectedPayloadType) {
+        if (injectedPayloadType != null) {
+            return upstream.map(m -> converters.convert(m, injectedPayloadType));
         }
         return upstream;
     }
 
-    private static List<MessageConverter> getSortedConverters(Instance<MessageConverter> converters) {
+    static List<MessageConverter> getSortedConverters(Instance<MessageConverter> converters) {
         if (converters.isUnsatisfied()) {
             return Collections.emptyList();
         }
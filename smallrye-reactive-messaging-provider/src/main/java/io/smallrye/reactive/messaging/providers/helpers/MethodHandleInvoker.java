@@ -0,0 +1,86 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import io.smallrye.reactive.messaging.Invoker;
+
+/**
+ * {@link Invoker} calling the mediator method through a {@link MethodHandle} bound to the bean instance.
+ * <p>
+ * The handle is resolved once, when the mediator is initialized, and adapted to the generic {@code (Object...)Object}
+ * shape. Methods with up to 2 parameters are invoked without spreading the argument array, so the hot path is a direct
+ * call which, unlike {@link Method#invoke(Object, Object...)}, does not re-check the access nor copy the arguments.
+ * <p>
+ * Failures are reported as with reflection: the exception thrown by the method is wrapped into an
+ * {@link InvocationTargetException}, itself wrapped into a
+ * {@link io.smallrye.reactive.messaging.providers.ProcessingException}.
+ */
+public class MethodHandleInvoker implements Invoker {
+
+    private static final int MAX_SPECIALIZED_ARITY = 2;
+
+    private final String methodAsString;
+    private final int arity;
+    private final MethodHandle handle;
+
+    private MethodHandleInvoker(String methodAsString, int arity, MethodHandle handle) {
+        this.methodAsString = methodAsString;
+        this.arity = arity;
+        this.handle = handle;
+    }
+
+    /**
+     * Creates the invoker for the given method.
+     *
+     * @param method the method, must be accessible
+     * @param bean the bean instance on which the method is invoked, ignored for static methods
+     * @param methodAsString the method description used in the failure messages
+     * @return the invoker
+     * @throws IllegalAccessException if the method is not accessible
+     */
+    public static MethodHandleInvoker create(Method method, Object bean, String methodAsString)
+            throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(bean);
+        }
+        int arity = method.getParameterCount();
+        if (arity <= MAX_SPECIALIZED_ARITY) {
+            handle = handle.asType(MethodType.genericMethodType(arity));
+        } else {
+            handle = handle.asSpreader(Object[].class, arity)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        }
+        return new MethodHandleInvoker(methodAsString, arity, handle);
+    }
+
+    @Override
+    public Object invoke(Object... args) {
+        int length = args == null ? 0 : args.length;
+        if (length != arity) {
+            throw ex.processingException(methodAsString,
+                    new IllegalArgumentException("wrong number of arguments: " + length + " expected: " + arity));
+        }
+        try {
+            switch (arity) {
+                case 0:
+                    return (Object) handle.invokeExact();
+                case 1:
+                    return (Object) handle.invokeExact(args[0]);
+                case 2:
+                    return (Object) handle.invokeExact(args[0], args[1]);
+                default:
+                    return (Object) handle.invokeExact(args);
+            }
+        } catch (Throwable t) {
+            throw ex.processingException(methodAsString, new InvocationTargetException(t));
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package io.smallrye.reactive.messaging.providers.helpers;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.MessageKeyExtractor;
 
 public class MultiUtils {
 
@@ -30,4 +35,50 @@ public class MultiUtils {
                 }));
     }
 
+    /**
+     * Maps the messages with the given function, preserving the order of the messages having the same key.
+     * <p>
+     * Keys are hashed into {@code concurrency} lanes. Each lane maps its messages one after the other, and the lanes
+     * run concurrently.
+     *
+     * @param multi the upstream
+     * @param extractor the key extractor
+     * @param concurrency the number of lanes
+     * @param mapper the mapper
+     * @return the merged results of the lanes
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> Multi<T> transformToUniOrderedByKey(Multi<? extends Message<?>> multi,
+            MessageKeyExtractor extractor, int concurrency, Function<Message<?>, Uni<? extends T>> mapper) {
+        return ((Multi<Message<?>>) multi).group().by(m -> lane(extractor.extractKey(m), concurrency))
+                .onItem().transformToMulti(lane -> (Multi) lane.onItem().transformToUniAndConcatenate(mapper))
+                .merge(concurrency);
+    }
+
+    /**
+     * Same as {@link #transformToUniOrderedByKey(Multi, MessageKeyExtractor, int, Function)}, with a mapper producing
+     * streams.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> Multi<T> transformToMultiOrderedByKey(Multi<? extends Message<?>> multi,
+            MessageKeyExtractor extractor, int concurrency, Function<Message<?>, Publisher<? extends T>> mapper) {
+        return ((Multi<Message<?>>) multi).group().by(m -> lane(extractor.extractKey(m), concurrency))
+                .onItem().transformToMulti(lane -> (Multi) lane.onItem().transformToMultiAndConcatenate(mapper))
+                .merge(concurrency);
+    }
+
+    static int lane(Object key, int lanes) {
+        int hash;
+        // arrays, such as the serialized keys of the records, use identity hash codes
+        if (key instanceof byte[]) {
+            hash = Arrays.hashCode((byte[]) key);
+        } else if (key instanceof Object[]) {
+            hash = Arrays.deepHashCode((Object[]) key);
+        } else {
+            hash = Objects.hashCode(key);
+        }
+        hash ^= (hash >>> 16);
+        return (hash & Integer.MAX_VALUE) % lanes;
+    }
+
 }
@@ -0,0 +1,87 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.ex;
+import static io.smallrye.reactive.messaging.providers.i18n.ProviderLogging.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent startup tasks, such as the creation of the connector channels or the materialization of the graph
+ * components, with a bounded parallelism.
+ * <p>
+ * With a parallelism of 1, the tasks are run serially on the caller thread, in order. Otherwise, the tasks are run on
+ * a temporary thread pool, and the caller thread waits for all of them to complete, so the tasks never outlive the
+ * call. If some tasks fail, the failure of the first failing task (in the task order) is rethrown, with the other
+ * failures added as suppressed exceptions.
+ */
+public class StartupTasks {
+
+    /**
+     * The configuration property setting the maximum number of channel components started concurrently.
+     * Defaults to 1, which starts the components serially.
+     */
+    public static final String STARTUP_PARALLELISM_PROPERTY = "smallrye.messaging.startup.parallelism";
+
+    private StartupTasks() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Runs the given tasks and waits for their completion.
+     *
+     * @param tasks the tasks
+     * @param parallelism the maximum number of tasks run concurrently
+     */
+    public static void run(List<? extends Runnable> tasks, int parallelism) {
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        int threads = Math.min(parallelism, tasks.size());
+        log.parallelStartup(tasks.size(), threads);
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-reactive-messaging-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            Throwable failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else if (failure != e.getCause()) {
+                        failure.addSuppressed(e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    throw ex.illegalStateInterruptedStartup(e);
+                }
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw ex.illegalStateStartupFailure(failure);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
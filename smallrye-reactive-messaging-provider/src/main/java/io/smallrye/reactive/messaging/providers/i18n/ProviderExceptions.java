@@ -278,4 +278,19 @@ public interface ProviderExceptions {
 
     @Message(id = 87, value = "The bean %s implements a connector interface but does not use the @Connector qualifier")
     DefinitionException missingConnectorQualifier(String clazz);
+
+    @Message(id = 88, value = "Invalid method annotated with @OrderedBy: %s - The @OrderedBy annotation is only supported on @Blocking methods consuming an individual Message or payload")
+    DefinitionException definitionOrderedByOnlyBlocking(String methodAsString);
+
+    @Message(id = 89, value = "Invalid method annotated with @OrderedBy: %s - `maxConcurrency` must be greater than 0, found %d")
+    DefinitionException definitionOrderedByInvalidConcurrency(String methodAsString, int concurrency);
+
+    @Message(id = 90, value = "Interrupted while starting the channels")
+    IllegalStateException illegalStateInterruptedStartup(@Cause Throwable cause);
+
+    @Message(id = 91, value = "Unable to start the channels")
+    IllegalStateException illegalStateStartupFailure(@Cause Throwable cause);
+
+    @Message(id = 92, value = "The emitter has been completed or failed, the item cannot be emitted")
+    IllegalStateException illegalStateForTerminatedEmitter();
 }
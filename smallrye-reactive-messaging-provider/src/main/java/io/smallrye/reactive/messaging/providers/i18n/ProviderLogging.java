@@ -129,4 +129,16 @@ public interface ProviderLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 238, value = "No ExecutionHolder, disabling @Blocking support")
     void noExecutionHolderDisablingBlockingSupport();
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 239, value = "Worker pool `%s` runs on virtual threads, max concurrency: %d")
+    void virtualThreadWorkerCreated(String workerName, int concurrency);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 240, value = "Virtual threads are not supported by this JVM, the worker pool `%s` uses platform threads")
+    void virtualThreadsNotSupported(String workerName);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 241, value = "Starting %d channel components with a parallelism of %d")
+    void parallelStartup(int count, int parallelism);
 }
@@ -4,6 +4,7 @@ import static io.smallrye.reactive.messaging.providers.i18n.ProviderExceptions.e
 import static io.smallrye.reactive.messaging.providers.i18n.ProviderLogging.log;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Any;
@@ -22,6 +23,7 @@ import io.smallrye.reactive.messaging.ChannelRegistry;
 import io.smallrye.reactive.messaging.connector.InboundConnector;
 import io.smallrye.reactive.messaging.connector.OutboundConnector;
 import io.smallrye.reactive.messaging.providers.PublisherDecorator;
+import io.smallrye.reactive.messaging.providers.helpers.StartupTasks;
 
 /**
  * Look for stream factories and get instances.
@@ -126,33 +128,52 @@ public class ConfiguredChannelFactory implements ChannelRegistar {
 
     void register(Map<String, ConnectorConfig> incomings, Map<String, ConnectorConfig> outgoings) {
         try {
+            Map<String, ConnectorConfig> enabledIncomings = new LinkedHashMap<>();
             for (Map.Entry<String, ConnectorConfig> entry : incomings.entrySet()) {
                 String channel = entry.getKey();
                 ConnectorConfig config = entry.getValue();
                 if (config.getOptionalValue(ConnectorConfig.CHANNEL_ENABLED_PROPERTY, Boolean.TYPE).orElse(true)) {
-                    registry.register(channel, createPublisher(channel, config),
-                            config.getOptionalValue(ConnectorConfig.BROADCAST_PROPERTY, Boolean.class).orElse(false));
+                    enabledIncomings.put(channel, config);
                 } else {
                     log.incomingChannelDisabled(channel);
                 }
             }
-
+            Map<String, ConnectorConfig> enabledOutgoings = new LinkedHashMap<>();
             for (Map.Entry<String, ConnectorConfig> entry : outgoings.entrySet()) {
                 String channel = entry.getKey();
                 ConnectorConfig config = entry.getValue();
                 if (config.getOptionalValue(ConnectorConfig.CHANNEL_ENABLED_PROPERTY, Boolean.TYPE).orElse(true)) {
-                    registry.register(channel, createSubscriber(channel, config),
-                            config.getOptionalValue(ConnectorConfig.MERGE_PROPERTY, Boolean.class).orElse(false));
+                    enabledOutgoings.put(channel, config);
                 } else {
                     log.outgoingChannelDisabled(channel);
                 }
             }
+
+            // The connectors may contact the brokers when creating the channels, so the channels are created
+            // concurrently when a startup parallelism is configured, and then registered in order.
+            Map<String, Publisher<? extends Message<?>>> publishers = new ConcurrentHashMap<>();
+            Map<String, Subscriber<? extends Message<?>>> subscribers = new ConcurrentHashMap<>();
+            List<Runnable> tasks = new ArrayList<>();
+            enabledIncomings.forEach((channel, config) -> tasks
+                    .add(() -> publishers.put(channel, createPublisher(channel, config))));
+            enabledOutgoings.forEach((channel, config) -> tasks
+                    .add(() -> subscribers.put(channel, createSubscriber(channel, config))));
+            StartupTasks.run(tasks, getStartupParallelism());
+
+            enabledIncomings.forEach((channel, config) -> registry.register(channel, publishers.get(channel),
+                    config.getOptionalValue(ConnectorConfig.BROADCAST_PROPERTY, Boolean.class).orElse(false)));
+            enabledOutgoings.forEach((channel, config) -> registry.register(channel, subscribers.get(channel),
+                    config.getOptionalValue(ConnectorConfig.MERGE_PROPERTY, Boolean.class).orElse(false)));
         } catch (RuntimeException e) { // NOSONAR
             log.unableToCreatePublisherOrSubscriber(e);
             throw e;
         }
     }
 
+    private int getStartupParallelism() {
+        return config.getOptionalValue(StartupTasks.STARTUP_PARALLELISM_PROPERTY, Integer.class).orElse(1);
+    }
+
     private static String getConnectorAttribute(Config config) {
         // This method looks for connector and type.
         // The availability has been checked when the config object has been created
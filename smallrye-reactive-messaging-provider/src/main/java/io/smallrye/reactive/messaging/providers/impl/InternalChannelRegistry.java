@@ -27,7 +27,7 @@ public class InternalChannelRegistry implements ChannelRegistry {
     private final Map<Class<?>, Map<String, Object>> emitters = new HashMap<>();
 
     @Override
-    public Publisher<? extends Message<?>> register(String name,
+    public synchronized Publisher<? extends Message<?>> register(String name,
             Publisher<? extends Message<?>> stream, boolean broadcast) {
         Objects.requireNonNull(name, msg.nameMustBeSet());
         Objects.requireNonNull(stream, msg.streamMustBeSet());
@@ -0,0 +1,164 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Detailed metrics of a channel, recorded by the mediators consuming the channel and by the connectors.
+ * <ul>
+ * <li>processing time: duration of the invocations of the method consuming the channel, including the completion of
+ * the returned {@code CompletionStage} or {@code Uni}</li>
+ * <li>worker wait time: for blocking methods, time spent waiting for a worker thread</li>
+ * <li>ack and nack time: time taken by the acknowledgement (or negative acknowledgement) of the messages</li>
+ * <li>in-flight: number of invocations in progress</li>
+ * <li>queued: number of messages received by the connector, or sent to a lock-free emitter, but not yet
+ * dispatched</li>
+ * <li>pauses and resumes: number of times the connector paused and resumed the reception of messages</li>
+ * </ul>
+ * Recording is lock-free, exporting the metrics is done by the metric decorators.
+ */
+public class ChannelMetrics {
+
+    public static final String PROCESSING_TIME = "mp.messaging.message.processing.time";
+    public static final String WORKER_WAIT_TIME = "mp.messaging.message.worker.wait.time";
+    public static final String ACK_TIME = "mp.messaging.message.ack.time";
+    public static final String NACK_TIME = "mp.messaging.message.nack.time";
+    public static final String IN_FLIGHT = "mp.messaging.message.in-flight";
+    public static final String QUEUED = "mp.messaging.message.queued";
+    public static final String PAUSES = "mp.messaging.channel.pauses";
+    public static final String RESUMES = "mp.messaging.channel.resumes";
+
+    /**
+     * The percentiles exported for each duration.
+     */
+    static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    private final String channel;
+    private final LatencyRecorder processingTime = new LatencyRecorder();
+    private final LatencyRecorder workerWaitTime = new LatencyRecorder();
+    private final LatencyRecorder ackTime = new LatencyRecorder();
+    private final LatencyRecorder nackTime = new LatencyRecorder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder resumes = new LongAdder();
+    private final List<LongSupplier> queues = new CopyOnWriteArrayList<>();
+
+    public ChannelMetrics(String channel) {
+        this.channel = channel;
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public LatencyRecorder processingTime() {
+        return processingTime;
+    }
+
+    public LatencyRecorder workerWaitTime() {
+        return workerWaitTime;
+    }
+
+    public LatencyRecorder ackTime() {
+        return ackTime;
+    }
+
+    public LatencyRecorder nackTime() {
+        return nackTime;
+    }
+
+    /**
+     * Marks the beginning of the processing of a message.
+     *
+     * @return the start time, to pass to {@link #processingCompleted(long)}
+     */
+    public long processingStarted() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the processing of a message.
+     *
+     * @param start the value returned by {@link #processingStarted()}
+     */
+    public void processingCompleted(long start) {
+        processingTime.recordSince(start);
+        inFlight.decrement();
+    }
+
+    public long inFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Records the completion time of the given acknowledgement.
+     *
+     * @param start the {@link System#nanoTime()} before the acknowledgement
+     * @param ack the acknowledgement, may be {@code null}
+     * @return the completion stage to use in place of {@code ack}
+     */
+    public CompletionStage<Void> observeAck(long start, CompletionStage<Void> ack) {
+        return observe(ackTime, start, ack);
+    }
+
+    /**
+     * Records the completion time of the given negative acknowledgement.
+     *
+     * @param start the {@link System#nanoTime()} before the negative acknowledgement
+     * @param nack the negative acknowledgement, may be {@code null}
+     * @return the completion stage to use in place of {@code nack}
+     */
+    public CompletionStage<Void> observeNack(long start, CompletionStage<Void> nack) {
+        return observe(nackTime, start, nack);
+    }
+
+    private static CompletionStage<Void> observe(LatencyRecorder recorder, long start, CompletionStage<Void> stage) {
+        if (stage == null) {
+            recorder.recordSince(start);
+            return null;
+        }
+        return stage.whenComplete((x, f) -> recorder.recordSince(start));
+    }
+
+    public void paused() {
+        pauses.increment();
+    }
+
+    public void resumed() {
+        resumes.increment();
+    }
+
+    public long pauses() {
+        return pauses.sum();
+    }
+
+    public long resumes() {
+        return resumes.sum();
+    }
+
+    /**
+     * Registers a queue of messages received but not yet dispatched.
+     *
+     * @param size the supplier of the current size of the queue
+     * @return the action unregistering the queue
+     */
+    public Runnable registerQueue(LongSupplier size) {
+        queues.add(size);
+        return () -> queues.remove(size);
+    }
+
+    /**
+     * @return the number of messages held by the registered queues
+     */
+    public long queued() {
+        long queued = 0;
+        for (LongSupplier queue : queues) {
+            queued += queue.getAsLong();
+        }
+        return queued;
+    }
+}
@@ -0,0 +1,60 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Holds the {@link ChannelMetrics} of the channels for which detailed metrics are enabled.
+ * <p>
+ * Detailed metrics are enabled with the {@code smallrye.messaging.metrics.detailed-channels} property, containing the
+ * comma-separated list of channel names, or {@code *} for all the channels. They are disabled by default.
+ */
+@ApplicationScoped
+public class ChannelMetricsRegistry {
+
+    public static final String DETAILED_CHANNELS_PROPERTY = "smallrye.messaging.metrics.detailed-channels";
+
+    private final Map<String, ChannelMetrics> metrics = new ConcurrentHashMap<>();
+    private Set<String> channels = Collections.emptySet();
+    private boolean all;
+
+    @Inject
+    void setDetailedChannels(@ConfigProperty(name = DETAILED_CHANNELS_PROPERTY) Optional<String> detailedChannels) {
+        Set<String> set = new HashSet<>();
+        detailedChannels.ifPresent(list -> {
+            for (String channel : list.split(",")) {
+                if (!channel.trim().isEmpty()) {
+                    set.add(channel.trim());
+                }
+            }
+        });
+        this.all = set.contains("*");
+        this.channels = set;
+    }
+
+    public boolean isEnabled(String channel) {
+        return channel != null && (all || channels.contains(channel));
+    }
+
+    /**
+     * Gets the metrics of the given channel.
+     *
+     * @param channel the channel name
+     * @return the metrics, {@code null} if detailed metrics are not enabled for this channel
+     */
+    public ChannelMetrics get(String channel) {
+        if (!isEnabled(channel)) {
+            return null;
+        }
+        return metrics.computeIfAbsent(channel, ChannelMetrics::new);
+    }
+}
@@ -0,0 +1,125 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations, recorded in nanoseconds.
+ * <p>
+ * Durations are counted in exponential buckets, each power of 2 being split into 4 sub-buckets, so the reported
+ * percentiles are within 25% of the actual value. Every bucket is a {@link LongAdder}, so concurrent recordings do not
+ * contend on a single counter.
+ */
+public class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyRecorder() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucket(value)].increment();
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Records the time elapsed since the given {@link System#nanoTime()} value.
+     *
+     * @param startNanos the start time
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @param unit the unit of the result
+     * @return the sum of the recorded durations
+     */
+    public double totalTime(TimeUnit unit) {
+        return toUnit(total.sum(), unit);
+    }
+
+    /**
+     * @param unit the unit of the result
+     * @return the largest recorded duration
+     */
+    public double max(TimeUnit unit) {
+        return toUnit(max.get(), unit);
+    }
+
+    /**
+     * Computes an approximation of the given percentile of the recorded durations.
+     *
+     * @param percentile the percentile, between 0 and 1
+     * @param unit the unit of the result
+     * @return the upper bound of the bucket containing the percentile, 0 if nothing was recorded
+     */
+    public double percentile(double percentile, TimeUnit unit) {
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            recorded += counts[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * recorded));
+        long cumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulated += counts[i];
+            if (cumulated >= rank) {
+                return toUnit(Math.min(upperBound(i), max.get()), unit);
+            }
+        }
+        return toUnit(max.get(), unit);
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static double toUnit(long nanos, TimeUnit unit) {
+        return (double) nanos / TimeUnit.NANOSECONDS.convert(1, unit);
+    }
+}
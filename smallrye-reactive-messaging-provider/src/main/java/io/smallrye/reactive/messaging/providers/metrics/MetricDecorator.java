@@ -1,5 +1,8 @@
 package io.smallrye.reactive.messaging.providers.metrics;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -8,8 +11,12 @@ import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricRegistry.Type;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.RegistryType;
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -24,8 +31,13 @@ public class MetricDecorator implements PublisherDecorator {
     @ConfigProperty(name = "smallrye.messaging.metrics.mp.enabled", defaultValue = "true")
     boolean enabled;
 
+    @Inject
+    Instance<ChannelMetricsRegistry> channelMetrics;
+
     private MetricRegistry registry;
 
+    private final Set<String> detailed = ConcurrentHashMap.newKeySet();
+
     @Inject
     private void setMetricRegistry(@RegistryType(type = Type.BASE) Instance<MetricRegistry> registryInstance) {
         if (registryInstance.isResolvable()) {
@@ -37,6 +49,7 @@ public class MetricDecorator implements PublisherDecorator {
     public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher,
             String channelName) {
         if (enabled && registry != null) {
+            registerDetailedMetrics(channelName);
             return publisher.invoke(incrementCount(channelName));
         } else {
             return publisher;
@@ -48,4 +61,43 @@ public class MetricDecorator implements PublisherDecorator {
         return m -> counter.inc();
     }
 
+    private void registerDetailedMetrics(String channelName) {
+        if (channelMetrics == null || !channelMetrics.isResolvable()) {
+            return;
+        }
+        ChannelMetrics metrics = channelMetrics.get().get(channelName);
+        if (metrics == null || !detailed.add(channelName)) {
+            return;
+        }
+        Tag tag = new Tag("channel", channelName);
+        registerDuration(ChannelMetrics.PROCESSING_TIME, metrics.processingTime(), tag);
+        registerDuration(ChannelMetrics.WORKER_WAIT_TIME, metrics.workerWaitTime(), tag);
+        registerDuration(ChannelMetrics.ACK_TIME, metrics.ackTime(), tag);
+        registerDuration(ChannelMetrics.NACK_TIME, metrics.nackTime(), tag);
+        registerGauge(ChannelMetrics.IN_FLIGHT, MetricUnits.NONE, metrics::inFlight, tag);
+        registerGauge(ChannelMetrics.QUEUED, MetricUnits.NONE, metrics::queued, tag);
+        registerGauge(ChannelMetrics.PAUSES, MetricUnits.NONE, metrics::pauses, tag);
+        registerGauge(ChannelMetrics.RESUMES, MetricUnits.NONE, metrics::resumes, tag);
+    }
+
+    private void registerDuration(String name, LatencyRecorder recorder, Tag tag) {
+        registerGauge(name + ".count", MetricUnits.NONE, recorder::count, tag);
+        registerGauge(name + ".total", MetricUnits.SECONDS, () -> recorder.totalTime(TimeUnit.SECONDS), tag);
+        registerGauge(name + ".max", MetricUnits.SECONDS, () -> recorder.max(TimeUnit.SECONDS), tag);
+        for (double percentile : ChannelMetrics.PERCENTILES) {
+            registerGauge(name + ".percentile", MetricUnits.SECONDS,
+                    () -> recorder.percentile(percentile, TimeUnit.SECONDS),
+                    tag, new Tag("phi", String.valueOf(percentile)));
+        }
+    }
+
+    private <T extends Number> void registerGauge(String name, String unit, Gauge<T> gauge, Tag... tags) {
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withType(MetricType.GAUGE)
+                .withUnit(unit)
+                .build();
+        registry.register(metadata, gauge, tags);
+    }
+
 }
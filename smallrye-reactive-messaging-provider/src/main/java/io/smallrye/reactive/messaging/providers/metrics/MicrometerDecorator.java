@@ -1,15 +1,24 @@
 package io.smallrye.reactive.messaging.providers.metrics;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Message;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.reactive.messaging.providers.PublisherDecorator;
 
@@ -20,10 +29,16 @@ public class MicrometerDecorator implements PublisherDecorator {
     @ConfigProperty(name = "smallrye.messaging.metrics.micrometer.enabled", defaultValue = "true")
     boolean enabled;
 
+    @Inject
+    Instance<ChannelMetricsRegistry> channelMetrics;
+
+    private final Set<String> detailed = ConcurrentHashMap.newKeySet();
+
     @Override
     public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher,
             String channelName) {
         if (enabled) {
+            registerDetailedMetrics(channelName);
             return publisher.invoke(incrementCount(channelName));
         } else {
             return publisher;
@@ -34,4 +49,46 @@ public class MicrometerDecorator implements PublisherDecorator {
         Counter counter = Metrics.counter("mp.messaging.message.count", "channel", channelName);
         return m -> counter.increment();
     }
+
+    private void registerDetailedMetrics(String channelName) {
+        if (channelMetrics == null || !channelMetrics.isResolvable()) {
+            return;
+        }
+        ChannelMetrics metrics = channelMetrics.get().get(channelName);
+        if (metrics == null || !detailed.add(channelName)) {
+            return;
+        }
+        MeterRegistry registry = Metrics.globalRegistry;
+        Tags tags = Tags.of("channel", channelName);
+        registerDuration(registry, ChannelMetrics.PROCESSING_TIME, metrics.processingTime(), tags);
+        registerDuration(registry, ChannelMetrics.WORKER_WAIT_TIME, metrics.workerWaitTime(), tags);
+        registerDuration(registry, ChannelMetrics.ACK_TIME, metrics.ackTime(), tags);
+        registerDuration(registry, ChannelMetrics.NACK_TIME, metrics.nackTime(), tags);
+        Gauge.builder(ChannelMetrics.IN_FLIGHT, metrics, ChannelMetrics::inFlight).tags(tags)
+                .register(registry);
+        Gauge.builder(ChannelMetrics.QUEUED, metrics, ChannelMetrics::queued).tags(tags)
+                .register(registry);
+        FunctionCounter.builder(ChannelMetrics.PAUSES, metrics, ChannelMetrics::pauses).tags(tags)
+                .register(registry);
+        FunctionCounter.builder(ChannelMetrics.RESUMES, metrics, ChannelMetrics::resumes).tags(tags)
+                .register(registry);
+    }
+
+    private static void registerDuration(MeterRegistry registry, String name, LatencyRecorder recorder, Tags tags) {
+        FunctionTimer.builder(name, recorder, LatencyRecorder::count,
+                r -> r.totalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(name + ".max", recorder, r -> r.max(TimeUnit.SECONDS))
+                .tags(tags)
+                .baseUnit("seconds")
+                .register(registry);
+        for (double percentile : ChannelMetrics.PERCENTILES) {
+            Gauge.builder(name + ".percentile", recorder, r -> r.percentile(percentile, TimeUnit.SECONDS))
+                    .tags(tags)
+                    .tag("phi", String.valueOf(percentile))
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import io.smallrye.reactive.messaging.ChannelRegistry;
+import io.smallrye.reactive.messaging.providers.helpers.StartupTasks;
 import io.smallrye.reactive.messaging.providers.i18n.ProviderLogging;
 
 public class Graph {
@@ -76,6 +77,19 @@ public class Graph {
     }
 
     public void materialize(ChannelRegistry registry) {
+        materialize(registry, 1);
+    }
+
+    /**
+     * Materializes the components, wave by wave: a component is materialized once all its upstreams have been
+     * materialized. The components of a wave do not depend on each other, so they are materialized concurrently when
+     * the given parallelism is greater than 1. The emitter components are always materialized first, on the caller
+     * thread.
+     *
+     * @param registry the channel registry
+     * @param parallelism the maximum number of components materialized concurrently
+     */
+    public void materialize(ChannelRegistry registry, int parallelism) {
         log.startMaterialization();
         long begin = System.nanoTime();
         Set<Wiring.Component> materialized = new HashSet<>();
@@ -96,8 +110,17 @@ public class Graph {
                 }
             }
 
+            List<Runnable> tasks = new ArrayList<>();
+            for (Wiring.Component c : toBeMaterialized) {
+                if (c instanceof Wiring.EmitterComponent) {
+                    c.materialize(registry);
+                } else {
+                    tasks.add(() -> c.materialize(registry));
+                }
+            }
+            StartupTasks.run(tasks, parallelism);
+
             toBeMaterialized.forEach(c -> {
-                c.materialize(registry);
                 downstreams.addAll(c.downstreams());
                 materialized.add(c);
             });
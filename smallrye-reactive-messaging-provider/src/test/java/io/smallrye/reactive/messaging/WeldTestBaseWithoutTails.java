@@ -35,6 +35,7 @@ import io.smallrye.reactive.messaging.providers.impl.ConfiguredChannelFactory;
 import io.smallrye.reactive.messaging.providers.impl.ConnectorFactories;
 import io.smallrye.reactive.messaging.providers.impl.InternalChannelRegistry;
 import io.smallrye.reactive.messaging.providers.locals.ContextDecorator;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
 import io.smallrye.reactive.messaging.providers.metrics.MetricDecorator;
 import io.smallrye.reactive.messaging.providers.metrics.MicrometerDecorator;
 import io.smallrye.reactive.messaging.providers.wiring.Wiring;
@@ -109,6 +110,7 @@ public class WeldTestBaseWithoutTails {
                 ConnectorFactories.class,
                 MicrometerDecorator.class,
                 MetricDecorator.class,
+                ChannelMetricsRegistry.class,
                 HealthCenter.class,
                 ContextDecorator.class,
                 // Messaging provider
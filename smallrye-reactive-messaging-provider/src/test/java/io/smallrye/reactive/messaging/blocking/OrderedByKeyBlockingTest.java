@@ -0,0 +1,160 @@
+package io.smallrye.reactive.messaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.MessageKeyExtractor;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import io.smallrye.reactive.messaging.annotations.OrderedBy;
+
+public class OrderedByKeyBlockingTest extends WeldTestBaseWithoutTails {
+
+    private static final int COUNT = 100;
+    private static final int KEYS = 8;
+
+    @Test
+    public void testSubscriberOrderedByKey() {
+        addBeanClass(ConsumerBean.class);
+        initialize();
+        ConsumerBean bean = container.select(ConsumerBean.class).get();
+
+        await().until(() -> bean.tracker().received() == COUNT);
+        bean.tracker().assertOrderedByKey();
+        assertThat(bean.tracker().maxConcurrency.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void testProcessorOrderedByKey() {
+        addBeanClass(ProcessorBean.class);
+        initialize();
+        ProcessorBean bean = container.select(ProcessorBean.class).get();
+
+        await().until(() -> bean.results().size() == COUNT);
+        bean.tracker().assertOrderedByKey();
+        assertThat(bean.tracker().maxConcurrency.get()).isGreaterThan(1).isLessThanOrEqualTo(KEYS);
+        // Results of the same key are emitted in order
+        Map<Integer, List<Integer>> byKey = bean.results().stream().collect(Collectors.groupingBy(i -> i % KEYS));
+        byKey.values().forEach(list -> assertThat(list).isSorted());
+    }
+
+    @Test
+    public void testOrderedByWithoutBlocking() {
+        addBeanClass(InvalidBean.class);
+        assertThatThrownBy(this::initialize).isInstanceOf(DeploymentException.class);
+    }
+
+    public static class ModuloKeyExtractor implements MessageKeyExtractor {
+        @Override
+        public Object extractKey(Message<?> message) {
+            return (Integer) message.getPayload() % KEYS;
+        }
+    }
+
+    static class Tracker {
+        final Map<Object, List<Integer>> received = new ConcurrentHashMap<>();
+        final AtomicInteger concurrency = new AtomicInteger();
+        final AtomicInteger maxConcurrency = new AtomicInteger();
+
+        void process(int value) {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.computeIfAbsent(value % KEYS, k -> new CopyOnWriteArrayList<>()).add(value);
+            concurrency.decrementAndGet();
+        }
+
+        int received() {
+            return received.values().stream().mapToInt(List::size).sum();
+        }
+
+        void assertOrderedByKey() {
+            assertThat(received).hasSize(KEYS);
+            received.values().forEach(list -> assertThat(list).isSorted());
+        }
+    }
+
+    @ApplicationScoped
+    public static class ConsumerBean {
+        final Tracker tracker = new Tracker();
+
+        public Tracker tracker() {
+            return tracker;
+        }
+
+        @Outgoing("in")
+        public Multi<Integer> source() {
+            return Multi.createFrom().items(IntStream.range(0, COUNT).boxed());
+        }
+
+        @Incoming("in")
+        @Blocking
+        @OrderedBy(value = ModuloKeyExtractor.class, maxConcurrency = 4)
+        public void consume(int value) {
+            tracker.process(value);
+        }
+    }
+
+    @ApplicationScoped
+    public static class ProcessorBean {
+        final Tracker tracker = new Tracker();
+        final List<Integer> results = new CopyOnWriteArrayList<>();
+
+        public Tracker tracker() {
+            return tracker;
+        }
+
+        public List<Integer> results() {
+            return results;
+        }
+
+        @Outgoing("in")
+        public Multi<Integer> source() {
+            return Multi.createFrom().items(IntStream.range(0, COUNT).boxed());
+        }
+
+        @Incoming("in")
+        @Outgoing("out")
+        @Blocking(ordered = false)
+        @OrderedBy(ModuloKeyExtractor.class)
+        public int process(int value) {
+            tracker.process(value);
+            return value;
+        }
+
+        @Incoming("out")
+        public void sink(int value) {
+            results.add(value);
+        }
+    }
+
+    @ApplicationScoped
+    public static class InvalidBean {
+        @Incoming("in")
+        @OrderedBy(ModuloKeyExtractor.class)
+        public void consume(int value) {
+            // ignored
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.smallrye.reactive.messaging.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.MessageConverter;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+public class MixedPayloadConverterTest extends WeldTestBaseWithoutTails {
+
+    @Test
+    public void testMixedPayloadClassesWithProcessor() {
+        addBeanClass(Source.class, Sink.class, StringToPersonConverter.class, BytesToPersonConverter.class,
+                PayloadProcessor.class);
+        initialize();
+        Sink sink = get(Sink.class);
+        assertThat(sink.list().stream().map(p -> p.name).collect(Collectors.toList()))
+                .containsExactly("LUKE", "LEIA", "NEO", "MORPHEUS", "TRINITY", "LUKE", "LEIA", "NEO", "MORPHEUS",
+                        "TRINITY");
+
+        // the resolution is cached per payload class, each message only checks the converter resolved for its class
+        // (the String converter is also checked once when resolving the converter of the byte[] payloads)
+        assertThat(get(StringToPersonConverter.class).checks()).isLessThanOrEqualTo(6);
+        assertThat(get(BytesToPersonConverter.class).checks()).isEqualTo(5);
+    }
+
+    @Test
+    public void testMixedPayloadClassesWithInjectedChannel() {
+        addBeanClass(Source.class, ChannelConsumer.class, StringToPersonConverter.class,
+                BytesToPersonConverter.class);
+        initialize();
+        ChannelConsumer consumer = get(ChannelConsumer.class);
+        assertThat(consumer.list().stream().map(p -> p.name).collect(Collectors.toList()))
+                .containsExactly("Luke", "Leia", "Neo", "Morpheus", "Trinity", "Luke", "Leia", "Neo", "Morpheus",
+                        "Trinity");
+    }
+
+    @ApplicationScoped
+    static class StringToPersonConverter implements MessageConverter {
+
+        private final AtomicInteger checks = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(Message<?> in, Type target) {
+            checks.incrementAndGet();
+            return target == Person.class && in.getPayload().getClass() == String.class;
+        }
+
+        @Override
+        public Message<?> convert(Message<?> in, Type target) {
+            return in.withPayload(new Person((String) in.getPayload()));
+        }
+
+        public int checks() {
+            return checks.get();
+        }
+    }
+
+    @ApplicationScoped
+    static class BytesToPersonConverter implements MessageConverter {
+
+        private final AtomicInteger checks = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(Message<?> in, Type target) {
+            checks.incrementAndGet();
+            return target == Person.class && in.getPayload().getClass() == byte[].class;
+        }
+
+        @Override
+        public Message<?> convert(Message<?> in, Type target) {
+            return in.withPayload(new Person(new String((byte[]) in.getPayload(), StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public int getPriority() {
+            return 200;
+        }
+
+        public int checks() {
+            return checks.get();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Source {
+
+        private static final String[] NAMES = { "Luke", "Leia", "Neo", "Morpheus", "Trinity" };
+
+        @Outgoing("in")
+        public Multi<Message<Object>> source() {
+            // alternate String and byte[] payloads
+            return Multi.createFrom().range(0, 10)
+                    .map(i -> Message.of(i % 2 == 0 ? NAMES[i % 5] : NAMES[i % 5].getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @ApplicationScoped
+    public static class Sink {
+        List<Person> list = new CopyOnWriteArrayList<>();
+
+        @Incoming("out")
+        public void sink(Person p) {
+            list.add(p);
+        }
+
+        public List<Person> list() {
+            return list;
+        }
+    }
+
+    @ApplicationScoped
+    public static class ChannelConsumer {
+        List<Person> list = new CopyOnWriteArrayList<>();
+
+        @Inject
+        @Channel("in")
+        Multi<Person> persons;
+
+        @PostConstruct
+        public void sink() {
+            persons.subscribe().with(list::add);
+        }
+
+        public List<Person> list() {
+            return list;
+        }
+    }
+
+    @ApplicationScoped
+    public static class PayloadProcessor {
+
+        @Incoming("in")
+        @Outgoing("out")
+        public Person process(Person p) {
+            return new Person(p.name.toUpperCase());
+        }
+
+    }
+
+    public static class Person {
+        public final String name;
+
+        Person(String name) {
+            this.name = name;
+        }
+    }
+}
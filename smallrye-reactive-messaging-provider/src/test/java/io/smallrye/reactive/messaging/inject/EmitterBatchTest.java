@@ -0,0 +1,181 @@
+package io.smallrye.reactive.messaging.inject;
+
+import static io.smallrye.reactive.messaging.annotations.EmitterFactoryFor.Literal.EMITTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.subscribers.TestSubscriber;
+import io.smallrye.reactive.messaging.EmitterConfiguration;
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.providers.DefaultEmitterConfiguration;
+import io.smallrye.reactive.messaging.providers.extension.EmitterImpl;
+
+public class EmitterBatchTest extends WeldTestBaseWithoutTails {
+
+    @Test
+    public void testSendBatch() {
+        BeanEmittingBatches bean = installInitializeAndGet(BeanEmittingBatches.class);
+        List<String> payloads = IntStream.range(0, 1000).mapToObj(Integer::toString).collect(Collectors.toList());
+
+        CompletionStage<Void> stage = bean.emitter().sendBatch(payloads);
+        stage.toCompletableFuture().join();
+
+        assertThat(bean.list()).containsExactlyElementsOf(payloads);
+    }
+
+    @Test
+    public void testSendBatchWithNack() {
+        BeanEmittingBatches bean = installInitializeAndGet(BeanEmittingBatches.class);
+
+        CompletionStage<Void> stage = bean.emitter().sendBatch(Arrays.asList("a", "nack", "c"));
+
+        assertThatThrownBy(() -> stage.toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(bean.list()).containsExactly("a", "nack", "c");
+    }
+
+    @Test
+    public void testSendEmptyBatch() {
+        BeanEmittingBatches bean = installInitializeAndGet(BeanEmittingBatches.class);
+
+        assertThat(bean.emitter().sendBatch(Arrays.asList()).toCompletableFuture().isDone()).isTrue();
+        bean.mutinyEmitter().sendBatch(Arrays.asList()).await().indefinitely();
+        assertThat(bean.list()).isEmpty();
+    }
+
+    @Test
+    public void testSendBatchWithNull() {
+        BeanEmittingBatches bean = installInitializeAndGet(BeanEmittingBatches.class);
+
+        assertThatThrownBy(() -> bean.emitter().sendBatch(Arrays.asList("a", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bean.mutinyEmitter().sendBatch(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bean.emitter().sendMessages(Arrays.asList(Message.of("a"), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(bean.list()).isEmpty();
+    }
+
+    @Test
+    public void testMutinySendBatch() {
+        BeanEmittingBatches bean = installInitializeAndGet(BeanEmittingBatches.class);
+
+        bean.mutinyEmitter().sendBatch(Arrays.asList("a", "b", "c")).await().indefinitely();
+        assertThat(bean.list()).containsExactly("a", "b", "c");
+
+        assertThatThrownBy(() -> bean.mutinyEmitter().sendBatch(Arrays.asList("d", "nack")).await().indefinitely())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(bean.list()).containsExactly("a", "b", "c", "d", "nack");
+    }
+
+    @Test
+    public void testSendMessages() {
+        BeanEmittingBatches bean = installInitializeAndGet(BeanEmittingBatches.class);
+        List<String> acked = new CopyOnWriteArrayList<>();
+
+        bean.emitter().sendMessages(Arrays.asList(message("a", acked), message("b", acked)));
+        bean.mutinyEmitter().sendMessages(Arrays.asList(message("c", acked), message("d", acked)));
+
+        await().until(() -> acked.size() == 4);
+        assertThat(bean.list()).containsExactly("a", "b", "c", "d");
+        assertThat(acked).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    public void testBatchIsEmittedEntirelyOrNotAtAll() {
+        OnOverflow overflow = new OnOverflow() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return OnOverflow.class;
+            }
+
+            @Override
+            public Strategy value() {
+                return Strategy.THROW_EXCEPTION;
+            }
+
+            @Override
+            public long bufferSize() {
+                return 0;
+            }
+        };
+        EmitterConfiguration config = new DefaultEmitterConfiguration("my-channel", EMITTER, overflow, null);
+        EmitterImpl<String> emitter = new EmitterImpl<>(config, 128);
+        TestSubscriber<Message<? extends String>> subscriber = new TestSubscriber<>(2);
+        emitter.getPublisher().subscribe(subscriber);
+
+        assertThatThrownBy(() -> emitter.sendBatch(Arrays.asList("a", "b", "c")))
+                .isInstanceOf(IllegalStateException.class);
+        subscriber.assertNoValues();
+
+        emitter.sendBatch(Arrays.asList("a", "b"));
+        assertThat(subscriber.values().stream().map(m -> (String) m.getPayload())).containsExactly("a", "b");
+    }
+
+    private static Message<String> message(String payload, List<String> acked) {
+        return Message.of(payload, () -> {
+            acked.add(payload);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @ApplicationScoped
+    public static class BeanEmittingBatches {
+        @Inject
+        @Channel("foo")
+        Emitter<String> emitter;
+
+        @Inject
+        @Channel("bar")
+        MutinyEmitter<String> mutinyEmitter;
+
+        private final List<String> list = new CopyOnWriteArrayList<>();
+
+        public Emitter<String> emitter() {
+            return emitter;
+        }
+
+        public MutinyEmitter<String> mutinyEmitter() {
+            return mutinyEmitter;
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        @Incoming("foo")
+        @Incoming("bar")
+        @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+        public CompletionStage<Void> consume(Message<String> message) {
+            list.add(message.getPayload());
+            if ("nack".equals(message.getPayload())) {
+                return message.nack(new IllegalArgumentException("nack"));
+            }
+            return message.ack();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.smallrye.reactive.messaging.inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetricsRegistry;
+
+public class LockFreeEmitterInjectionTest extends WeldTestBaseWithoutTails {
+
+    private static final int PRODUCERS = 8;
+    private static final int COUNT = 1000;
+
+    @Test
+    public void testConcurrentEmissions() throws InterruptedException {
+        installConfig("src/test/resources/config/lock-free-emitter.properties");
+        BeanWithLockFreeEmitters bean = installInitializeAndGet(BeanWithLockFreeEmitters.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                executor.submit(() -> IntStream.range(0, COUNT).forEach(i -> {
+                    bean.emitter().send("a");
+                    bean.mutinyEmitter().sendAndForget("b");
+                }));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        await().until(() -> bean.list().size() == 2 * PRODUCERS * COUNT);
+        assertThat(bean.list()).filteredOn("a"::equals).hasSize(PRODUCERS * COUNT);
+        assertThat(get(ChannelMetricsRegistry.class).get("lock-free").queued()).isZero();
+    }
+
+    @ApplicationScoped
+    public static class BeanWithLockFreeEmitters {
+        // the producers are not throttled by the consumer, the buffers must absorb the bursts
+        @Inject
+        @Channel("lock-free")
+        @OnOverflow(OnOverflow.Strategy.UNBOUNDED_BUFFER)
+        Emitter<String> emitter;
+
+        @Inject
+        @Channel("lock-free-mutiny")
+        @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = PRODUCERS * COUNT)
+        MutinyEmitter<String> mutinyEmitter;
+
+        private final List<String> list = new CopyOnWriteArrayList<>();
+
+        public Emitter<String> emitter() {
+            return emitter;
+        }
+
+        public MutinyEmitter<String> mutinyEmitter() {
+            return mutinyEmitter;
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        @Incoming("lock-free")
+        @Incoming("lock-free-mutiny")
+        public void consume(String s) {
+            list.add(s);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.smallrye.reactive.messaging.providers.connectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.ConnectorLiteral;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.messaging.spi.OutgoingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.eclipse.microprofile.reactive.streams.operators.SubscriberBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.WeldTestBaseWithoutTails;
+
+public class ParallelStartupTest extends WeldTestBaseWithoutTails {
+
+    @BeforeEach
+    void setupConfig() {
+        installConfig("src/test/resources/config/parallel-startup.properties");
+    }
+
+    @Test
+    public void testChannelsAreStartedConcurrently() {
+        addBeanClass(SlowConnector.class, Consumers.class, Producers.class);
+        initialize();
+
+        SlowConnector connector = container.select(SlowConnector.class, ConnectorLiteral.of("slow")).get();
+        // Each channel creation waits for the creation of the 3 others
+        assertThat(connector.maxConcurrentCreations()).isEqualTo(4);
+
+        await().until(() -> connector.list().size() == 6);
+        assertThat(connector.list()).containsExactlyInAnyOrder("a", "b", "c", "a", "b", "c");
+
+        Consumers consumers = get(Consumers.class);
+        await().until(() -> consumers.list().size() == 6);
+        assertThat(consumers.list()).containsExactlyInAnyOrder(1, 2, 3, 1, 2, 3);
+        // The subscriptions of the consumers, and so the first items, run on the startup threads
+        assertThat(consumers.threads()).allMatch(name -> name.startsWith("smallrye-reactive-messaging-startup-"));
+    }
+
+    @ApplicationScoped
+    @Connector("slow")
+    public static class SlowConnector implements IncomingConnectorFactory, OutgoingConnectorFactory {
+
+        private final CountDownLatch latch = new CountDownLatch(4);
+        private final AtomicInteger concurrentCreations = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCreations = new AtomicInteger();
+        private final List<String> list = new CopyOnWriteArrayList<>();
+
+        public List<String> list() {
+            return list;
+        }
+
+        public int maxConcurrentCreations() {
+            return maxConcurrentCreations.get();
+        }
+
+        private void create() {
+            maxConcurrentCreations.accumulateAndGet(concurrentCreations.incrementAndGet(), Math::max);
+            latch.countDown();
+            try {
+                // Simulates a broker round trip, only completes early if the channels are created concurrently
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentCreations.decrementAndGet();
+        }
+
+        @Override
+        public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+            create();
+            return ReactiveStreams.of(1, 2, 3).map(Message::of);
+        }
+
+        @Override
+        public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config config) {
+            create();
+            return ReactiveStreams.<Message<?>> builder()
+                    .peek(m -> list.add(m.getPayload().toString()))
+                    .ignore();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Consumers {
+
+        private final List<Integer> list = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        public List<Integer> list() {
+            return list;
+        }
+
+        public List<String> threads() {
+            return threads;
+        }
+
+        @Incoming("in-1")
+        public void consume1(int i) {
+            threads.add(Thread.currentThread().getName());
+            list.add(i);
+        }
+
+        @Incoming("in-2")
+        public void consume2(int i) {
+            threads.add(Thread.currentThread().getName());
+            list.add(i);
+        }
+    }
+
+    @ApplicationScoped
+    public static class Producers {
+
+        @Outgoing("out-1")
+        public Multi<String> produce1() {
+            return Multi.createFrom().items("a", "b", "c");
+        }
+
+        @Outgoing("out-2")
+        public Multi<String> produce2() {
+            return Multi.createFrom().items("a", "b", "c");
+        }
+    }
+}
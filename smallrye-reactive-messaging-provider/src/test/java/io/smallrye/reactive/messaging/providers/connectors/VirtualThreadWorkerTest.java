@@ -0,0 +1,130 @@
+package io.smallrye.reactive.messaging.providers.connectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+class VirtualThreadWorkerTest {
+
+    // Platform threads stand in for virtual threads, the worker only relies on the factory
+    private final ThreadFactory factory = r -> new Thread(r, "test-worker");
+
+    private Vertx vertx;
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void cleanup() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void testVirtualThreadFactoryAvailability() {
+        boolean supported;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            supported = true;
+        } catch (NoSuchMethodException e) {
+            supported = false;
+        }
+        if (!supported) {
+            assertThat(VirtualThreadWorker.createVirtualThreadFactory("vt-")).isNull();
+        }
+    }
+
+    @Test
+    void testConcurrencyLimit() throws InterruptedException {
+        VirtualThreadWorker worker = new VirtualThreadWorker(factory, 2);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        for (int i = 0; i < 6; i++) {
+            worker.executeBlocking(null, Uni.createFrom().item(() -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                concurrent.decrementAndGet();
+                return 1;
+            }), false).subscribe().with(x -> completed.incrementAndGet());
+        }
+
+        await().until(() -> worker.running() == 2);
+        assertThat(worker.pending()).isEqualTo(4);
+        latch.countDown();
+        await().until(() -> completed.get() == 6);
+        assertThat(maxConcurrent.get()).isEqualTo(2);
+        assertThat(worker.running()).isZero();
+    }
+
+    @Test
+    void testOrderedExecutionOnContext() {
+        VirtualThreadWorker worker = new VirtualThreadWorker(factory, -1);
+        Context context = vertx.getOrCreateContext();
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<Integer> results = new CopyOnWriteArrayList<>();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+
+        context.runOnContext(() -> {
+            for (int i = 0; i < 10; i++) {
+                int index = i;
+                worker.executeBlocking(context, Uni.createFrom().item(() -> {
+                    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    executed.add(index);
+                    concurrent.decrementAndGet();
+                    return index;
+                }), true).subscribe().with(item -> {
+                    assertThat(Vertx.currentContext()).isEqualTo(context);
+                    results.add(item);
+                });
+            }
+        });
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> results.size() == 10);
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailurePropagation() {
+        VirtualThreadWorker worker = new VirtualThreadWorker(factory, 1);
+        Context context = vertx.getOrCreateContext();
+        AtomicInteger failures = new AtomicInteger();
+
+        context.runOnContext(() -> worker.executeBlocking(context, Uni.createFrom().item(() -> {
+            throw new IllegalStateException("boom");
+        }), false).subscribe().with(x -> {
+        }, f -> {
+            assertThat(f).isInstanceOf(IllegalStateException.class);
+            assertThat(Vertx.currentContext()).isEqualTo(context);
+            failures.incrementAndGet();
+        }));
+
+        await().until(() -> failures.get() == 1);
+        assertThat(worker.running()).isZero();
+    }
+}
@@ -0,0 +1,261 @@
+package io.smallrye.reactive.messaging.providers.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.subscribers.TestSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.reactive.messaging.EmitterConfiguration;
+import io.smallrye.reactive.messaging.annotations.EmitterFactoryFor;
+import io.smallrye.reactive.messaging.providers.DefaultEmitterConfiguration;
+import io.smallrye.reactive.messaging.providers.metrics.ChannelMetrics;
+
+class MpscEmitterTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int ITEMS_PER_PRODUCER = 10_000;
+
+    private ExecutorService executor;
+    private final AtomicReference<MultiEmitter<? super String>> emitter = new AtomicReference<>();
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(PRODUCERS);
+    }
+
+    @AfterEach
+    void cleanup() {
+        executor.shutdownNow();
+    }
+
+    private TestSubscriber<String> subscribe(OnOverflow.Strategy strategy, long bufferSize, long initialRequest,
+            ChannelMetrics metrics) {
+        TestSubscriber<String> subscriber = new TestSubscriber<>(initialRequest);
+        MpscEmitter.<String> create(emitter::set, strategy, bufferSize, metrics).subscribe(subscriber);
+        return subscriber;
+    }
+
+    @Test
+    void testConcurrentProducersKeepTheirOrder() throws InterruptedException {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.UNBOUNDED_BUFFER, 0, Long.MAX_VALUE, null);
+
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                    emitter.get().emit(producer + "-" + i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        assertThat(subscriber.awaitCount(PRODUCERS * ITEMS_PER_PRODUCER).values())
+                .hasSize(PRODUCERS * ITEMS_PER_PRODUCER);
+        int[] next = new int[PRODUCERS];
+        for (String value : subscriber.values()) {
+            String[] segments = value.split("-");
+            int producer = Integer.parseInt(segments[0]);
+            assertThat(Integer.parseInt(segments[1])).isEqualTo(next[producer]++);
+        }
+    }
+
+    @Test
+    void testBufferThrowsWhenFull() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.BUFFER, 2, 0, null);
+
+        emitter.get().emit("a").emit("b");
+        assertThatThrownBy(() -> emitter.get().emit("c")).isInstanceOf(IllegalStateException.class);
+
+        subscriber.request(1);
+        emitter.get().emit("d");
+        subscriber.request(10);
+        subscriber.assertValues("a", "b", "d");
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    void testBatchIsReservedAtOnce() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.THROW_EXCEPTION, 0, 2, null);
+        MpscEmitter<String> mpsc = (MpscEmitter<String>) emitter.get();
+
+        assertThatThrownBy(() -> mpsc.emitAll(Arrays.asList("a", "b", "c"))).isInstanceOf(IllegalStateException.class);
+        subscriber.assertNoValues();
+
+        mpsc.emitAll(Arrays.asList("a", "b"));
+        subscriber.assertValues("a", "b");
+    }
+
+    @Test
+    void testDrop() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.DROP, 0, 1, null);
+
+        emitter.get().emit("a").emit("b").emit("c");
+        subscriber.request(1);
+        emitter.get().emit("d");
+
+        subscriber.assertValues("a", "d");
+    }
+
+    @Test
+    void testLatest() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.LATEST, 0, 0, null);
+
+        emitter.get().emit("a").emit("b").emit("c");
+        subscriber.assertNoValues();
+        subscriber.request(1);
+        subscriber.assertValues("c");
+
+        subscriber.request(1);
+        emitter.get().emit("d").emit("e");
+        subscriber.request(1);
+        subscriber.assertValues("c", "d", "e");
+    }
+
+    @Test
+    void testFail() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.FAIL, 0, 1, null);
+
+        emitter.get().emit("a").emit("b");
+
+        subscriber.assertValues("a");
+        subscriber.assertError(BackPressureFailure.class);
+    }
+
+    @Test
+    void testCompletionAfterBufferedItems() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.UNBOUNDED_BUFFER, 0, 0, null);
+
+        emitter.get().emit("a").emit("b");
+        emitter.get().complete();
+        subscriber.assertNotTerminated();
+
+        subscriber.request(2);
+        subscriber.assertValues("a", "b");
+        subscriber.assertComplete();
+    }
+
+    @Test
+    void testEmitAfterCompletionIsRejected() {
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.UNBOUNDED_BUFFER, 0, Long.MAX_VALUE, null);
+
+        emitter.get().emit("a");
+        emitter.get().complete();
+        assertThatThrownBy(() -> emitter.get().emit("b")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ((MpscEmitter<String>) emitter.get()).emitAll(Arrays.asList("c", "d")))
+                .isInstanceOf(IllegalStateException.class);
+
+        subscriber.assertValues("a");
+        subscriber.assertComplete();
+    }
+
+    @Test
+    void testEmitConcurrentWithCompletionIsNotLost() throws Exception {
+        for (int i = 0; i < 2_000; i++) {
+            TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.UNBOUNDED_BUFFER, 0, Long.MAX_VALUE,
+                    null);
+            MultiEmitter<? super String> current = emitter.get();
+            CountDownLatch start = new CountDownLatch(1);
+            Future<Boolean> emitted = executor.submit(() -> {
+                start.await();
+                try {
+                    current.emit("a");
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            });
+            Future<?> completed = executor.submit(() -> {
+                start.await();
+                current.complete();
+                return null;
+            });
+            start.countDown();
+            completed.get(10, TimeUnit.SECONDS);
+
+            subscriber.awaitTerminalEvent(10, TimeUnit.SECONDS);
+            subscriber.assertComplete();
+            if (emitted.get(10, TimeUnit.SECONDS)) {
+                // accepted, so passed downstream before the completion
+                subscriber.assertValues("a");
+            } else {
+                subscriber.assertNoValues();
+            }
+        }
+    }
+
+    @Test
+    void testBufferedMessagesAreReportedInMetrics() {
+        ChannelMetrics metrics = new ChannelMetrics("channel");
+        TestSubscriber<String> subscriber = subscribe(OnOverflow.Strategy.BUFFER, 10, 0, metrics);
+
+        emitter.get().emit("a").emit("b").emit("c");
+        assertThat(metrics.queued()).isEqualTo(3);
+
+        subscriber.request(2);
+        assertThat(metrics.queued()).isEqualTo(1);
+
+        subscriber.cancel();
+        assertThat(metrics.queued()).isZero();
+        assertThat(emitter.get().isCancelled()).isTrue();
+    }
+
+    @Test
+    void testLockFreeEmitter() throws InterruptedException {
+        EmitterConfiguration config = new DefaultEmitterConfiguration("my-channel", EmitterFactoryFor.Literal.EMITTER,
+                null, null);
+        EmitterImpl<String> lockFree = new EmitterImpl<>(config, 128, true, null);
+        TestSubscriber<Message<? extends String>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        lockFree.getPublisher().subscribe(subscriber);
+
+        List<Runnable> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.add(() -> {
+                for (int i = 0; i < ITEMS_PER_PRODUCER; i++) {
+                    lockFree.send("hello");
+                }
+            });
+        }
+        producers.forEach(executor::submit);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        await().until(() -> subscriber.values().size() == PRODUCERS * ITEMS_PER_PRODUCER);
+        lockFree.complete();
+        subscriber.assertComplete();
+    }
+
+    @Test
+    void testLockFreeEmitterFailsWhenDefaultBufferIsFull() {
+        EmitterConfiguration config = new DefaultEmitterConfiguration("my-channel", EmitterFactoryFor.Literal.EMITTER,
+                null, null);
+        EmitterImpl<String> lockFree = new EmitterImpl<>(config, 2, true, null);
+        TestSubscriber<Message<? extends String>> subscriber = new TestSubscriber<>(0);
+        lockFree.getPublisher().subscribe(subscriber);
+
+        lockFree.send("a");
+        lockFree.send("b");
+        assertThatThrownBy(() -> lockFree.send("c")).isInstanceOf(IllegalStateException.class);
+        subscriber.assertError(BackPressureFailure.class);
+    }
+}
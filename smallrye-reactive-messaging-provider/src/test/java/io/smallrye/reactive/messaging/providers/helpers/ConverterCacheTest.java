@@ -0,0 +1,106 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.inject.Instance;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.MessageConverter;
+
+class ConverterCacheTest {
+
+    @Test
+    void testMissIsNotCached() {
+        ConverterCache cache = new ConverterCache(instance(new MarkedStringToPersonConverter()));
+
+        Message<?> plain = Message.of("luke");
+        assertThat(cache.convert(plain, Person.class)).isSameAs(plain);
+
+        Message<?> marked = Message.of("leia").addMetadata(new Marker());
+        assertThat(cache.convert(marked, Person.class).getPayload()).isInstanceOf(Person.class);
+    }
+
+    @Test
+    void testHitIsCheckedAgainstTheMessage() {
+        MarkedStringToPersonConverter converter = new MarkedStringToPersonConverter();
+        ConverterCache cache = new ConverterCache(instance(converter));
+
+        Message<?> marked = Message.of("leia").addMetadata(new Marker());
+        assertThat(cache.convert(marked, Person.class).getPayload()).isInstanceOf(Person.class);
+
+        Message<?> plain = Message.of("luke");
+        assertThat(cache.convert(plain, Person.class)).isSameAs(plain);
+        assertThat(converter.conversions).hasValue(1);
+    }
+
+    @Test
+    void testAssignablePayloadIsNotConverted() {
+        MarkedStringToPersonConverter converter = new MarkedStringToPersonConverter();
+        ConverterCache cache = new ConverterCache(instance(converter));
+
+        Message<?> message = Message.of("leia").addMetadata(new Marker());
+        assertThat(cache.convert(message, CharSequence.class)).isSameAs(message);
+        assertThat(cache.convert(message, CharSequence.class)).isSameAs(message);
+        assertThat(converter.checks).hasValue(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Instance<MessageConverter> instance(MessageConverter... converters) {
+        List<MessageConverter> list = Arrays.asList(converters);
+        return (Instance<MessageConverter>) Proxy.newProxyInstance(Instance.class.getClassLoader(),
+                new Class<?>[] { Instance.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isUnsatisfied":
+                            return list.isEmpty();
+                        case "stream":
+                            return list.stream();
+                        case "iterator":
+                            return list.iterator();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Converts a {@code String} to a {@link Person}, only if the message carries a {@link Marker}, like the
+     * converters relying on connector metadata.
+     */
+    static class MarkedStringToPersonConverter implements MessageConverter {
+
+        final AtomicInteger checks = new AtomicInteger();
+        final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(Message<?> in, Type target) {
+            checks.incrementAndGet();
+            return target == Person.class && in.getPayload() instanceof String
+                    && in.getMetadata(Marker.class).isPresent();
+        }
+
+        @Override
+        public Message<?> convert(Message<?> in, Type target) {
+            conversions.incrementAndGet();
+            return in.withPayload(new Person((String) in.getPayload()));
+        }
+    }
+
+    static class Marker {
+    }
+
+    static class Person {
+        final String name;
+
+        Person(String name) {
+            this.name = name;
+        }
+    }
+}
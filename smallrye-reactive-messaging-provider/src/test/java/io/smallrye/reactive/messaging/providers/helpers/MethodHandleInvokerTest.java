@@ -0,0 +1,97 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.reactive.messaging.Invoker;
+import io.smallrye.reactive.messaging.providers.ProcessingException;
+
+class MethodHandleInvokerTest {
+
+    private final Bean bean = new Bean();
+
+    private Invoker invoker(String name, Class<?>... parameterTypes) throws Exception {
+        Method method = Bean.class.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return MethodHandleInvoker.create(method, bean, name);
+    }
+
+    @Test
+    void testInvocationWithoutParameter() throws Exception {
+        assertThat(invoker("hello").invoke()).isEqualTo("hello");
+    }
+
+    @Test
+    void testInvocationWithOneParameter() throws Exception {
+        assertThat(invoker("upper", String.class).invoke("a")).isEqualTo("A");
+    }
+
+    @Test
+    void testInvocationWithTwoParameters() throws Exception {
+        assertThat(invoker("concat", String.class, String.class).invoke("a", "b")).isEqualTo("ab");
+    }
+
+    @Test
+    void testInvocationWithPrimitivesAndMoreParameters() throws Exception {
+        assertThat(invoker("sum", int.class, int.class, int.class).invoke(1, 2, 3)).isEqualTo(6);
+    }
+
+    @Test
+    void testInvocationOfVoidMethod() throws Exception {
+        assertThat(invoker("consume", String.class).invoke("a")).isNull();
+        assertThat(bean.consumed).containsExactly("a");
+    }
+
+    @Test
+    void testFailureIsWrapped() throws Exception {
+        Invoker invoker = invoker("fail", String.class);
+        assertThatThrownBy(() -> invoker.invoke("boom"))
+                .isInstanceOf(ProcessingException.class)
+                .hasCauseInstanceOf(InvocationTargetException.class)
+                .hasRootCauseMessage("boom");
+    }
+
+    @Test
+    void testWrongNumberOfArguments() throws Exception {
+        Invoker invoker = invoker("upper", String.class);
+        assertThatThrownBy(invoker::invoke)
+                .isInstanceOf(ProcessingException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class Bean {
+
+        final List<String> consumed = new ArrayList<>();
+
+        private String hello() {
+            return "hello";
+        }
+
+        String upper(String s) {
+            return s.toUpperCase();
+        }
+
+        public String concat(String a, String b) {
+            return a + b;
+        }
+
+        int sum(int a, int b, int c) {
+            return a + b + c;
+        }
+
+        void consume(String s) {
+            consumed.add(s);
+        }
+
+        String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
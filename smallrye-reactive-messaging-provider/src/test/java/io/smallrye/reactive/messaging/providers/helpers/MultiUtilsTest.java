@@ -0,0 +1,29 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class MultiUtilsTest {
+
+    @Test
+    void testEqualArrayKeysUseTheSameLane() {
+        for (int i = 0; i < 100; i++) {
+            String key = "key-" + i;
+            assertThat(MultiUtils.lane(key.getBytes(StandardCharsets.UTF_8), 8))
+                    .isEqualTo(MultiUtils.lane(key.getBytes(StandardCharsets.UTF_8), 8));
+            assertThat(MultiUtils.lane(new Object[] { key, i }, 8))
+                    .isEqualTo(MultiUtils.lane(new Object[] { key, i }, 8));
+        }
+    }
+
+    @Test
+    void testLanesAreInRange() {
+        for (int i = -100; i < 100; i++) {
+            assertThat(MultiUtils.lane(i, 3)).isBetween(0, 2);
+        }
+        assertThat(MultiUtils.lane(null, 3)).isBetween(0, 2);
+    }
+}
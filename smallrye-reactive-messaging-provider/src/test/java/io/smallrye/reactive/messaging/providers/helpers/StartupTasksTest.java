@@ -0,0 +1,65 @@
+package io.smallrye.reactive.messaging.providers.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class StartupTasksTest {
+
+    @Test
+    void testSerialTasksRunInOrderOnTheCallerThread() {
+        List<String> threads = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            tasks.add(() -> threads.add(index + "-" + Thread.currentThread().getName()));
+        }
+
+        StartupTasks.run(tasks, 1);
+
+        String caller = Thread.currentThread().getName();
+        assertThat(threads).containsExactly("0-" + caller, "1-" + caller, "2-" + caller, "3-" + caller,
+                "4-" + caller);
+    }
+
+    @Test
+    void testParallelTasksRunOnStartupThreads() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(() -> threads.add(Thread.currentThread().getName()));
+        }
+
+        StartupTasks.run(tasks, 4);
+
+        assertThat(threads).hasSize(10)
+                .allMatch(name -> name.startsWith("smallrye-reactive-messaging-startup-"));
+    }
+
+    @Test
+    void testFirstFailureIsRethrownAfterAllTasksComplete() {
+        List<String> completed = new CopyOnWriteArrayList<>();
+        List<Runnable> tasks = Arrays.asList(
+                () -> completed.add("a"),
+                () -> {
+                    throw new IllegalArgumentException("first");
+                },
+                () -> {
+                    throw new IllegalStateException("second");
+                },
+                () -> completed.add("d"));
+
+        assertThatThrownBy(() -> StartupTasks.run(tasks, 4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("first")
+                .satisfies(t -> assertThat(t.getSuppressed()).hasSize(1)
+                        .allMatch(s -> s instanceof IllegalStateException));
+        assertThat(completed).containsExactlyInAnyOrder("a", "d");
+    }
+}
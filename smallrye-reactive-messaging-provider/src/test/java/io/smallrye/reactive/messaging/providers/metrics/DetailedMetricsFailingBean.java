@@ -0,0 +1,45 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+@ApplicationScoped
+public class DetailedMetricsFailingBean {
+
+    public static final int COUNT = 5;
+
+    private final AtomicInteger nacked = new AtomicInteger();
+
+    @Outgoing("detailed-failing")
+    public PublisherBuilder<Message<Integer>> source() {
+        return ReactiveStreams.fromPublisher(Multi.createFrom().range(0, COUNT)
+                .map(i -> Message.of(i).withNack(t -> {
+                    nacked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                })));
+    }
+
+    @Incoming("detailed-failing")
+    @Blocking
+    public CompletionStage<Void> consume(int payload) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalArgumentException("boom " + payload));
+        return future;
+    }
+
+    public int nacked() {
+        return nacked.get();
+    }
+}
@@ -0,0 +1,53 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import io.smallrye.mutiny.Multi;
+
+@ApplicationScoped
+public class DetailedMetricsTestBean {
+
+    public static final int COUNT = 5;
+
+    private final AtomicInteger acked = new AtomicInteger();
+    private final List<Integer> received = new CopyOnWriteArrayList<>();
+
+    @Outgoing("detailed-source")
+    public PublisherBuilder<Message<Integer>> source() {
+        return ReactiveStreams.fromPublisher(Multi.createFrom().range(0, COUNT)
+                .map(i -> Message.of(i, () -> {
+                    acked.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                })));
+    }
+
+    @Incoming("detailed-source")
+    @Outgoing("detailed-sink")
+    public int process(int payload) {
+        return payload + 1;
+    }
+
+    @Incoming("detailed-sink")
+    public void consume(int payload) {
+        received.add(payload);
+    }
+
+    public int acked() {
+        return acked.get();
+    }
+
+    public List<Integer> received() {
+        return received;
+    }
+}
@@ -0,0 +1,54 @@
+package io.smallrye.reactive.messaging.providers.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+
+    @Test
+    void testEmptyRecorder() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        assertThat(recorder.count()).isZero();
+        assertThat(recorder.totalTime(TimeUnit.NANOSECONDS)).isZero();
+        assertThat(recorder.max(TimeUnit.NANOSECONDS)).isZero();
+        assertThat(recorder.percentile(0.99, TimeUnit.NANOSECONDS)).isZero();
+    }
+
+    @Test
+    void testCountTotalAndMax() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(1));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(3));
+        recorder.record(-5);
+        assertThat(recorder.count()).isEqualTo(3);
+        assertThat(recorder.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+        assertThat(recorder.max(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 1000; i++) {
+            recorder.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertThat(recorder.percentile(0.5, TimeUnit.MICROSECONDS)).isCloseTo(500, within(125.0));
+        assertThat(recorder.percentile(0.99, TimeUnit.MICROSECONDS)).isCloseTo(990, within(10.0));
+        assertThat(recorder.percentile(1.0, TimeUnit.MICROSECONDS)).isEqualTo(1000);
+        assertThat(recorder.percentile(0.0, TimeUnit.MICROSECONDS)).isCloseTo(1, within(0.5));
+    }
+
+    @Test
+    void testBucketBoundaries() {
+        for (long value : new long[] { 0, 1, 3, 4, 5, 7, 8, 100, 1023, 1024, 123_456_789L, Long.MAX_VALUE }) {
+            int bucket = LatencyRecorder.bucket(value);
+            assertThat(LatencyRecorder.upperBound(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyRecorder.upperBound(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+}
@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+
 import javax.enterprise.inject.Instance;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.reactive.messaging.MyCollector;
@@ -64,4 +67,47 @@ public class MicrometerDecoratorTest extends WeldTestBase {
 
         assertEquals(0, getCounter("source").count());
     }
+
+    @Test
+    void testDetailedMetrics() {
+        installConfig("src/test/resources/config/detailed-metrics.properties");
+        addBeanClass(DetailedMetricsTestBean.class);
+        initialize();
+
+        DetailedMetricsTestBean bean = container.select(DetailedMetricsTestBean.class).get();
+        await().until(() -> bean.acked() == DetailedMetricsTestBean.COUNT);
+
+        MeterRegistry registry = Metrics.globalRegistry;
+        for (String channel : Arrays.asList("detailed-source", "detailed-sink")) {
+            await().untilAsserted(() -> assertThat(registry.find(ChannelMetrics.PROCESSING_TIME)
+                    .tag("channel", channel).functionTimer().count()).isEqualTo(DetailedMetricsTestBean.COUNT));
+            assertThat(registry.find(ChannelMetrics.IN_FLIGHT).tag("channel", channel).gauge().value()).isZero();
+            assertThat(registry.find(ChannelMetrics.PROCESSING_TIME + ".percentile")
+                    .tags("channel", channel, "phi", "0.99").gauge().value()).isPositive();
+        }
+        // the subscriber acknowledges the messages
+        assertThat(registry.find(ChannelMetrics.ACK_TIME).tag("channel", "detailed-sink").functionTimer().count())
+                .isEqualTo(DetailedMetricsTestBean.COUNT);
+        assertThat(registry.find(ChannelMetrics.NACK_TIME).tag("channel", "detailed-sink").functionTimer().count())
+                .isZero();
+
+        // detailed metrics are only registered for the configured channels
+        assertThat(registry.find(ChannelMetrics.PROCESSING_TIME).tag("channel", "count").functionTimer()).isNull();
+        assertThat(getCounter("detailed-sink").count()).isEqualTo(DetailedMetricsTestBean.COUNT);
+    }
+
+    @Test
+    void testInFlightIsReleasedOnExceptionalCompletion() {
+        installConfig("src/test/resources/config/detailed-metrics.properties");
+        addBeanClass(DetailedMetricsFailingBean.class);
+        initialize();
+
+        DetailedMetricsFailingBean bean = container.select(DetailedMetricsFailingBean.class).get();
+        await().until(() -> bean.nacked() == DetailedMetricsFailingBean.COUNT);
+
+        MeterRegistry registry = Metrics.globalRegistry;
+        assertThat(registry.find(ChannelMetrics.PROCESSING_TIME).tag("channel", "detailed-failing").functionTimer()
+                .count()).isEqualTo(DetailedMetricsFailingBean.COUNT);
+        assertThat(registry.find(ChannelMetrics.IN_FLIGHT).tag("channel", "detailed-failing").gauge().value()).isZero();
+    }
 }
@@ -10,6 +10,7 @@ import java.util.function.Function;
 
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.rabbitmq.ack.RabbitMQAckCoalescer;
 import io.vertx.mutiny.core.Context;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.rabbitmq.RabbitMQClient;
@@ -22,11 +23,37 @@ public class ConnectionHolder {
 
     private final Vertx vertx;
 
+    private final RabbitMQAckCoalescer ackCoalescer;
+
     public ConnectionHolder(RabbitMQClient client,
             RabbitMQConnectorCommonConfiguration configuration,
             Vertx vertx) {
+        this(client, configuration, vertx, 1, 0L);
+    }
+
+    /**
+     * @param client the client
+     * @param configuration the channel configuration
+     * @param vertx the Vert.x instance
+     * @param ackBatchSize the number of contiguous acknowledgements sent with a single {@code basic.ack}, 1 or less to
+     *        acknowledge each message individually
+     * @param ackBatchInterval the maximum delay (ms) of a batched acknowledgement
+     */
+    public ConnectionHolder(RabbitMQClient client,
+            RabbitMQConnectorCommonConfiguration configuration,
+            Vertx vertx, int ackBatchSize, long ackBatchInterval) {
         this.client = client;
         this.vertx = vertx;
+        this.ackCoalescer = ackBatchSize > 1
+                ? new RabbitMQAckCoalescer(vertx, ackBatchSize, ackBatchInterval, tag -> client.basicAck(tag, true))
+                : null;
+        if (ackCoalescer != null) {
+            // The delivery tags restart on each new channel, including the ones opened by the client recovery
+            client.getDelegate().addConnectionEstablishedCallback(promise -> {
+                ackCoalescer.reset();
+                promise.complete();
+            });
+        }
         this.connector = Uni.createFrom().voidItem()
                 .onItem().transformToUni(unused -> {
                     log.establishingConnection(configuration.getChannel());
@@ -98,15 +125,58 @@ public class ConnectionHolder {
         }
     }
 
+    /**
+     * @return the generation of the current channel, identifying the channel the deliveries are received from when
+     *         the acknowledgements are batched
+     */
+    public long getChannelGeneration() {
+        return ackCoalescer != null ? ackCoalescer.generation() : 0L;
+    }
+
+    /**
+     * Acknowledges a delivery.
+     * <p>
+     * When the acknowledgements are batched, the returned {@code Uni} completes once the acknowledgement is recorded,
+     * before the {@code basic.ack} covering it is sent to the broker.
+     *
+     * @param generation the {@link #getChannelGeneration() channel generation} at the reception of the delivery
+     * @param deliveryTag the delivery tag
+     * @return the acknowledgement
+     */
     @CheckReturnValue
-    public Uni<Void> getAck(final long deliveryTag) {
+    public Uni<Void> getAck(final long generation, final long deliveryTag) {
+        if (ackCoalescer != null) {
+            return Uni.createFrom().item(() -> {
+                ackCoalescer.ack(generation, deliveryTag);
+                return null;
+            });
+        }
         return client.basicAck(deliveryTag, false);
     }
 
-    public Function<Throwable, CompletionStage<Void>> getNack(final long deliveryTag, final boolean requeue) {
+    public Function<Throwable, CompletionStage<Void>> getNack(final long generation, final long deliveryTag,
+            final boolean requeue) {
+        if (ackCoalescer != null) {
+            // the delivery is settled once the nack is written, so a multiple ack never covers it before
+            return t -> client.basicNack(deliveryTag, false, requeue)
+                    .invoke(() -> ackCoalescer.nacked(generation, deliveryTag))
+                    .subscribeAsCompletionStage();
+        }
         return t -> client.basicNack(deliveryTag, false, requeue).subscribeAsCompletionStage();
     }
 
+    /**
+     * Sends the acknowledgements batched but not yet sent to the broker.
+     *
+     * @return a stage completed once they have been written, or immediately if the acknowledgements are not batched
+     */
+    public CompletionStage<Void> flushAcknowledgements() {
+        if (ackCoalescer != null) {
+            return ackCoalescer.flush();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
     public Vertx getVertx() {
         return vertx;
     }
@@ -36,6 +36,7 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T> {
     private final ConnectionHolder holder;
     private final Context context;
     private final long deliveryTag;
+    private final long channelGeneration;
     protected final RabbitMQFailureHandler onNack;
     protected final RabbitMQAckHandler onAck;
     protected final String contentTypeOverride;
@@ -51,6 +52,7 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T> {
         this.message = msg;
         this.deliveryTag = msg.envelope().getDeliveryTag();
         this.holder = holder;
+        this.channelGeneration = holder.getChannelGeneration();
         this.context = holder.getContext();
         this.contentTypeOverride = contentTypeOverride;
         this.rabbitMQMetadata = new IncomingRabbitMQMetadata(this.message);
@@ -95,7 +97,7 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T> {
      * Acknowledges the message.
      */
     public void acknowledgeMessage() {
-        holder.getAck(this.deliveryTag).subscribeAsCompletionStage();
+        holder.getAck(this.channelGeneration, this.deliveryTag).subscribeAsCompletionStage();
     }
 
     /**
@@ -105,7 +107,7 @@ public class IncomingRabbitMQMessage<T> implements ContextAwareMessage<T> {
      * @param reason the cause of the rejection, which must not be null
      */
     public void rejectMessage(Throwable reason) {
-        holder.getNack(this.deliveryTag, false).apply(reason);
+        holder.getNack(this.channelGeneration, this.deliveryTag, false).apply(reason);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,154 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions.ex;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.rabbitmq.client.BasicProperties;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConfirmation;
+
+/**
+ * Publishes messages on a channel in confirm mode, completing each publication when the broker confirms it.
+ * <p>
+ * The publications are pipelined: the pending publications are kept in a map sorted by sequence number, and a broker
+ * confirmation with the {@code multiple} flag settles all the pending publications up to its sequence number at once.
+ * <p>
+ * The confirm mode, the confirm listener and the sequence numbers are bound to a channel. When the client opens a new
+ * channel, it is switched to confirm mode before being used, and the publications pending on the previous channel
+ * are failed.
+ */
+public class RabbitMQConfirmPublisher {
+
+    private final RabbitMQClient client;
+    private volatile ChannelConfirms channel;
+
+    private RabbitMQConfirmPublisher(RabbitMQClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Enables the confirm mode on the channel of the given client, and on the channels it opens afterwards.
+     *
+     * @param client the connected client
+     * @return the publisher, once the confirm mode is enabled
+     */
+    public static Uni<RabbitMQConfirmPublisher> create(RabbitMQClient client) {
+        RabbitMQConfirmPublisher publisher = new RabbitMQConfirmPublisher(client);
+        client.getDelegate().addConnectionEstablishedCallback(promise -> publisher.enableConfirms()
+                .subscribe().with(x -> promise.complete(), promise::fail));
+        return publisher.enableConfirms()
+                .replaceWith(publisher);
+    }
+
+    private Uni<Void> enableConfirms() {
+        ChannelConfirms confirms = new ChannelConfirms();
+        return client.confirmSelect()
+                .chain(() -> client.addConfirmListener(Integer.MAX_VALUE))
+                .invoke(confirmations -> {
+                    confirmations
+                            .handler(confirms::confirmed)
+                            .exceptionHandler(confirms::failPending)
+                            .endHandler(() -> confirms.failPending(ex.illegalStateConnectionDisconnected()));
+                    ChannelConfirms previous = channel;
+                    channel = confirms;
+                    if (previous != null) {
+                        // The broker does not confirm the publications of a closed channel
+                        previous.failPending(ex.illegalStateConnectionDisconnected());
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    /**
+     * Publishes a message.
+     *
+     * @param exchange the exchange
+     * @param routingKey the routing key
+     * @param properties the message properties
+     * @param body the message body
+     * @return a {@link Uni} completed when the broker confirms the message, failed if the broker rejects it
+     */
+    public Uni<Void> publish(String exchange, String routingKey, BasicProperties properties, Buffer body) {
+        return Uni.createFrom().emitter(emitter -> {
+            AtomicLong sequenceNumber = new AtomicLong(-1);
+            ChannelConfirms confirms = channel;
+            client.basicPublishWithDeliveryTag(exchange, routingKey, properties, body, tag -> {
+                sequenceNumber.set(tag);
+                UniEmitter<? super Void> previous = confirms.pending.put(tag, emitter);
+                if (previous != null) {
+                    // The sequence numbers restarted on a recovered channel, the previous publication was lost
+                    previous.fail(ex.illegalStateConnectionDisconnected());
+                }
+            }).subscribe().with(x -> {
+                // completed on confirmation
+            }, failure -> {
+                long tag = sequenceNumber.get();
+                if (tag != -1) {
+                    confirms.pending.remove(tag, emitter);
+                }
+                emitter.fail(failure);
+            });
+        });
+    }
+
+    /**
+     * @return the number of publications waiting for their confirmation
+     */
+    public int pending() {
+        ChannelConfirms confirms = channel;
+        return confirms == null ? 0 : confirms.pending.size();
+    }
+
+    /**
+     * The publications waiting for the confirmation of a channel.
+     */
+    private static class ChannelConfirms {
+
+        private final ConcurrentSkipListMap<Long, UniEmitter<? super Void>> pending = new ConcurrentSkipListMap<>();
+
+        private void confirmed(RabbitMQConfirmation confirmation) {
+            List<Map.Entry<Long, UniEmitter<? super Void>>> settled = new ArrayList<>();
+            if (confirmation.isMultiple()) {
+                NavigableMap<Long, UniEmitter<? super Void>> confirmed = pending.headMap(confirmation.getDeliveryTag(),
+                        true);
+                for (Map.Entry<Long, UniEmitter<? super Void>> entry : confirmed.entrySet()) {
+                    if (confirmed.remove(entry.getKey(), entry.getValue())) {
+                        settled.add(entry);
+                    }
+                }
+            } else {
+                UniEmitter<? super Void> emitter = pending.remove(confirmation.getDeliveryTag());
+                if (emitter != null) {
+                    settled.add(new AbstractMap.SimpleImmutableEntry<>(confirmation.getDeliveryTag(), emitter));
+                }
+            }
+            for (Map.Entry<Long, UniEmitter<? super Void>> entry : settled) {
+                if (confirmation.isSucceeded()) {
+                    entry.getValue().complete(null);
+                } else {
+                    entry.getValue().fail(ex.illegalStateMessageNackedByBroker(entry.getKey()));
+                }
+            }
+        }
+
+        private void failPending(Throwable failure) {
+            for (Long tag : pending.keySet()) {
+                UniEmitter<? super Void> emitter = pending.remove(tag);
+                if (emitter != null) {
+                    emitter.fail(failure);
+                }
+            }
+        }
+    }
+}
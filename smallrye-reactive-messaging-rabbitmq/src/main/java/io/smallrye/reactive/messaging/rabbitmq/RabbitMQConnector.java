@@ -7,9 +7,14 @@ import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions.ex
 import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging.log;
 import static java.time.Duration.ofSeconds;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -50,6 +55,7 @@ import io.smallrye.reactive.messaging.rabbitmq.fault.RabbitMQFailStop;
 import io.smallrye.reactive.messaging.rabbitmq.fault.RabbitMQFailureHandler;
 import io.smallrye.reactive.messaging.rabbitmq.fault.RabbitMQReject;
 import io.smallrye.reactive.messaging.rabbitmq.tracing.TracingUtils;
+import io.vertx.core.Context;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.rabbitmq.RabbitMQClient;
@@ -120,10 +126,14 @@ import io.vertx.rabbitmq.RabbitMQPublisherOptions;
 @ConnectorAttribute(name = "auto-acknowledgement", direction = INCOMING, description = "Whether the received RabbitMQ messages must be acknowledged when received; if true then delivery constitutes acknowledgement", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "keep-most-recent", direction = INCOMING, description = "Whether to discard old messages instead of recent ones", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "routing-keys", direction = INCOMING, description = "A comma-separated list of routing keys to bind the queue to the exchange", type = "string", defaultValue = "#")
+@ConnectorAttribute(name = "prefetch-count", direction = INCOMING, description = "The maximum number of unacknowledged messages the broker delivers to each consumer (`basic.qos`). If not set, the number is unlimited", type = "int")
+@ConnectorAttribute(name = "ack-batch-size", direction = INCOMING, description = "The number of contiguous acknowledged messages sent to the broker with a single `basic.ack` using the `multiple` flag; 1 acknowledges each message individually. Relevant only if auto-acknowledgement is false", type = "int", defaultValue = "1")
+@ConnectorAttribute(name = "ack-batch-interval", direction = INCOMING, description = "The maximum time (ms) an acknowledgement is delayed when acknowledgements are batched. Relevant only if ack-batch-size is greater than 1", type = "long", defaultValue = "100")
 @ConnectorAttribute(name = "content-type-override", direction = INCOMING, description = "Override the content_type attribute of the incoming message, should be a valid MINE type", type = "string")
 
 // Message producer
 @ConnectorAttribute(name = "max-inflight-messages", direction = OUTGOING, description = "The maximum number of messages to be written to RabbitMQ concurrently; must be a positive number", type = "long", defaultValue = "1024")
+@ConnectorAttribute(name = "publish-confirms", direction = OUTGOING, description = "Whether to publish on a channel in confirm mode and acknowledge each message once the broker confirms it. The publications are pipelined, a broker confirmation with the `multiple` flag settles all the pending messages up to its sequence number", type = "boolean", defaultValue = "false")
 @ConnectorAttribute(name = "default-routing-key", direction = OUTGOING, description = "The default routing key to use when sending messages to the exchange", type = "string", defaultValue = "")
 @ConnectorAttribute(name = "default-ttl", direction = OUTGOING, description = "If specified, the time (ms) sent messages can remain in queues undelivered before they are dead", type = "long")
 
@@ -151,6 +161,14 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
     // The list of RabbitMQMessageSender's currently managed by this connector
     private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
 
+    // The connection holders of the incoming channels, flushing their batched acknowledgements on termination
+    private final List<ConnectionHolder> incomingHolders = new CopyOnWriteArrayList<>();
+
+    /**
+     * The maximum time to wait for the batched acknowledgements to be sent on termination.
+     */
+    static final Duration ACK_FLUSH_TIMEOUT = ofSeconds(10);
+
     @Inject
     ExecutionHolder executionHolder;
 
@@ -236,7 +254,10 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
                     // Create a client
                     final RabbitMQClient client = RabbitMQClientHelper.createClient(this, ic, clientOptions,
                             credentialsProviders);
-                    final ConnectionHolder holder = new ConnectionHolder(client, ic, getVertx());
+                    final ConnectionHolder holder = new ConnectionHolder(client, ic, getVertx(),
+                            Boolean.TRUE.equals(ic.getAutoAcknowledgement()) ? 1 : ic.getAckBatchSize(),
+                            ic.getAckBatchInterval());
+                    incomingHolders.add(holder);
                     // Ensure we set the queue up
                     Uni<RabbitMQClient> uniQueue = holder.getOrEstablishConnection()
                             // Once connected, ensure we create the queue from which messages are to be read
@@ -271,10 +292,26 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
     }
 
     private Uni<RabbitMQConsumer> createConsumer(RabbitMQConnectorIncomingConfiguration ic, RabbitMQClient client) {
-        return client.basicConsumer(ic.getQueueName(), new QueueOptions()
+        // The prefetch count must be set on the channel before consuming
+        Uni<Void> qos = ic.getPrefetchCount()
+                .map(count -> client.basicQos(count, false))
+                .orElseGet(() -> Uni.createFrom().voidItem());
+        return qos.chain(() -> client.basicConsumer(ic.getQueueName(), new QueueOptions()
                 .setAutoAck(ic.getAutoAcknowledgement())
                 .setMaxInternalQueueSize(ic.getMaxIncomingInternalQueueSize())
-                .setKeepMostRecent(ic.getKeepMostRecent()));
+                .setKeepMostRecent(ic.getKeepMostRecent())));
+    }
+
+    private <T> Uni<T> trackOutgoingStatus(Uni<T> sender, RabbitMQConnectorOutgoingConfiguration oc) {
+        return sender
+                .invoke(s -> {
+                    // Add the channel in the opened state
+                    outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.CONNECTED);
+                })
+                .onFailure().invoke(t -> outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED))
+                .onFailure().recoverWithNull()
+                .memoize().indefinitely()
+                .onCancellation().invoke(() -> outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED));
     }
 
     /**
@@ -339,30 +376,30 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
         final RabbitMQClient client = RabbitMQClientHelper.createClient(this, oc, clientOptions, credentialsProviders);
 
         final ConnectionHolder holder = new ConnectionHolder(client, oc, getVertx());
-        final Uni<RabbitMQPublisher> getSender = holder.getOrEstablishConnection()
-                // Once connected, ensure we create the exchange to which messages are to be sent
-                .onItem().call(connection -> establishExchange(connection, oc))
-                // Once exchange exists, create ourselves a publisher
-                .onItem().transformToUni(connection -> Uni.createFrom().item(RabbitMQPublisher.create(getVertx(), connection,
-                        new RabbitMQPublisherOptions()
-                                .setReconnectAttempts(oc.getReconnectAttempts())
-                                .setReconnectInterval(ofSeconds(oc.getReconnectInterval()).toMillis())
-                                .setMaxInternalQueueSize(oc.getMaxOutgoingInternalQueueSize().orElse(Integer.MAX_VALUE)))))
-                // Start the publisher
-                .onItem().call(RabbitMQPublisher::start)
-                .invoke(s -> {
-                    // Add the channel in the opened state
-                    outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.CONNECTED);
-                })
-                .onFailure().invoke(t -> outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED))
-                .onFailure().recoverWithNull()
-                .memoize().indefinitely()
-                .onCancellation().invoke(() -> outgoingChannelStatus.put(oc.getChannel(), ChannelStatus.NOT_CONNECTED));
-
-        // Set up a sender based on the publisher we established above
-        final RabbitMQMessageSender processor = new RabbitMQMessageSender(
-                oc,
-                getSender);
+        final RabbitMQMessageSender processor;
+        if (oc.getPublishConfirms()) {
+            final Uni<RabbitMQConfirmPublisher> getPublisher = holder.getOrEstablishConnection()
+                    // Once connected, ensure we create the exchange to which messages are to be sent
+                    .onItem().call(connection -> establishExchange(connection, oc))
+                    // Once exchange exists, switch the channel to confirm mode
+                    .onItem().transformToUni(RabbitMQConfirmPublisher::create);
+            processor = RabbitMQMessageSender.withPublisherConfirms(oc, trackOutgoingStatus(getPublisher, oc));
+        } else {
+            final Uni<RabbitMQPublisher> getSender = holder.getOrEstablishConnection()
+                    // Once connected, ensure we create the exchange to which messages are to be sent
+                    .onItem().call(connection -> establishExchange(connection, oc))
+                    // Once exchange exists, create ourselves a publisher
+                    .onItem().transformToUni(connection -> Uni.createFrom().item(
+                            RabbitMQPublisher.create(getVertx(), connection, new RabbitMQPublisherOptions()
+                                    .setReconnectAttempts(oc.getReconnectAttempts())
+                                    .setReconnectInterval(ofSeconds(oc.getReconnectInterval()).toMillis())
+                                    .setMaxInternalQueueSize(
+                                            oc.getMaxOutgoingInternalQueueSize().orElse(Integer.MAX_VALUE)))))
+                    // Start the publisher
+                    .onItem().call(RabbitMQPublisher::start);
+            // Set up a sender based on the publisher we established above
+            processor = new RabbitMQMessageSender(oc, trackOutgoingStatus(getSender, oc));
+        }
         subscriptions.add(processor);
 
         // Return a SubscriberBuilder
@@ -411,8 +448,31 @@ public class RabbitMQConnector implements IncomingConnectorFactory, OutgoingConn
     public void terminate(
             @SuppressWarnings("unused") @Observes(notifyObserver = Reception.IF_EXISTS) @Priority(50) @BeforeDestroyed(ApplicationScoped.class) Object ignored) {
         subscriptions.forEach(Subscription::cancel);
+        awaitPendingAcknowledgements();
         clients.forEach(RabbitMQClient::stopAndAwait);
         clients.clear();
+        incomingHolders.clear();
+    }
+
+    /**
+     * Sends the batched acknowledgements, and waits (with a timeout) for them to be written. Their messages have
+     * already been acknowledged, so they must not be redelivered once the clients are stopped.
+     */
+    private void awaitPendingAcknowledgements() {
+        CompletableFuture<?>[] flushed = incomingHolders.stream()
+                .map(holder -> holder.flushAcknowledgements().toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        if (flushed.length == 0 || Context.isOnEventLoopThread()) {
+            // cannot block an event loop, the acknowledgements are sent on a best effort basis
+            return;
+        }
+        try {
+            CompletableFuture.allOf(flushed).get(ACK_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.unableToSendPendingAcknowledgements(e);
+        }
     }
 
     public Vertx getVertx() {
@@ -14,11 +14,14 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import com.rabbitmq.client.BasicProperties;
+
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.tuples.Tuple2;
 import io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQExceptions;
 import io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging;
+import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.rabbitmq.RabbitMQPublisher;
 
 /**
@@ -27,7 +30,7 @@ import io.vertx.mutiny.rabbitmq.RabbitMQPublisher;
  */
 public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>, Subscription {
 
-    private final Uni<RabbitMQPublisher> retrieveSender;
+    private final Uni<PublishFunction> retrieveSender;
     private final RabbitMQConnectorOutgoingConfiguration configuration;
 
     private final AtomicReference<Subscription> upstream = new AtomicReference<>();
@@ -47,6 +50,26 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     public RabbitMQMessageSender(
             final RabbitMQConnectorOutgoingConfiguration oc,
             final Uni<RabbitMQPublisher> retrieveSender) {
+        this(retrieveSender.onItem().ifNotNull().transform(publisher -> publisher::publish), oc);
+    }
+
+    /**
+     * Creates a sender publishing with publisher confirms: each message is acknowledged once the broker confirms it.
+     *
+     * @param oc the configuration parameters for outgoing messages
+     * @param retrievePublisher the publisher using a channel in confirm mode
+     * @return the sender
+     */
+    public static RabbitMQMessageSender withPublisherConfirms(
+            final RabbitMQConnectorOutgoingConfiguration oc,
+            final Uni<RabbitMQConfirmPublisher> retrievePublisher) {
+        return new RabbitMQMessageSender(retrievePublisher.onItem().ifNotNull().transform(publisher -> publisher::publish),
+                oc);
+    }
+
+    private RabbitMQMessageSender(
+            final Uni<PublishFunction> retrieveSender,
+            final RabbitMQConnectorOutgoingConfiguration oc) {
         this.retrieveSender = retrieveSender;
         this.configuration = oc;
         this.configuredExchange = oc.getExchangeName().orElseGet(oc::getChannel);
@@ -240,7 +263,7 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
     /* ----------------------------------------------------- */
 
     private Uni<Message<?>> send(
-            final RabbitMQPublisher publisher,
+            final PublishFunction publisher,
             final Message<?> msg,
             final String exchange,
             final RabbitMQConnectorOutgoingConfiguration configuration) {
@@ -267,6 +290,14 @@ public class RabbitMQMessageSender implements Processor<Message<?>, Message<?>>,
                 .onItem().transform(x -> msg);
     }
 
+    /**
+     * Publishes a message, the returned {@link Uni} completes when the message has been written, or confirmed.
+     */
+    @FunctionalInterface
+    private interface PublishFunction {
+        Uni<Void> publish(String exchange, String routingKey, BasicProperties properties, Buffer body);
+    }
+
     private boolean isCancelled() {
         final Subscription subscription = upstream.get();
         return subscription == Subscriptions.CANCELLED || subscription == null;
@@ -0,0 +1,174 @@
+package io.smallrye.reactive.messaging.rabbitmq.ack;
+
+import static io.smallrye.reactive.messaging.rabbitmq.i18n.RabbitMQLogging.log;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Coalesces the acknowledgements of a RabbitMQ channel.
+ * <p>
+ * The delivery tags of a channel are consecutive, so acknowledging a tag with the {@code multiple} flag acknowledges
+ * every previous tag. The coalescer tracks the highest tag below which all the deliveries have been acknowledged, and
+ * sends a single {@code basic.ack(tag, multiple = true)} once {@code batchSize} contiguous deliveries are
+ * acknowledged, or {@code interval} milliseconds after the first pending acknowledgement.
+ * Acknowledgements received out of order wait for the missing deliveries to be settled.
+ * <p>
+ * Negative acknowledgements are not delayed. A nacked delivery is settled once its {@code basic.nack} has been
+ * written, and does not prevent the following acknowledgements from being coalesced.
+ * <p>
+ * The delivery tags restart at 1 on each channel, so the state must be {@link #reset() reset} when a new channel is
+ * opened. Each reset starts a new generation; the settlements of deliveries received in a previous generation are
+ * ignored, as the broker redelivers the unacknowledged messages of a closed channel.
+ */
+public class RabbitMQAckCoalescer {
+
+    private final Vertx vertx;
+    private final int batchSize;
+    private final long interval;
+    private final Function<Long, Uni<Void>> ackMultiple;
+
+    // highest tag sent to the broker
+    private long acknowledged;
+    // highest tag below which all the deliveries are settled
+    private long contiguous;
+    // highest acknowledged tag below contiguous, the broker rejects a multiple ack on an already settled tag
+    private long highestAck;
+    // settled tags above contiguous + 1, mapped to whether they were acknowledged
+    private final Map<Long, Boolean> settled = new HashMap<>();
+    private long timer = -1;
+    private long generation;
+
+    /**
+     * @param vertx the Vert.x instance used to schedule the delayed acknowledgements
+     * @param batchSize the number of contiguous acknowledgements sent in a single frame
+     * @param interval the maximum delay (ms) of an acknowledgement
+     * @param ackMultiple the function acknowledging all the deliveries up to the given tag
+     */
+    public RabbitMQAckCoalescer(Vertx vertx, int batchSize, long interval, Function<Long, Uni<Void>> ackMultiple) {
+        this.vertx = vertx;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.ackMultiple = ackMultiple;
+    }
+
+    /**
+     * @return the current generation, to pass to {@link #ack(long, long)} and {@link #nacked(long, long)} for the
+     *         deliveries received from now on
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Forgets the settled deliveries and the pending acknowledgements, and starts a new generation. To be called when
+     * a new channel is opened.
+     */
+    public synchronized void reset() {
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            timer = -1;
+        }
+        settled.clear();
+        acknowledged = 0;
+        contiguous = 0;
+        highestAck = 0;
+        generation++;
+    }
+
+    /**
+     * Records the acknowledgement of a delivery.
+     *
+     * @param generation the generation at the reception of the delivery
+     * @param deliveryTag the delivery tag
+     */
+    public synchronized void ack(long generation, long deliveryTag) {
+        if (generation != this.generation) {
+            // received on a closed channel
+            return;
+        }
+        settle(deliveryTag, true);
+        if (highestAck - acknowledged >= batchSize) {
+            flush();
+        } else if (highestAck > acknowledged) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Records the negative acknowledgement of a delivery, sent individually by the caller. Must be called once the
+     * {@code basic.nack} has been written, otherwise a multiple acknowledgement may settle the delivery first.
+     *
+     * @param generation the generation at the reception of the delivery
+     * @param deliveryTag the delivery tag
+     */
+    public synchronized void nacked(long generation, long deliveryTag) {
+        if (generation == this.generation) {
+            settle(deliveryTag, false);
+        }
+    }
+
+    private void settle(long deliveryTag, boolean ack) {
+        if (deliveryTag <= contiguous) {
+            // already settled
+            return;
+        }
+        if (deliveryTag == contiguous + 1) {
+            contiguous = deliveryTag;
+            if (ack) {
+                highestAck = deliveryTag;
+            }
+            Boolean next;
+            while ((next = settled.remove(contiguous + 1)) != null) {
+                contiguous++;
+                if (next) {
+                    highestAck = contiguous;
+                }
+            }
+        } else {
+            settled.put(deliveryTag, ack);
+        }
+    }
+
+    /**
+     * Sends the pending acknowledgements.
+     *
+     * @return a stage completed once the {@code basic.ack} covering the pending acknowledgements has been written, or
+     *         immediately if there is none
+     */
+    public synchronized CompletionStage<Void> flush() {
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            timer = -1;
+        }
+        if (highestAck > acknowledged) {
+            long tag = highestAck;
+            acknowledged = tag;
+            return ackMultiple.apply(tag)
+                    .onFailure().invoke(log::unableToAcknowledge)
+                    .subscribeAsCompletionStage();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void scheduleFlush() {
+        if (timer == -1) {
+            timer = vertx.setTimer(interval, id -> {
+                synchronized (this) {
+                    timer = -1;
+                }
+                flush();
+            });
+        }
+    }
+
+    synchronized long acknowledged() {
+        return acknowledged;
+    }
+}
@@ -41,4 +41,7 @@ public interface RabbitMQExceptions {
 
     @Message(id = 16009, value = "Unable to create a client, probably a config error")
     IllegalStateException illegalStateUnableToCreateClient(@Cause Throwable t);
+
+    @Message(id = 16010, value = "The broker rejected the message published with sequence number %d")
+    IllegalStateException illegalStateMessageNackedByBroker(long sequenceNumber);
 }
@@ -125,4 +125,12 @@ public interface RabbitMQLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 17038, value = "No valid content_type set, failing back to byte[]. If that's wanted, set the content type to application/octet-stream with \"content-type-override\"")
     void typeConversionFallback();
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 17039, value = "Unable to acknowledge messages")
+    void unableToAcknowledge(@Cause Throwable t);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 17040, value = "Unable to send the pending acknowledgements before stopping the RabbitMQ clients")
+    void unableToSendPendingAcknowledgements(@Cause Throwable t);
 }
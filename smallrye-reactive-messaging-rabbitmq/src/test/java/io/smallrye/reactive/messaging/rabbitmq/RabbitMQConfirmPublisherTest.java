@@ -0,0 +1,192 @@
+package io.smallrye.reactive.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rabbitmq.client.AMQP;
+
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConfirmation;
+
+class RabbitMQConfirmPublisherTest {
+
+    private final AtomicInteger confirmSelects = new AtomicInteger();
+    private final List<ConfirmationStream> listeners = new ArrayList<>();
+    private final List<Handler<Promise<Void>>> connectionCallbacks = new ArrayList<>();
+    // sequence numbers of the current channel
+    private final AtomicLong sequence = new AtomicLong();
+    private RabbitMQClient client;
+
+    @BeforeEach
+    void init() {
+        io.vertx.rabbitmq.RabbitMQClient delegate = (io.vertx.rabbitmq.RabbitMQClient) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { io.vertx.rabbitmq.RabbitMQClient.class },
+                (proxy, method, args) -> {
+                    Object result;
+                    switch (method.getName()) {
+                        case "addConnectionEstablishedCallback":
+                            connectionCallbacks.add(uncheckedCast(args[0]));
+                            return null;
+                        case "confirmSelect":
+                            confirmSelects.incrementAndGet();
+                            result = null;
+                            break;
+                        case "addConfirmListener":
+                            ConfirmationStream stream = new ConfirmationStream();
+                            listeners.add(stream);
+                            result = stream;
+                            break;
+                        case "basicPublishWithDeliveryTag":
+                            Handler<Long> tagHandler = uncheckedCast(args[4]);
+                            tagHandler.handle(sequence.incrementAndGet());
+                            // the message is written to the channel
+                            result = null;
+                            break;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                    Object last = args == null ? null : args[args.length - 1];
+                    if (method.getReturnType() == void.class && last instanceof Handler) {
+                        Handler<AsyncResult<Object>> handler = uncheckedCast(last);
+                        handler.handle(Future.succeededFuture(result));
+                        return null;
+                    }
+                    return Future.succeededFuture(result);
+                });
+        client = new RabbitMQClient(delegate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T uncheckedCast(Object o) {
+        return (T) o;
+    }
+
+    private UniAssertSubscriber<Void> publish(RabbitMQConfirmPublisher publisher) {
+        return publisher.publish("exchange", "key", new AMQP.BasicProperties(), Buffer.buffer("hello"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    private void confirm(long tag, boolean multiple, boolean succeeded) {
+        listeners.get(listeners.size() - 1).emit(new RabbitMQConfirmation(1, tag, multiple, succeeded));
+    }
+
+    private void newChannel() {
+        sequence.set(0);
+        for (Handler<Promise<Void>> callback : connectionCallbacks) {
+            Promise<Void> promise = Promise.promise();
+            callback.handle(promise);
+            assertThat(promise.future().succeeded()).isTrue();
+        }
+    }
+
+    @Test
+    void testPublicationCompletesOnConfirmationOnly() {
+        RabbitMQConfirmPublisher publisher = RabbitMQConfirmPublisher.create(client).await().indefinitely();
+        assertThat(confirmSelects).hasValue(1);
+
+        UniAssertSubscriber<Void> first = publish(publisher);
+        UniAssertSubscriber<Void> second = publish(publisher);
+        UniAssertSubscriber<Void> third = publish(publisher);
+
+        // written to the channel, but not confirmed yet
+        first.assertNotTerminated();
+        assertThat(publisher.pending()).isEqualTo(3);
+
+        confirm(1, false, true);
+        first.assertCompleted();
+        second.assertNotTerminated();
+
+        confirm(3, true, true);
+        second.assertCompleted();
+        third.assertCompleted();
+        assertThat(publisher.pending()).isZero();
+    }
+
+    @Test
+    void testNackReportsTheSequenceNumberOfEachPublication() {
+        RabbitMQConfirmPublisher publisher = RabbitMQConfirmPublisher.create(client).await().indefinitely();
+
+        UniAssertSubscriber<Void> first = publish(publisher);
+        UniAssertSubscriber<Void> second = publish(publisher);
+
+        confirm(2, true, false);
+        first.assertFailedWith(IllegalStateException.class, "sequence number 1");
+        second.assertFailedWith(IllegalStateException.class, "sequence number 2");
+    }
+
+    @Test
+    void testConfirmModeIsEnabledOnNewChannels() {
+        RabbitMQConfirmPublisher publisher = RabbitMQConfirmPublisher.create(client).await().indefinitely();
+        UniAssertSubscriber<Void> lost = publish(publisher);
+
+        newChannel();
+        assertThat(confirmSelects).hasValue(2);
+        assertThat(listeners).hasSize(2);
+        // the publications of the closed channel are never confirmed
+        lost.assertFailedWith(IllegalStateException.class, "disconnected");
+
+        UniAssertSubscriber<Void> published = publish(publisher);
+        published.assertNotTerminated();
+        confirm(1, false, true);
+        published.assertCompleted();
+    }
+
+    private static class ConfirmationStream implements ReadStream<RabbitMQConfirmation> {
+
+        private Handler<RabbitMQConfirmation> handler;
+
+        void emit(RabbitMQConfirmation confirmation) {
+            handler.handle(confirmation);
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> handler(Handler<RabbitMQConfirmation> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> pause() {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> resume() {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> fetch(long amount) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<RabbitMQConfirmation> endHandler(Handler<Void> endHandler) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.smallrye.reactive.messaging.rabbitmq.ack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+class RabbitMQAckCoalescerTest {
+
+    private Vertx vertx;
+    private final List<Long> acks = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void init() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    void cleanup() {
+        vertx.closeAndAwait();
+    }
+
+    private RabbitMQAckCoalescer coalescer(int batchSize, long interval) {
+        return new RabbitMQAckCoalescer(vertx, batchSize, interval, tag -> {
+            acks.add(tag);
+            return Uni.createFrom().voidItem();
+        });
+    }
+
+    @Test
+    void testBatchSize() {
+        RabbitMQAckCoalescer coalescer = coalescer(3, 60_000);
+        for (long tag = 1; tag <= 7; tag++) {
+            coalescer.ack(0, tag);
+        }
+        assertThat(acks).containsExactly(3L, 6L);
+        coalescer.flush();
+        assertThat(acks).containsExactly(3L, 6L, 7L);
+    }
+
+    @Test
+    void testFlushCompletesOnceTheAckIsWritten() {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        RabbitMQAckCoalescer coalescer = new RabbitMQAckCoalescer(vertx, 100, 60_000, tag -> {
+            acks.add(tag);
+            return Uni.createFrom().completionStage(written);
+        });
+        assertThat(coalescer.flush().toCompletableFuture()).isCompleted();
+
+        coalescer.ack(0, 1);
+        coalescer.ack(0, 2);
+        CompletableFuture<Void> flushed = coalescer.flush().toCompletableFuture();
+        assertThat(acks).containsExactly(2L);
+        assertThat(flushed).isNotDone();
+
+        written.complete(null);
+        assertThat(flushed).isCompleted();
+    }
+
+    @Test
+    void testInterval() {
+        RabbitMQAckCoalescer coalescer = coalescer(100, 10);
+        coalescer.ack(0, 1);
+        coalescer.ack(0, 2);
+        await().until(() -> acks.size() == 1);
+        assertThat(acks).containsExactly(2L);
+        assertThat(coalescer.acknowledged()).isEqualTo(2L);
+    }
+
+    @Test
+    void testOutOfOrderAcknowledgements() {
+        RabbitMQAckCoalescer coalescer = coalescer(3, 60_000);
+        coalescer.ack(0, 2);
+        coalescer.ack(0, 3);
+        coalescer.ack(0, 4);
+        coalescer.flush();
+        // 1 is not acknowledged yet
+        assertThat(acks).isEmpty();
+
+        coalescer.ack(0, 1);
+        assertThat(acks).containsExactly(4L);
+    }
+
+    @Test
+    void testNackedDeliveries() {
+        RabbitMQAckCoalescer coalescer = coalescer(10, 60_000);
+        coalescer.ack(0, 1);
+        coalescer.ack(0, 2);
+        coalescer.nacked(0, 3);
+        coalescer.flush();
+        // the multiple ack must not use the nacked tag
+        assertThat(acks).containsExactly(2L);
+
+        coalescer.nacked(0, 4);
+        coalescer.flush();
+        assertThat(acks).containsExactly(2L);
+
+        coalescer.ack(0, 6);
+        coalescer.ack(0, 5);
+        coalescer.flush();
+        assertThat(acks).containsExactly(2L, 6L);
+    }
+
+    @Test
+    void testResetOnNewChannel() {
+        RabbitMQAckCoalescer coalescer = coalescer(2, 60_000);
+        long previous = coalescer.generation();
+        for (long tag = 1; tag <= 5; tag++) {
+            coalescer.ack(previous, tag);
+        }
+        assertThat(acks).containsExactly(2L, 4L);
+
+        // new channel, the delivery tags restart at 1
+        coalescer.reset();
+        long generation = coalescer.generation();
+        coalescer.ack(generation, 1);
+        coalescer.ack(generation, 2);
+        assertThat(acks).containsExactly(2L, 4L, 2L);
+
+        // deliveries of the closed channel are ignored
+        coalescer.ack(previous, 3);
+        coalescer.nacked(previous, 4);
+        coalescer.flush();
+        assertThat(acks).containsExactly(2L, 4L, 2L);
+
+        coalescer.ack(generation, 3);
+        coalescer.flush();
+        assertThat(acks).containsExactly(2L, 4L, 2L, 3L);
+    }
+}